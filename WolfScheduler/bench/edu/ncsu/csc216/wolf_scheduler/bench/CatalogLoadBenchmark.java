@@ -0,0 +1,63 @@
+package edu.ncsu.csc216.wolf_scheduler.bench;
+
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Times CourseRecordIO.readCourseRecords(), readCourseRecordsMapped() and
+ * readCourseRecordsParallel() over catalogs from 1k to 1M lines. The time per
+ * line should stay about the same as the catalog grows.
+ * 
+ * @author Kevin John
+ */
+public class CatalogLoadBenchmark {
+
+	/** catalog sizes to measure */
+	private static final int[] SIZES = { 1000, 10000, 100000, 1000000 };
+
+	/**
+	 * Runs the benchmark and prints the load time for each size.
+	 * 
+	 * @param args not used
+	 * @throws Exception if a catalog cannot be written or read
+	 */
+	public static void main(String[] args) throws Exception {
+		// warm up before timing
+		String warmUp = SyntheticCatalog.write(SIZES[1]);
+		CourseRecordIO.readCourseRecords(warmUp);
+		CourseRecordIO.readCourseRecordsMapped(warmUp);
+		CourseRecordIO.readCourseRecordsParallel(warmUp);
+		for (int size : SIZES) {
+			String fileName = SyntheticCatalog.write(size);
+			long start = System.nanoTime();
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(fileName);
+			long elapsed = System.nanoTime() - start;
+			print("scanner", size, elapsed, courses.size());
+
+			start = System.nanoTime();
+			courses = CourseRecordIO.readCourseRecordsMapped(fileName);
+			elapsed = System.nanoTime() - start;
+			print("mapped", size, elapsed, courses.size());
+
+			start = System.nanoTime();
+			courses = CourseRecordIO.readCourseRecordsParallel(fileName);
+			elapsed = System.nanoTime() - start;
+			print("parallel", size, elapsed, courses.size());
+		}
+	}
+
+	/**
+	 * Prints one result line.
+	 * 
+	 * @param mode    which loader was timed
+	 * @param size    number of lines in the catalog
+	 * @param elapsed time taken in nanoseconds
+	 * @param courses number of courses loaded
+	 */
+	private static void print(String mode, int size, long elapsed, int courses) {
+		System.out.printf("%-8s %8d lines: %8.1f ms, %6.0f ns/line (%d courses)%n", mode, size,
+				elapsed / 1e6, (double) elapsed / size, courses);
+	}
+}
@@ -0,0 +1,57 @@
+package edu.ncsu.csc216.wolf_scheduler.bench;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Times WolfScheduler.getCourseFromCatalog() over catalogs of increasing size.
+ * The time per lookup should stay about the same as the catalog grows.
+ * 
+ * @author Kevin John
+ */
+public class CatalogLookupBenchmark {
+
+	/** catalog sizes to measure */
+	private static final int[] SIZES = { 1000, 10000, 100000 };
+	/** lookups timed for each catalog size */
+	private static final int LOOKUPS = 1000000;
+
+	/**
+	 * Runs the benchmark and prints the average time per lookup for each size.
+	 * 
+	 * @param args not used
+	 * @throws Exception if a catalog cannot be written
+	 */
+	public static void main(String[] args) throws Exception {
+		for (int size : SIZES) {
+			WolfScheduler scheduler = new WolfScheduler(SyntheticCatalog.write(size));
+			String[][] keys = new String[size][];
+			for (int i = 0; i < size; i++) {
+				keys[i] = SyntheticCatalog.nameAndSection(i);
+			}
+			// warm up before timing
+			int found = lookup(scheduler, keys);
+			long start = System.nanoTime();
+			found += lookup(scheduler, keys);
+			long elapsed = System.nanoTime() - start;
+			System.out.printf("%8d courses: %6.1f ns/lookup (%d found)%n", size, (double) elapsed / LOOKUPS, found);
+		}
+	}
+
+	/**
+	 * Looks up courses spread across the whole catalog.
+	 * 
+	 * @param scheduler scheduler to search
+	 * @param keys      name and section of every course in the catalog
+	 * @return how many of the lookups found a course
+	 */
+	private static int lookup(WolfScheduler scheduler, String[][] keys) {
+		int found = 0;
+		for (int i = 0; i < LOOKUPS; i++) {
+			String[] key = keys[(int) ((i * 7919L) % keys.length)];
+			if (scheduler.getCourseFromCatalog(key[0], key[1]) != null) {
+				found++;
+			}
+		}
+		return found;
+	}
+}
@@ -0,0 +1,87 @@
+package edu.ncsu.csc216.wolf_scheduler.bench;
+
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Compares the heap used by many WolfScheduler sessions that each load their
+ * own catalog with sessions that share one CourseCatalog.
+ * 
+ * @author Kevin John
+ */
+public class SessionHeapBenchmark {
+
+	/** courses in the catalog */
+	private static final int CATALOG_SIZE = 10000;
+	/** sessions that load their own catalog */
+	private static final int SESSIONS = 200;
+	/** courses each session adds to its schedule */
+	private static final int COURSES_PER_SESSION = 6;
+
+	/**
+	 * Runs the benchmark and prints the heap used each way.
+	 * 
+	 * @param args not used
+	 * @throws Exception if the catalog cannot be written
+	 */
+	public static void main(String[] args) throws Exception {
+		String fileName = SyntheticCatalog.write(CATALOG_SIZE);
+		long base = usedHeap();
+
+		ArrayList<WolfScheduler> sessions = new ArrayList<WolfScheduler>();
+		for (int i = 0; i < SESSIONS; i++) {
+			sessions.add(addCourses(new WolfScheduler(fileName), i));
+		}
+		long separate = usedHeap() - base;
+		sessions.clear();
+		base = usedHeap();
+
+		CourseCatalog catalog = new CourseCatalog(fileName);
+		for (int i = 0; i < SESSIONS; i++) {
+			sessions.add(addCourses(new WolfScheduler(catalog), i));
+		}
+		long shared = usedHeap() - base;
+
+		System.out.printf("%d sessions, %d courses%n", sessions.size(), CATALOG_SIZE);
+		System.out.printf("  own catalog:    %8.1f MB (%.1f KB per session)%n", separate / 1e6,
+				separate / 1e3 / SESSIONS);
+		System.out.printf("  shared catalog: %8.1f MB (%.1f KB per session)%n", shared / 1e6,
+				shared / 1e3 / SESSIONS);
+	}
+
+	/**
+	 * Adds a few courses to a session's schedule.
+	 * 
+	 * @param scheduler session
+	 * @param session   session number, used to pick the courses
+	 * @return the session
+	 */
+	private static WolfScheduler addCourses(WolfScheduler scheduler, int session) {
+		for (int c = 0; c < COURSES_PER_SESSION; c++) {
+			String[] key = SyntheticCatalog.nameAndSection((session * 37 + c * 1009) % CATALOG_SIZE);
+			try {
+				scheduler.addCourseToSchedule(key[0], key[1]);
+			} catch (IllegalArgumentException e) {
+				// already enrolled in that course
+			}
+		}
+		return scheduler;
+	}
+
+	/**
+	 * Returns the heap in use after asking for a few garbage collections.
+	 * 
+	 * @return bytes in use
+	 * @throws InterruptedException if interrupted while waiting for the collector
+	 */
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 4; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,44 @@
+package edu.ncsu.csc216.wolf_scheduler.bench;
+
+import java.io.File;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Times building a WolfScheduler from a 100k section text catalog and from a
+ * snapshot of the same catalog.
+ * 
+ * @author Kevin John
+ */
+public class SnapshotLoadBenchmark {
+
+	/** sections in the catalog */
+	private static final int SIZE = 100000;
+	/** timed loads of each kind */
+	private static final int RUNS = 5;
+
+	/**
+	 * Runs the benchmark and prints the time for each load.
+	 * 
+	 * @param args not used
+	 * @throws Exception if a file cannot be written
+	 */
+	public static void main(String[] args) throws Exception {
+		String textFile = SyntheticCatalog.write(SIZE);
+		File snapshot = File.createTempFile("catalog-" + SIZE + "-", ".dat");
+		snapshot.deleteOnExit();
+		new WolfScheduler(textFile).exportCatalogSnapshot(snapshot.getAbsolutePath());
+
+		for (int i = 0; i < RUNS; i++) {
+			long start = System.nanoTime();
+			WolfScheduler fromText = new WolfScheduler(textFile);
+			long textTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			WolfScheduler fromSnapshot = new WolfScheduler(snapshot.getAbsolutePath());
+			long snapshotTime = System.nanoTime() - start;
+			System.out.printf("run %d: text %7.1f ms (%d courses), snapshot %6.1f ms (%d courses)%n", i + 1,
+					textTime / 1e6, fromText.getCourseCatalog().length, snapshotTime / 1e6, fromSnapshot.getCourseCatalog().length);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package edu.ncsu.csc216.wolf_scheduler.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Writes catalog files of a given size for the benchmarks. Every line is a
+ * valid course record with a unique name and section, so the number of courses
+ * loaded matches the number of lines written.
+ * 
+ * @author Kevin John
+ */
+public class SyntheticCatalog {
+
+	/** sections written for each course name */
+	private static final int SECTIONS_PER_COURSE = 10;
+	/** course numbers available for each department (100 to 999) */
+	private static final int NUMBERS_PER_DEPARTMENT = 900;
+	/** meeting days and times that the generated courses rotate through */
+	private static final String[] MEETINGS = { "MW,830,945", "TH,1030,1145", "MWF,1200,1250", "A", "M,1500,1650",
+			"TH,1330,1445" };
+
+	/**
+	 * Returns the course name used for the given course number.
+	 * 
+	 * @param course course number, starting at 0
+	 * @return a valid course name such as "AB 123"
+	 */
+	public static String courseName(int course) {
+		return department(course / NUMBERS_PER_DEPARTMENT) + " " + (100 + course % NUMBERS_PER_DEPARTMENT);
+	}
+
+	/**
+	 * Returns the section used for the given section number.
+	 * 
+	 * @param section section number, starting at 0
+	 * @return a three digit section
+	 */
+	public static String sectionName(int section) {
+		return String.format("%03d", section + 1);
+	}
+
+	/**
+	 * Returns the name and section of the course on the given line.
+	 * 
+	 * @param line line number, starting at 0
+	 * @return an array holding the course name and section
+	 */
+	public static String[] nameAndSection(int line) {
+		return new String[] { courseName(line / SECTIONS_PER_COURSE), sectionName(line % SECTIONS_PER_COURSE) };
+	}
+
+	/**
+	 * Writes a catalog with the given number of lines to a temporary file that is
+	 * deleted when the JVM exits.
+	 * 
+	 * @param lines number of course records to write
+	 * @return the file name of the catalog
+	 * @throws IOException if the file cannot be written
+	 */
+	public static String write(int lines) throws IOException {
+		File file = File.createTempFile("catalog-" + lines + "-", ".txt");
+		file.deleteOnExit();
+		PrintStream out = new PrintStream(file);
+		for (int i = 0; i < lines; i++) {
+			String[] key = nameAndSection(i);
+			out.println(key[0] + ",Synthetic Course " + i + "," + key[1] + "," + (1 + i % 4) + ",inst" + (i % 500)
+					+ "," + MEETINGS[i % MEETINGS.length]);
+		}
+		out.close();
+		return file.getAbsolutePath();
+	}
+
+	/**
+	 * Converts a department number into an upper case prefix of one to four
+	 * letters.
+	 * 
+	 * @param department department number, starting at 0
+	 * @return the department prefix
+	 */
+	private static String department(int department) {
+		StringBuilder prefix = new StringBuilder();
+		int n = department;
+		do {
+			prefix.insert(0, (char) ('A' + n % 26));
+			n = n / 26 - 1;
+		} while (n >= 0);
+		return prefix.toString();
+	}
+}
@@ -0,0 +1,152 @@
+package edu.ncsu.csc216.wolf_scheduler.bench;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Replays an operation trace written by WorkloadGenerator against a
+ * WolfScheduler. The trace is read into memory first so that replaying it only
+ * measures the scheduler.
+ *
+ * @author Kevin John
+ */
+public class TraceReplayer {
+
+	/**
+	 * Reads a trace, splitting each line into its fields.
+	 *
+	 * @param fileName trace file
+	 * @return the operations in the trace
+	 * @throws IOException if the file cannot be read
+	 */
+	public static ArrayList<String[]> readTrace(String fileName) throws IOException {
+		ArrayList<String[]> operations = new ArrayList<String[]>();
+		BufferedReader in = new BufferedReader(new FileReader(fileName), 1 << 16);
+		String line = in.readLine();
+		while (line != null) {
+			operations.add(line.split(",", -1));
+			line = in.readLine();
+		}
+		in.close();
+		return operations;
+	}
+
+	/**
+	 * Runs each operation against the scheduler. An operation fails if the
+	 * scheduler returns false or throws an IllegalArgumentException. Each
+	 * operation is checked before it runs, so a malformed trace is never mistaken
+	 * for an operation the scheduler rejected.
+	 *
+	 * @param scheduler  scheduler to run the operations on
+	 * @param operations operations from readTrace()
+	 * @return the number of operations that succeeded and the number that failed
+	 * @throws IllegalArgumentException if an operation isn't one of add, remove,
+	 *                                  event, or reset, or doesn't have the fields
+	 *                                  it needs
+	 */
+	public static int[] replay(WolfScheduler scheduler, ArrayList<String[]> operations) {
+		int succeeded = 0;
+		int failed = 0;
+		for (int i = 0; i < operations.size(); i++) {
+			String[] op = operations.get(i);
+			if (!isOperation(op)) {
+				throw new IllegalArgumentException("Invalid operation on line " + (i + 1) + ".");
+			}
+			boolean ok;
+			try {
+				switch (op[0]) {
+				case "add":
+					ok = scheduler.addCourseToSchedule(op[1], op[2]);
+					break;
+				case "remove":
+					ok = scheduler.removeActivityFromSchedule(Integer.parseInt(op[1]));
+					break;
+				case "event":
+					scheduler.addEventToSchedule(op[1], op[2], Integer.parseInt(op[3]), Integer.parseInt(op[4]), op[5]);
+					ok = true;
+					break;
+				default:
+					// reset, the only operation left after isOperation()
+					scheduler.resetSchedule();
+					ok = true;
+					break;
+				}
+			} catch (IllegalArgumentException e) {
+				ok = false;
+			}
+			if (ok) {
+				succeeded++;
+			} else {
+				failed++;
+			}
+		}
+		return new int[] { succeeded, failed };
+	}
+
+	/**
+	 * Checks that an operation is one of add, remove, event, or reset, with the
+	 * number of fields it needs and numbers where it needs them.
+	 *
+	 * @param op fields of the operation
+	 * @return true if the operation can be run
+	 */
+	private static boolean isOperation(String[] op) {
+		switch (op[0]) {
+		case "add":
+			return op.length == 3;
+		case "remove":
+			return op.length == 2 && isNumber(op[1]);
+		case "event":
+			return op.length == 6 && isNumber(op[3]) && isNumber(op[4]);
+		case "reset":
+			return op.length == 1;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Checks that a field is a whole number.
+	 *
+	 * @param field field to check
+	 * @return true if the field can be parsed as an int
+	 */
+	private static boolean isNumber(String field) {
+		try {
+			Integer.parseInt(field);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Loads a catalog, replays a trace against it, and prints how long it took.
+	 *
+	 * Arguments: catalogFile traceFile
+	 *
+	 * @param args command line arguments
+	 * @throws IOException if the trace cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.out.println("Usage: TraceReplayer catalogFile traceFile");
+			return;
+		}
+		long start = System.nanoTime();
+		WolfScheduler scheduler = new WolfScheduler(args[0]);
+		long loaded = System.nanoTime();
+		ArrayList<String[]> operations = readTrace(args[1]);
+		long read = System.nanoTime();
+		int[] results = replay(scheduler, operations);
+		long replayed = System.nanoTime();
+		System.out.printf("catalog: %d courses in %.1f ms%n", scheduler.getCourseCatalog().length,
+				(loaded - start) / 1e6);
+		System.out.printf("trace: %d operations read in %.1f ms, replayed in %.1f ms (%d ok, %d failed)%n",
+				operations.size(), (read - loaded) / 1e6, (replayed - read) / 1e6, results[0], results[1]);
+	}
+}
@@ -0,0 +1,497 @@
+package edu.ncsu.csc216.wolf_scheduler.bench;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Writes large, realistic catalog files and matching operation traces for load
+ * testing WolfScheduler. The output depends only on the seed and the sizes
+ * asked for, so the same arguments always give the same files.
+ *
+ * The catalog is in the CourseRecordIO format. Departments, section counts,
+ * credits, meeting patterns and start times follow weighted distributions that
+ * look like a real course catalog. Once a department runs out of course numbers
+ * it is replaced by a generated one, so catalogs can grow to millions of lines.
+ * A given percent of the lines are deliberately invalid copies of the line
+ * before them, broken in the same ways as invalid_course_records.txt, plus blank
+ * lines and repeated names and sections. Every valid line has a name and section
+ * of its own.
+ *
+ * A trace has one operation per line and is replayed by TraceReplayer:
+ *
+ * <pre>
+ * add,name,section
+ * remove,index
+ * event,title,meetingDays,startTime,endTime,details
+ * reset
+ * </pre>
+ *
+ * The generator keeps its own copy of the schedule while it writes the trace,
+ * so most operations succeed and the schedule stays about the size of a real
+ * student's. A few operations are meant to fail: courses that are not in the
+ * catalog, courses or events already in the schedule, indexes past the end of
+ * the schedule, and events with invalid times.
+ *
+ * @author Kevin John
+ */
+public class WorkloadGenerator {
+
+	/** real department prefixes, most common first */
+	private static final String[] DEPARTMENTS = { "CSC", "MA", "E", "ENG", "PY", "CH", "ST", "ECE", "BIO", "HI",
+			"PSY", "EC", "COM", "MAE", "CE", "BUS", "ACC", "FLS", "MUS", "ART" };
+	/** relative weight of each department in DEPARTMENTS */
+	private static final int[] DEPARTMENT_WEIGHTS = { 16, 14, 10, 9, 8, 7, 7, 6, 6, 5, 5, 5, 4, 4, 4, 4, 3, 3, 2,
+			2 };
+	/** subjects used to build course titles */
+	private static final String[] SUBJECTS = { "Programming", "Data Structures", "Algorithms", "Calculus",
+			"Linear Algebra", "Statistics", "Mechanics", "Thermodynamics", "Organic Chemistry", "Genetics", "Writing",
+			"World History", "Microeconomics", "Circuits", "Signals and Systems", "Databases", "Operating Systems",
+			"Networks", "Software Engineering", "Ethics", "Music Theory", "Drawing", "Accounting", "Marketing",
+			"Cognitive Psychology", "Public Speaking", "Spanish", "Materials", "Fluid Dynamics", "Ecology" };
+	/** title patterns, with % replaced by a subject */
+	private static final String[] TITLE_PATTERNS = { "Introduction to %", "%", "% I", "% II", "Advanced %",
+			"Topics in %", "% Laboratory", "Applied %", "Foundations of %", "% for Engineers" };
+	/** letters used to build instructor ids */
+	private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+	/** meeting pattern: Monday, Wednesday, Friday for 50 minutes */
+	private static final int MWF = 0;
+	/** meeting pattern: Monday and Wednesday for 75 minutes */
+	private static final int MW = 1;
+	/** meeting pattern: Tuesday and Thursday for 75 minutes */
+	private static final int TH = 2;
+	/** meeting pattern: one weekday lab for 110 or 170 minutes */
+	private static final int LAB = 3;
+	/** meeting pattern: arranged, no meeting days or times */
+	private static final int ARRANGED = 4;
+	/** relative weight of each meeting pattern */
+	private static final int[] PATTERN_WEIGHTS = { 30, 20, 28, 14, 8 };
+	/** start times of 50 minute MWF classes */
+	private static final int[] MWF_STARTS = { 830, 935, 1040, 1145, 1250, 1355, 1500, 1605 };
+	/** start times of 75 minute MW and TH classes */
+	private static final int[] LONG_STARTS = { 830, 1015, 1200, 1330, 1500, 1630, 1800 };
+	/** start times of labs */
+	private static final int[] LAB_STARTS = { 830, 1130, 1330, 1500 };
+	/** days a lab can meet on */
+	private static final String LAB_DAYS = "MTWHF";
+
+	/** credit hours a lecture can have */
+	private static final int[] CREDITS = { 3, 4, 2, 1, 5 };
+	/** relative weight of each entry in CREDITS */
+	private static final int[] CREDIT_WEIGHTS = { 70, 15, 7, 5, 3 };
+
+	/** percent of sections that are online sections numbered from 601 */
+	private static final int ONLINE_PERCENT = 8;
+	/** most sections a course can have */
+	private static final int MAX_SECTIONS = 40;
+	/** number of ways a line can be made invalid, see corrupt() */
+	private static final int INVALID_KINDS = 14;
+
+	/** event titles used in traces */
+	private static final String[] EVENT_TITLES = { "Lunch", "Gym", "Work Shift", "Study Group", "Club Meeting",
+			"Office Hours", "Practice", "Volunteering" };
+	/** event meeting days used in traces */
+	private static final String[] EVENT_DAYS = { "MWF", "TH", "MTWHF", "SU", "S", "U", "W", "MW" };
+	/** events added with the same title get a number after this many */
+	private static final int EVENT_TITLES_BEFORE_NUMBERS = 2;
+	/** schedule size the trace tends towards */
+	private static final int TARGET_SCHEDULE_SIZE = 7;
+	/** number of four letter department prefixes */
+	static final int GENERATED_DEPARTMENTS = 26 * 26 * 26 * 26;
+	/** number of the first generated prefix, QAAA */
+	private static final int FIRST_GENERATED_DEPARTMENT = ('Q' - 'A') * 26 * 26 * 26;
+
+	/** seed for everything the generator writes */
+	private final long seed;
+	/** percent of catalog lines that are invalid */
+	private final int invalidPercent;
+	/** name of each course written to the last catalog */
+	private ArrayList<String> courseNames;
+	/** number of in person sections of each course, matching courseNames */
+	private ArrayList<Integer> inPersonSections;
+	/** number of online sections of each course, matching courseNames */
+	private ArrayList<Integer> onlineSections;
+
+	/**
+	 * Creates a generator.
+	 *
+	 * @param seed           seed for the catalog and trace
+	 * @param invalidPercent percent of catalog lines that are invalid, from 0 to
+	 *                       100
+	 * @throws IllegalArgumentException if invalidPercent is out of range
+	 */
+	public WorkloadGenerator(long seed, int invalidPercent) {
+		if (invalidPercent < 0 || invalidPercent > 100) {
+			throw new IllegalArgumentException("Invalid percent.");
+		}
+		this.seed = seed;
+		this.invalidPercent = invalidPercent;
+	}
+
+	/**
+	 * Writes a catalog with the given number of lines. The courses written are kept
+	 * so that writeTrace() can add them to a schedule.
+	 *
+	 * @param fileName file to write
+	 * @param lines    number of lines to write, valid and invalid
+	 * @return number of valid course records written
+	 * @throws IOException              if the file cannot be written
+	 * @throws IllegalArgumentException if there are more lines than every four
+	 *                                  letter department can hold
+	 */
+	public int writeCatalog(String fileName, int lines) throws IOException {
+		Random random = new Random(seed);
+		courseNames = new ArrayList<String>();
+		inPersonSections = new ArrayList<Integer>();
+		onlineSections = new ArrayList<Integer>();
+		String[] instructors = instructors(random, Math.max(50, lines / 6));
+		// departments in use, with the next course number in each
+		ArrayList<String> departments = new ArrayList<String>();
+		ArrayList<Integer> nextNumber = new ArrayList<Integer>();
+		for (String department : DEPARTMENTS) {
+			departments.add(department);
+			nextNumber.add(100 + random.nextInt(10));
+		}
+		int generatedDepartments = 0;
+		int written = 0;
+		int valid = 0;
+
+		PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(fileName), 1 << 16));
+		while (written < lines) {
+			int d = pick(random, DEPARTMENT_WEIGHTS);
+			int number = nextNumber.get(d);
+			if (number > 999) {
+				// department is full, so a generated one takes its place and weight
+				departments.set(d, generatedDepartment(generatedDepartments++));
+				number = 100 + random.nextInt(10);
+			}
+			nextNumber.set(d, number + 1 + random.nextInt(3));
+			String name = departments.get(d) + " " + number;
+			String title = TITLE_PATTERNS[random.nextInt(TITLE_PATTERNS.length)].replace("%",
+					SUBJECTS[random.nextInt(SUBJECTS.length)]);
+			int pattern = pick(random, PATTERN_WEIGHTS);
+			int credits = pattern == LAB ? 1 : CREDITS[pick(random, CREDIT_WEIGHTS)];
+			int sections = sectionCount(random);
+
+			int inPerson = 0;
+			int online = 0;
+			for (int s = 0; s < sections && written < lines; s++) {
+				boolean isOnline = pattern == ARRANGED || random.nextInt(100) < ONLINE_PERCENT;
+				String section = isOnline ? threeDigits(601 + online++) : threeDigits(1 + inPerson++);
+				String line = name + "," + title + "," + section + "," + credits + ","
+						+ instructors[random.nextInt(instructors.length)] + ","
+						+ (isOnline ? "A" : meeting(random, pattern));
+				out.println(line);
+				written++;
+				valid++;
+				if (written < lines && random.nextInt(100) < invalidPercent) {
+					out.println(corrupt(random, line));
+					written++;
+				}
+			}
+			courseNames.add(name);
+			inPersonSections.add(inPerson);
+			onlineSections.add(online);
+		}
+		out.close();
+		return valid;
+	}
+
+	/**
+	 * Writes a trace of schedule operations on the courses from the last catalog
+	 * written.
+	 *
+	 * @param fileName   file to write
+	 * @param operations number of operations to write
+	 * @throws IOException           if the file cannot be written
+	 * @throws IllegalStateException if no catalog has been written
+	 */
+	public void writeTrace(String fileName, int operations) throws IOException {
+		if (courseNames == null || courseNames.isEmpty()) {
+			throw new IllegalStateException("Write a catalog first.");
+		}
+		Random random = new Random(~seed);
+		// names of the courses and titles of the events in the schedule, in order
+		ArrayList<String> schedule = new ArrayList<String>();
+		int[] eventsAdded = new int[EVENT_TITLES.length];
+
+		PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(fileName), 1 << 16));
+		for (int i = 0; i < operations; i++) {
+			int roll = random.nextInt(100);
+			// add more often while the schedule is small and remove more often once
+			// it is full
+			int addChance = schedule.size() < TARGET_SCHEDULE_SIZE ? 70 : 30;
+			if (roll < 2) {
+				out.println("reset");
+				schedule.clear();
+			} else if (roll < 2 + addChance * 4 / 5) {
+				int c = random.nextInt(courseNames.size());
+				String name = courseNames.get(c);
+				int inPerson = inPersonSections.get(c);
+				int online = onlineSections.get(c);
+				String section;
+				if (random.nextInt(100) < 3) {
+					// sections start at 001, so this is never in the catalog
+					section = "000";
+				} else if (inPerson == 0 || online > 0 && random.nextInt(inPerson + online) < online) {
+					section = threeDigits(601 + random.nextInt(online));
+				} else {
+					section = threeDigits(1 + random.nextInt(inPerson));
+				}
+				out.println("add," + name + "," + section);
+				if (!"000".equals(section) && !schedule.contains("C:" + name)) {
+					schedule.add("C:" + name);
+				}
+			} else if (roll < 2 + addChance) {
+				int e = random.nextInt(EVENT_TITLES.length);
+				String title = EVENT_TITLES[e];
+				if (eventsAdded[e] >= EVENT_TITLES_BEFORE_NUMBERS) {
+					title += " " + (1 + random.nextInt(eventsAdded[e]));
+				}
+				eventsAdded[e]++;
+				int start = 600 + random.nextInt(16) * 100 + random.nextInt(4) * 15;
+				int end = addMinutes(start, 30 + random.nextInt(6) * 15);
+				boolean invalid = random.nextInt(100) < 3;
+				out.println("event," + title + "," + EVENT_DAYS[random.nextInt(EVENT_DAYS.length)] + ","
+						+ (invalid ? end : start) + "," + (invalid ? start : end) + ",Details for " + title);
+				if (!invalid && !schedule.contains("E:" + title)) {
+					schedule.add("E:" + title);
+				}
+			} else {
+				int index;
+				if (schedule.isEmpty() || random.nextInt(100) < 5) {
+					index = schedule.size() + random.nextInt(3);
+				} else {
+					index = random.nextInt(schedule.size());
+					schedule.remove(index);
+				}
+				out.println("remove," + index);
+			}
+		}
+		out.close();
+	}
+
+	/**
+	 * Writes a catalog and a trace.
+	 *
+	 * Arguments: seed lines operations catalogFile traceFile [invalidPercent]
+	 *
+	 * @param args command line arguments
+	 * @throws IOException if a file cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 5) {
+			System.out.println("Usage: WorkloadGenerator seed lines operations catalogFile traceFile [invalidPercent]");
+			return;
+		}
+		int invalidPercent = args.length > 5 ? Integer.parseInt(args[5]) : 5;
+		WorkloadGenerator generator = new WorkloadGenerator(Long.parseLong(args[0]), invalidPercent);
+		int lines = Integer.parseInt(args[1]);
+		int valid = generator.writeCatalog(args[3], lines);
+		generator.writeTrace(args[4], Integer.parseInt(args[2]));
+		System.out.println("Wrote " + lines + " lines (" + valid + " valid) to " + args[3] + " and " + args[2]
+				+ " operations to " + args[4]);
+	}
+
+	/**
+	 * Makes an invalid line out of a valid one, in one of INVALID_KINDS ways.
+	 *
+	 * @param random random numbers
+	 * @param line   valid course record
+	 * @return the invalid line
+	 */
+	private static String corrupt(Random random, String line) {
+		String[] fields = line.split(",");
+		switch (random.nextInt(INVALID_KINDS)) {
+		case 0:
+			// name without its space
+			fields[0] = fields[0].replace(" ", "");
+			break;
+		case 1:
+			// course number with four digits
+			fields[0] = fields[0] + "7";
+			break;
+		case 2:
+			// a field left out
+			return line.replaceFirst("," + fields[1 + random.nextInt(4)] + ",", ",");
+		case 3:
+			fields[2] = random.nextBoolean() ? "01" : "abc";
+			break;
+		case 4:
+			fields[3] = random.nextBoolean() ? "0" : "6";
+			break;
+		case 5:
+			fields[3] = "three";
+			break;
+		case 6:
+			fields[4] = "";
+			break;
+		case 7:
+			// days that a course can't meet on, or a day listed twice
+			return join(fields, 5) + "," + (random.nextBoolean() ? "MWA" : "MTWHT") + ",1330,1445";
+		case 8:
+			// arranged with a time
+			return join(fields, 5) + ",A,1330,1445";
+		case 9:
+			// ends before it starts
+			return join(fields, 5) + ",MW,1445,1330";
+		case 10:
+			// minutes out of range
+			return join(fields, 5) + ",TH,1275,1330";
+		case 11:
+			return line + ",extra";
+		case 12:
+			// same name and section as the line before, which was loaded first
+			fields[1] = "Repeated " + fields[1];
+			break;
+		default:
+			return "";
+		}
+		return String.join(",", fields);
+	}
+
+	/**
+	 * Joins the first count fields with commas.
+	 *
+	 * @param fields fields of a line
+	 * @param count  number of fields to join
+	 * @return the joined fields
+	 */
+	private static String join(String[] fields, int count) {
+		StringBuilder sb = new StringBuilder(fields[0]);
+		for (int i = 1; i < count; i++) {
+			sb.append(',').append(fields[i]);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the meeting days and times of a section with the given pattern.
+	 *
+	 * @param random  random numbers
+	 * @param pattern one of the meeting patterns
+	 * @return days, start time and end time separated by commas
+	 */
+	private static String meeting(Random random, int pattern) {
+		int start;
+		switch (pattern) {
+		case MWF:
+			start = MWF_STARTS[random.nextInt(MWF_STARTS.length)];
+			return "MWF," + start + "," + addMinutes(start, 50);
+		case MW:
+			start = LONG_STARTS[random.nextInt(LONG_STARTS.length)];
+			return "MW," + start + "," + addMinutes(start, 75);
+		case TH:
+			start = LONG_STARTS[random.nextInt(LONG_STARTS.length)];
+			return "TH," + start + "," + addMinutes(start, 75);
+		default:
+			start = LAB_STARTS[random.nextInt(LAB_STARTS.length)];
+			return LAB_DAYS.charAt(random.nextInt(LAB_DAYS.length())) + "," + start + ","
+					+ addMinutes(start, random.nextBoolean() ? 110 : 170);
+		}
+	}
+
+	/**
+	 * Returns the number of sections for a course. Most courses have one or two
+	 * sections and a few large courses have many.
+	 *
+	 * @param random random numbers
+	 * @return number of sections, from 1 to MAX_SECTIONS
+	 */
+	private static int sectionCount(Random random) {
+		int sections = 1 + (int) (-Math.log(1 - random.nextDouble()) * 1.8);
+		if (random.nextInt(100) < 3) {
+			sections += 10 + random.nextInt(20);
+		}
+		return Math.min(sections, MAX_SECTIONS);
+	}
+
+	/**
+	 * Makes a pool of instructor ids that look like unity ids.
+	 *
+	 * @param random random numbers
+	 * @param count  number of ids
+	 * @return the ids, which may repeat
+	 */
+	private static String[] instructors(Random random, int count) {
+		String[] ids = new String[count];
+		for (int i = 0; i < count; i++) {
+			StringBuilder id = new StringBuilder();
+			int letters = 4 + random.nextInt(5);
+			for (int j = 0; j < letters; j++) {
+				id.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+			}
+			if (random.nextBoolean()) {
+				id.append(1 + random.nextInt(9));
+			}
+			ids[i] = id.toString();
+		}
+		return ids;
+	}
+
+	/**
+	 * Picks an index with probability proportional to its weight.
+	 *
+	 * @param random  random numbers
+	 * @param weights relative weights
+	 * @return the index picked
+	 */
+	private static int pick(Random random, int[] weights) {
+		int total = 0;
+		for (int weight : weights) {
+			total += weight;
+		}
+		int r = random.nextInt(total);
+		for (int i = 0; i < weights.length; i++) {
+			r -= weights[i];
+			if (r < 0) {
+				return i;
+			}
+		}
+		return weights.length - 1;
+	}
+
+	/**
+	 * Returns a four letter department prefix that isn't a real one, since none of
+	 * DEPARTMENTS have four letters. The prefixes run from QAAA through ZZZZ and
+	 * then from AAAA through PZZZ, so no two are the same.
+	 *
+	 * @param n number of the generated department, starting at 0
+	 * @return the department prefix
+	 * @throws IllegalArgumentException if every four letter prefix has been used
+	 */
+	static String generatedDepartment(int n) {
+		if (n < 0 || n >= GENERATED_DEPARTMENTS) {
+			throw new IllegalArgumentException("Too many lines.");
+		}
+		int letters = (FIRST_GENERATED_DEPARTMENT + n) % GENERATED_DEPARTMENTS;
+		return "" + (char) ('A' + letters / 17576) + (char) ('A' + letters / 676 % 26)
+				+ (char) ('A' + letters / 26 % 26) + (char) ('A' + letters % 26);
+	}
+
+	/**
+	 * Adds minutes to a time.
+	 *
+	 * @param time    time as hhmm
+	 * @param minutes minutes to add
+	 * @return the later time as hhmm
+	 */
+	private static int addMinutes(int time, int minutes) {
+		int total = time / 100 * 60 + time % 100 + minutes;
+		return total / 60 * 100 + total % 60;
+	}
+
+	/**
+	 * Pads a number to three digits.
+	 *
+	 * @param n number from 0 to 999
+	 * @return the number with leading zeros
+	 */
+	private static String threeDigits(int n) {
+		return n < 10 ? "00" + n : n < 100 ? "0" + n : Integer.toString(n);
+	}
+}
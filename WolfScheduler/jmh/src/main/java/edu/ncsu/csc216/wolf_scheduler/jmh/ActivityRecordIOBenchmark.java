@@ -0,0 +1,79 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.bench.SyntheticCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Measures exporting a schedule with ActivityRecordIO.writeActivityRecords().
+ * The schedule is the first scheduleSize courses of a synthetic catalog, and it
+ * is written over the same temporary file every time.
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActivityRecordIOBenchmark {
+
+	/** number of activities written */
+	@Param({ "10", "1000", "100000" })
+	public int scheduleSize;
+
+	/** activities to write */
+	private ArrayList<Activity> activities;
+	/** file the schedule is written to */
+	private File file;
+
+	/**
+	 * Loads the activities and creates the output file once for the whole trial.
+	 * 
+	 * @throws IOException if the catalog or the output file cannot be created
+	 */
+	@Setup
+	public void loadSchedule() throws IOException {
+		activities = new ArrayList<Activity>(CourseRecordIO.readCourseRecords(SyntheticCatalog.write(scheduleSize)));
+		file = File.createTempFile("schedule-" + scheduleSize + "-", ".txt");
+		file.deleteOnExit();
+	}
+
+	/**
+	 * Removes the output file.
+	 */
+	@TearDown
+	public void deleteFile() {
+		file.delete();
+	}
+
+	/**
+	 * Writes the whole schedule.
+	 * 
+	 * @throws IOException if the file cannot be written
+	 */
+	@Benchmark
+	public void writeActivityRecords() throws IOException {
+		ActivityRecordIO.writeActivityRecords(file.getPath(), activities);
+	}
+}
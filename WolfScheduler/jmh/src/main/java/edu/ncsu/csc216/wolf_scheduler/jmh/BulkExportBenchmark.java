@@ -0,0 +1,126 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.bench.SyntheticCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Compares exporting many student schedules one exportSchedule() call at a
+ * time with the batch exports. Every student's WolfScheduler shares one loaded
+ * catalog.
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class BulkExportBenchmark {
+
+	/** courses in the shared catalog */
+	private static final int CATALOG_SIZE = 10000;
+	/** courses in each student's schedule */
+	private static final int COURSES_PER_STUDENT = 6;
+	/** sections in the synthetic catalog for each course name */
+	private static final int SECTIONS_PER_COURSE = 10;
+	/** seed for picking each student's courses */
+	private static final long SEED = 216L;
+
+	/** number of student schedules exported */
+	@Param({ "10000" })
+	public int students;
+
+	/** threads used by exportScheduleFiles() */
+	@Param({ "1", "4" })
+	public int threads;
+
+	/** schedulers by student name */
+	private Map<String, WolfScheduler> schedulers;
+	/** directory the files are written to */
+	private File directory;
+
+	/**
+	 * Loads the catalog once and builds every student's schedule from it.
+	 * 
+	 * @throws IOException if the catalog or directory cannot be created
+	 */
+	@Setup
+	public void buildSchedules() throws IOException {
+		WolfScheduler catalog = new WolfScheduler(SyntheticCatalog.write(CATALOG_SIZE));
+		Random random = new Random(SEED);
+		schedulers = new LinkedHashMap<String, WolfScheduler>();
+		for (int s = 0; s < students; s++) {
+			WolfScheduler scheduler = new WolfScheduler(catalog);
+			for (int c = 0; c < COURSES_PER_STUDENT; c++) {
+				String[] key = SyntheticCatalog.nameAndSection(random.nextInt(CATALOG_SIZE / SECTIONS_PER_COURSE)
+						* SECTIONS_PER_COURSE + random.nextInt(SECTIONS_PER_COURSE));
+				try {
+					scheduler.addCourseToSchedule(key[0], key[1]);
+				} catch (IllegalArgumentException e) {
+					// already enrolled in that course, so the student takes one fewer
+				}
+			}
+			schedulers.put("student" + s, scheduler);
+		}
+		directory = Files.createTempDirectory("bulk-export").toFile();
+	}
+
+	/**
+	 * Removes the exported files.
+	 */
+	@TearDown
+	public void deleteFiles() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	/**
+	 * Exports every schedule with its own exportSchedule() call.
+	 */
+	@Benchmark
+	public void exportScheduleEach() {
+		for (Map.Entry<String, WolfScheduler> entry : schedulers.entrySet()) {
+			entry.getValue().exportSchedule(new File(directory, entry.getKey() + ".txt").getPath());
+		}
+	}
+
+	/**
+	 * Exports every schedule to its own file with the worker pool.
+	 */
+	@Benchmark
+	public void exportScheduleFiles() {
+		WolfScheduler.exportScheduleFiles(directory.getPath(), schedulers, threads);
+	}
+
+	/**
+	 * Exports every schedule to one archive.
+	 */
+	@Benchmark
+	public void exportSchedules() {
+		WolfScheduler.exportSchedules(new File(directory, "schedules.zip").getPath(), schedulers);
+	}
+}
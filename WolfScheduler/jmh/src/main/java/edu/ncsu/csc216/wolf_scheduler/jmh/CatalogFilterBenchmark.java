@@ -0,0 +1,119 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.bench.WorkloadGenerator;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseAttributeIndex;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseFilter;
+
+/**
+ * Measures filtering a WorkloadGenerator catalog by attributes, with the
+ * compressed sets of the attribute index and by checking every course.
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogFilterBenchmark {
+
+	/** seed for the catalog */
+	private static final long SEED = 216L;
+
+	/** number of catalog lines */
+	@Param({ "100000" })
+	public int catalogSize;
+
+	/**
+	 * filter applied: 3-credit CSC on TH after 1:00PM, one instructor's sections,
+	 * or 3-credit sections not on Friday
+	 */
+	@Param({ "advisor", "instructor", "noFriday" })
+	public String filterName;
+
+	/** catalog filtered */
+	private List<Course> courses;
+	/** index over the catalog */
+	private CourseAttributeIndex index;
+	/** filter applied */
+	private CourseFilter filter;
+
+	/**
+	 * Writes and loads the catalog, builds its index, and makes the filter.
+	 * 
+	 * @throws IOException if the catalog cannot be written
+	 */
+	@Setup
+	public void loadCatalog() throws IOException {
+		File file = File.createTempFile("filter-catalog-", ".txt");
+		file.deleteOnExit();
+		new WorkloadGenerator(SEED, 0).writeCatalog(file.getPath(), catalogSize);
+		CourseCatalog catalog = new CourseCatalog(file.getPath());
+		courses = catalog.getCourses();
+		index = catalog.getAttributeIndex();
+		filter = new CourseFilter();
+		switch (filterName) {
+		case "advisor":
+			filter.setDepartment("CSC");
+			filter.setCredits(3);
+			filter.setMeetingDays("TH");
+			filter.setStartTimeRange(1300, 2359);
+			break;
+		case "instructor":
+			filter.setInstructorId(courses.get(courses.size() / 2).getInstructorId());
+			break;
+		default:
+			filter.setCredits(3);
+			filter.setExcludedDays("F");
+			break;
+		}
+	}
+
+	/**
+	 * Filters with the index.
+	 * 
+	 * @return the catalog positions of the matches
+	 */
+	@Benchmark
+	public int[] index() {
+		return index.find(filter);
+	}
+
+	/**
+	 * Checks every course against the filter.
+	 * 
+	 * @return the catalog positions of the matches
+	 */
+	@Benchmark
+	public int[] scan() {
+		int[] found = new int[courses.size()];
+		int n = 0;
+		for (int i = 0; i < found.length; i++) {
+			if (filter.matches(courses.get(i))) {
+				found[n++] = i;
+			}
+		}
+		return Arrays.copyOf(found, n);
+	}
+}
@@ -0,0 +1,65 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.bench.SyntheticCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Measures loading a synthetic catalog with CourseRecordIO.readCourseRecords().
+ * The catalog size is a parameter, so it can be changed on the command line
+ * with -p catalogSize=...
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseRecordIOBenchmark {
+
+	/** number of course records in the catalog */
+	@Param({ "1000", "10000", "100000" })
+	public int catalogSize;
+
+	/** catalog file written for the trial */
+	private String fileName;
+
+	/**
+	 * Writes the catalog once for the whole trial.
+	 * 
+	 * @throws IOException if the catalog cannot be written
+	 */
+	@Setup
+	public void writeCatalog() throws IOException {
+		fileName = SyntheticCatalog.write(catalogSize);
+	}
+
+	/**
+	 * Reads the whole catalog.
+	 * 
+	 * @return the courses read, so the work isn't optimized away
+	 * @throws IOException if the catalog cannot be read
+	 */
+	@Benchmark
+	public ArrayList<Course> readCourseRecords() throws IOException {
+		return CourseRecordIO.readCourseRecords(fileName);
+	}
+}
@@ -0,0 +1,108 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.bench.WorkloadGenerator;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseSearchIndex;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseSearchResults;
+
+/**
+ * Measures a type-ahead search of a WorkloadGenerator catalog, getting the
+ * first page of results with the search index and by checking every course's
+ * name and title, as filtering the catalog table would.
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseSearchBenchmark {
+
+	/** seed for the catalog */
+	private static final long SEED = 316L;
+	/** results on a page */
+	private static final int PAGE_SIZE = 20;
+
+	/** number of catalog lines */
+	@Param({ "30000" })
+	public int catalogSize;
+
+	/** query typed */
+	@Param({ "CSC2*", "data struct", "engineers", "ma" })
+	public String query;
+
+	/** catalog searched */
+	private CourseCatalog catalog;
+	/** index over the catalog */
+	private CourseSearchIndex index;
+
+	/**
+	 * Writes and loads the catalog and builds its index.
+	 * 
+	 * @throws IOException if the catalog cannot be written
+	 */
+	@Setup
+	public void loadCatalog() throws IOException {
+		File file = File.createTempFile("search-catalog-", ".txt");
+		file.deleteOnExit();
+		new WorkloadGenerator(SEED, 0).writeCatalog(file.getPath(), catalogSize);
+		catalog = new CourseCatalog(file.getPath());
+		index = catalog.getSearchIndex();
+	}
+
+	/**
+	 * Searches with the index.
+	 * 
+	 * @return the first page of results
+	 */
+	@Benchmark
+	public CourseSearchResults index() {
+		return index.search(query, 0, PAGE_SIZE);
+	}
+
+	/**
+	 * Checks every course for every word of the query.
+	 * 
+	 * @return the first page of results
+	 */
+	@Benchmark
+	public List<Course> linearScan() {
+		String[] words = query.toLowerCase(Locale.ROOT).replace("*", "").split(" ");
+		ArrayList<Course> page = new ArrayList<Course>();
+		int total = 0;
+		for (Course c : catalog.getCourses()) {
+			String name = c.getName().replace(" ", "").toLowerCase(Locale.ROOT);
+			String title = c.getTitle().toLowerCase(Locale.ROOT);
+			boolean all = true;
+			for (String w : words) {
+				all &= name.contains(w) || title.contains(w);
+			}
+			if (all && total++ < PAGE_SIZE) {
+				page.add(c);
+			}
+		}
+		return page;
+	}
+}
@@ -0,0 +1,121 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.bench.WorkloadGenerator;
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseIdSet;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseTimeIndex;
+
+/**
+ * Measures finding the courses of a WorkloadGenerator catalog that meet inside
+ * a window, with the interval trees of the time index and by checking every
+ * course.
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseTimeBenchmark {
+
+	/** seed for the catalog */
+	private static final long SEED = 217L;
+	/** day of the window */
+	private static final String DAY = "W";
+
+	/** number of catalog lines */
+	@Param({ "100000" })
+	public int catalogSize;
+
+	/** window start and end in HHMM form */
+	@Param({ "1000-1400", "1500-1510" })
+	public String window;
+
+	/** catalog searched */
+	private List<Course> courses;
+	/** index over the catalog */
+	private CourseTimeIndex index;
+	/** start of the window */
+	private int start;
+	/** end of the window */
+	private int end;
+
+	/**
+	 * Writes and loads the catalog and builds its index.
+	 * 
+	 * @throws IOException if the catalog cannot be written
+	 */
+	@Setup
+	public void loadCatalog() throws IOException {
+		File file = File.createTempFile("time-catalog-", ".txt");
+		file.deleteOnExit();
+		new WorkloadGenerator(SEED, 0).writeCatalog(file.getPath(), catalogSize);
+		CourseCatalog catalog = new CourseCatalog(file.getPath());
+		courses = catalog.getCourses();
+		index = catalog.getTimeIndex();
+		String[] times = window.split("-");
+		start = Integer.parseInt(times[0]);
+		end = Integer.parseInt(times[1]);
+	}
+
+	/**
+	 * Finds the courses inside the window with the index.
+	 * 
+	 * @return the catalog positions of the courses
+	 */
+	@Benchmark
+	public CourseIdSet indexWithin() {
+		return index.findWithin(DAY, start, end);
+	}
+
+	/**
+	 * Finds the courses overlapping the window with the index.
+	 * 
+	 * @return the catalog positions of the courses
+	 */
+	@Benchmark
+	public CourseIdSet indexOverlapping() {
+		return index.findOverlapping(DAY, start, end);
+	}
+
+	/**
+	 * Checks every course for meeting inside the window.
+	 * 
+	 * @return the catalog positions of the courses
+	 */
+	@Benchmark
+	public int[] scanWithin() {
+		int[] found = new int[courses.size()];
+		int n = 0;
+		for (int i = 0; i < found.length; i++) {
+			Course c = courses.get(i);
+			if ((c.getMeetingDayMask() & Activity.WEDNESDAY) != 0 && c.getStartTime() >= start
+					&& c.getEndTime() <= end) {
+				found[n++] = i;
+			}
+		}
+		return Arrays.copyOf(found, n);
+	}
+}
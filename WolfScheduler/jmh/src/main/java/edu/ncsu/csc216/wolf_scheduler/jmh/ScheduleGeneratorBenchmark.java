@@ -0,0 +1,137 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.RankedSchedule;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.ScheduleGenerator;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.SchedulePreferences;
+
+/**
+ * Measures finding every conflict free schedule for a large request, one
+ * section of each of several courses with many sections, both on one thread
+ * and split across the common ForkJoinPool, and finding just the best few the
+ * same two ways. The meeting times come from a fixed seed so every run searches
+ * the same tree.
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleGeneratorBenchmark {
+
+	/** meeting days the sections are given */
+	private static final String[] DAYS = { "MW", "TH", "MWF", "M", "T", "W", "H", "F" };
+	/** seed for the meeting times */
+	private static final long SEED = 216L;
+
+	/** number of courses requested */
+	@Param({ "5", "6" })
+	public int courses;
+
+	/** number of sections of each course */
+	@Param({ "12" })
+	public int sections;
+
+	/** generator for the request */
+	private ScheduleGenerator generator;
+	/** preferences for ranking the schedules */
+	private SchedulePreferences preferences;
+
+	/**
+	 * Builds a catalog with the sections of each course spread over the week.
+	 */
+	@Setup
+	public void buildRequest() {
+		Random random = new Random(SEED);
+		ArrayList<Course> catalog = new ArrayList<Course>();
+		ArrayList<String> names = new ArrayList<String>();
+		for (int i = 0; i < courses; i++) {
+			String name = "CSC " + (100 + i);
+			names.add(name);
+			for (int s = 0; s < sections; s++) {
+				int start = 800 + random.nextInt(10) * 100;
+				catalog.add(new Course(name, "Title", String.format("%03d", s), 3, "id",
+						DAYS[random.nextInt(DAYS.length)], start, start + 50));
+			}
+		}
+		generator = new ScheduleGenerator(new CourseCatalog(catalog), names);
+		preferences = new SchedulePreferences();
+		preferences.setEarlyClassWeight(1000, 2);
+		preferences.setDayOffWeight("F", 5);
+		preferences.setCampusTimeWeight(1);
+		preferences.setDaysOnCampusWeight(1);
+	}
+
+	/**
+	 * Finds the schedules with a sequential search.
+	 * 
+	 * @return the schedules
+	 */
+	@Benchmark
+	public List<List<Course>> sequential() {
+		return generator.generate(Long.MAX_VALUE, Long.MAX_VALUE).collect(Collectors.toList());
+	}
+
+	/**
+	 * Finds the ten best schedules with branch and bound.
+	 * 
+	 * @return the best schedules
+	 */
+	@Benchmark
+	public List<RankedSchedule> bestTen() {
+		return generator.best(10, preferences, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Finds the ten best schedules with branch and bound split across the common
+	 * ForkJoinPool.
+	 * 
+	 * @return the best schedules
+	 */
+	@Benchmark
+	public List<RankedSchedule> bestTenParallel() {
+		return generator.bestParallel(10, preferences, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Finds the schedules with a parallel search, in sequential order.
+	 * 
+	 * @return the schedules
+	 */
+	@Benchmark
+	public List<List<Course>> parallelOrdered() {
+		return generator.generateParallel(Long.MAX_VALUE, Long.MAX_VALUE, true);
+	}
+
+	/**
+	 * Finds the schedules with a parallel search, in any order.
+	 * 
+	 * @return the schedules
+	 */
+	@Benchmark
+	public List<List<Course>> parallelUnordered() {
+		return generator.generateParallel(Long.MAX_VALUE, Long.MAX_VALUE, false);
+	}
+}
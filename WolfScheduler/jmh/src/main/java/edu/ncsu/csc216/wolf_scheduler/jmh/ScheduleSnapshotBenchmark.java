@@ -0,0 +1,112 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.bench.SyntheticCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Measures a dashboard polling one student's schedule from several threads
+ * while another thread keeps changing it, which is how the schedules are used
+ * on the server: read far more often than they are changed.
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleSnapshotBenchmark {
+
+	/** courses kept in the schedule */
+	private static final int SCHEDULE_SIZE = 8;
+	/** sections in the synthetic catalog for each course name */
+	private static final int SECTIONS_PER_COURSE = 10;
+
+	/** scheduler shared by the group */
+	private WolfScheduler scheduler;
+	/** name and section of the course the writer removes and adds back */
+	private String[] changedKey;
+
+	/**
+	 * Loads a catalog and fills the schedule.
+	 * 
+	 * @throws IOException if the catalog cannot be written
+	 */
+	@Setup
+	public void fillSchedule() throws IOException {
+		scheduler = new WolfScheduler(SyntheticCatalog.write(SCHEDULE_SIZE * SECTIONS_PER_COURSE));
+		for (int i = 0; i < SCHEDULE_SIZE; i++) {
+			String[] key = SyntheticCatalog.nameAndSection(i * SECTIONS_PER_COURSE);
+			scheduler.addCourseToSchedule(key[0], key[1]);
+		}
+		changedKey = SyntheticCatalog.nameAndSection((SCHEDULE_SIZE - 1) * SECTIONS_PER_COURSE);
+	}
+
+	/**
+	 * Reads the full schedule table, as a dashboard poll does.
+	 * 
+	 * @return the schedule rows
+	 */
+	@Benchmark
+	@Group("poll")
+	@GroupThreads(3)
+	public String[][] read() {
+		return scheduler.getFullScheduledActivities();
+	}
+
+	/**
+	 * Reads the full schedule rows from the snapshot, which shares them instead
+	 * of copying them.
+	 * 
+	 * @return the schedule rows
+	 */
+	@Benchmark
+	@Group("pollRows")
+	@GroupThreads(3)
+	public List<List<String>> readRows() {
+		return scheduler.getScheduleSnapshot().getFullScheduledRows();
+	}
+
+	/**
+	 * Removes the last course and adds it back, alongside readRows().
+	 * 
+	 * @return true if the course was added back
+	 */
+	@Benchmark
+	@Group("pollRows")
+	@GroupThreads(1)
+	public boolean changeRows() {
+		return change();
+	}
+
+	/**
+	 * Removes the last course and adds it back.
+	 * 
+	 * @return true if the course was added back
+	 */
+	@Benchmark
+	@Group("poll")
+	@GroupThreads(1)
+	public boolean change() {
+		scheduler.removeActivityFromSchedule(SCHEDULE_SIZE - 1);
+		return scheduler.addCourseToSchedule(changedKey[0], changedKey[1]);
+	}
+}
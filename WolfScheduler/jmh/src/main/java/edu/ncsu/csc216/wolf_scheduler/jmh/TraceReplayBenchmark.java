@@ -0,0 +1,84 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.bench.TraceReplayer;
+import edu.ncsu.csc216.wolf_scheduler.bench.WorkloadGenerator;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Replays a WorkloadGenerator trace of adds, removes, events and resets against
+ * a WolfScheduler loaded with the matching generated catalog.
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TraceReplayBenchmark {
+
+	/** seed for the catalog and trace */
+	private static final long SEED = 216L;
+	/** percent of catalog lines that are invalid */
+	private static final int INVALID_PERCENT = 5;
+
+	/** number of lines in the catalog */
+	@Param({ "10000", "100000" })
+	public int catalogSize;
+
+	/** number of operations in the trace */
+	@Param({ "10000" })
+	public int operations;
+
+	/** scheduler loaded with the generated catalog */
+	private WolfScheduler scheduler;
+	/** operations to replay */
+	private ArrayList<String[]> trace;
+
+	/**
+	 * Generates and loads the catalog and trace once for the whole trial.
+	 * 
+	 * @throws IOException if the files cannot be written or read
+	 */
+	@Setup
+	public void generate() throws IOException {
+		File catalogFile = File.createTempFile("workload-catalog-", ".txt");
+		File traceFile = File.createTempFile("workload-trace-", ".txt");
+		catalogFile.deleteOnExit();
+		traceFile.deleteOnExit();
+		WorkloadGenerator generator = new WorkloadGenerator(SEED, INVALID_PERCENT);
+		generator.writeCatalog(catalogFile.getPath(), catalogSize);
+		generator.writeTrace(traceFile.getPath(), operations);
+		scheduler = new WolfScheduler(catalogFile.getPath());
+		trace = TraceReplayer.readTrace(traceFile.getPath());
+	}
+
+	/**
+	 * Replays the whole trace on an empty schedule.
+	 * 
+	 * @return the number of operations that succeeded and failed
+	 */
+	@Benchmark
+	public int[] replay() {
+		scheduler.resetSchedule();
+		return TraceReplayer.replay(scheduler, trace);
+	}
+}
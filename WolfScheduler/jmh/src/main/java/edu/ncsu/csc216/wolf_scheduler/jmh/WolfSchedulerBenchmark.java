@@ -0,0 +1,121 @@
+package edu.ncsu.csc216.wolf_scheduler.jmh;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.bench.SyntheticCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Measures the WolfScheduler operations the GUI uses on every click: looking up
+ * a course, adding courses to the schedule, and building the catalog table. The
+ * lookups use a fixed seed so every run asks for the same courses.
+ * 
+ * @author Kevin John
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WolfSchedulerBenchmark {
+
+	/** number of lookup keys cycled through, a power of two */
+	private static final int KEYS = 1024;
+	/** sections in the synthetic catalog for each course name */
+	private static final int SECTIONS_PER_COURSE = 10;
+	/** courses added to the schedule by each addCourseToSchedule() call */
+	private static final int SCHEDULE_SIZE = 8;
+	/** seed for picking the lookup keys */
+	private static final long SEED = 216L;
+
+	/** number of course records in the catalog */
+	@Param({ "1000", "10000", "100000" })
+	public int catalogSize;
+
+	/** scheduler loaded with the synthetic catalog */
+	private WolfScheduler scheduler;
+	/** course names to look up */
+	private String[] names;
+	/** sections to look up, matching names */
+	private String[] sections;
+	/** names and sections of the courses added to the schedule */
+	private String[][] scheduleKeys;
+	/** next lookup key */
+	private int next;
+
+	/**
+	 * Loads the catalog and picks the lookup keys once for the whole trial.
+	 * 
+	 * @throws IOException if the catalog cannot be written
+	 */
+	@Setup
+	public void loadCatalog() throws IOException {
+		scheduler = new WolfScheduler(SyntheticCatalog.write(catalogSize));
+		names = new String[KEYS];
+		sections = new String[KEYS];
+		Random random = new Random(SEED);
+		for (int i = 0; i < KEYS; i++) {
+			String[] key = SyntheticCatalog.nameAndSection(random.nextInt(catalogSize));
+			names[i] = key[0];
+			sections[i] = key[1];
+		}
+		scheduleKeys = new String[SCHEDULE_SIZE][];
+		for (int i = 0; i < SCHEDULE_SIZE; i++) {
+			scheduleKeys[i] = SyntheticCatalog.nameAndSection(i * SECTIONS_PER_COURSE);
+		}
+	}
+
+	/**
+	 * Looks up one course in the catalog.
+	 * 
+	 * @return the course found
+	 */
+	@Benchmark
+	public Course getCourseFromCatalog() {
+		int i = next++ & (KEYS - 1);
+		return scheduler.getCourseFromCatalog(names[i], sections[i]);
+	}
+
+	/**
+	 * Resets the schedule and adds one section of each of the first few courses.
+	 * 
+	 * @return the number of courses added
+	 */
+	@Benchmark
+	public int addCourseToSchedule() {
+		scheduler.resetSchedule();
+		int added = 0;
+		for (String[] key : scheduleKeys) {
+			if (scheduler.addCourseToSchedule(key[0], key[1])) {
+				added++;
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Builds the catalog table the GUI displays.
+	 * 
+	 * @return the catalog rows
+	 */
+	@Benchmark
+	public String[][] getCourseCatalog() {
+		return scheduler.getCourseCatalog();
+	}
+}
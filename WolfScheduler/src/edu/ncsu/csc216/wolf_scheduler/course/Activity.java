@@ -14,6 +14,24 @@ public abstract class Activity {
 	 * upper minute described as a constant integer
 	 */
 	private static final int UPPER_MINUTE = 60;
+	/** meeting day mask bit for Monday (M) */
+	public static final int MONDAY = 1;
+	/** meeting day mask bit for Tuesday (T) */
+	public static final int TUESDAY = 1 << 1;
+	/** meeting day mask bit for Wednesday (W) */
+	public static final int WEDNESDAY = 1 << 2;
+	/** meeting day mask bit for Thursday (H) */
+	public static final int THURSDAY = 1 << 3;
+	/** meeting day mask bit for Friday (F) */
+	public static final int FRIDAY = 1 << 4;
+	/** meeting day mask bit for Saturday (S) */
+	public static final int SATURDAY = 1 << 5;
+	/** meeting day mask bit for Sunday (U) */
+	public static final int SUNDAY = 1 << 6;
+	/** mask bits for all seven weekdays */
+	public static final int WEEKDAYS = (1 << 7) - 1;
+	/** meeting day mask flag for arranged activities (A), which meet on no day */
+	public static final int ARRANGED = 1 << 7;
 	/** Course's title. */
 	private String title;
 	/** Course's meeting days */
@@ -22,6 +40,20 @@ public abstract class Activity {
 	private int startTime;
 	/** Course's ending time */
 	private int endTime;
+	/** Course's meeting days as weekday bits, or ARRANGED */
+	private int meetingDayMask;
+	/** true once the activity can't be changed */
+	private volatile boolean frozen;
+	/** short display array, or null until it is needed after a field changes */
+	private volatile String[] shortDisplayArray;
+	/** long display array, or null until it is needed after a field changes */
+	private volatile String[] longDisplayArray;
+	/**
+	 * changes made to the fields, so a display array built while a field changed
+	 * is not kept; two setters racing may lose an increment, but either still
+	 * changes it
+	 */
+	private volatile int fieldVersion;
 
 	/**
 	 * Activity constructor
@@ -38,18 +70,114 @@ public abstract class Activity {
 	}
 
 	/**
-	 * getter for short display array
+	 * Activity constructor for subclasses that set their fields later with
+	 * setValidatedFields(). Nothing is set or checked.
+	 */
+	protected Activity() {
+		super();
+	}
+
+	/**
+	 * Sets the title, meeting days, and times without checking them. Only for
+	 * values that were validated before, such as ones read back from a catalog
+	 * snapshot.
+	 * 
+	 * @param title       - already validated title
+	 * @param meetingDays - already validated meeting days
+	 * @param startTime   - already validated start time
+	 * @param endTime     - already validated end time
+	 */
+	protected void setValidatedFields(String title, String meetingDays, int startTime, int endTime) {
+		this.title = title;
+		this.meetingDays = meetingDays;
+		this.startTime = startTime;
+		this.endTime = endTime;
+		clearDisplayArrays();
+		this.meetingDayMask = ARRANGED;
+		if (!"A".equals(meetingDays)) {
+			this.meetingDayMask = 0;
+			for (int i = 0; i < meetingDays.length(); i++) {
+				this.meetingDayMask |= getDayBit(meetingDays.charAt(i));
+			}
+		}
+	}
+
+	/**
+	 * getter for short display array. The array is a copy, so changing it doesn't
+	 * change the Activity.
 	 * 
 	 * @return Short display array
 	 */
-	public abstract String[] getShortDisplayArray();
+	public String[] getShortDisplayArray() {
+		return getSharedShortDisplayArray().clone();
+	}
 
 	/**
-	 * getter for long display array
+	 * getter for long display array. The array is a copy, so changing it doesn't
+	 * change the Activity.
 	 * 
 	 * @return long display array
 	 */
-	public abstract String[] getLongDisplayArray();
+	public String[] getLongDisplayArray() {
+		return getSharedLongDisplayArray().clone();
+	}
+
+	/**
+	 * Returns the short display array without copying it, for callers that build
+	 * many rows and only read them. The array is built once and shared by every
+	 * caller until a field changes, so it must not be changed. It is published
+	 * through a volatile field only after it is filled in, so a reader on another
+	 * thread never sees it half built. If a field changes while the array is
+	 * built, it is dropped again rather than kept with the old values.
+	 * 
+	 * @return the shared short display array
+	 */
+	public String[] getSharedShortDisplayArray() {
+		String[] array = shortDisplayArray;
+		if (array == null) {
+			int version = fieldVersion;
+			array = buildShortDisplayArray();
+			shortDisplayArray = array;
+			if (fieldVersion != version) {
+				shortDisplayArray = null;
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * Returns the long display array without copying it, for callers that build
+	 * many rows and only read them. The array is shared like the one from
+	 * getSharedShortDisplayArray(), so it must not be changed.
+	 * 
+	 * @return the shared long display array
+	 */
+	public String[] getSharedLongDisplayArray() {
+		String[] array = longDisplayArray;
+		if (array == null) {
+			int version = fieldVersion;
+			array = buildLongDisplayArray();
+			longDisplayArray = array;
+			if (fieldVersion != version) {
+				longDisplayArray = null;
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * Builds a new short display array from the current fields.
+	 * 
+	 * @return the short display array
+	 */
+	protected abstract String[] buildShortDisplayArray();
+
+	/**
+	 * Builds a new long display array from the current fields.
+	 * 
+	 * @return the long display array
+	 */
+	protected abstract String[] buildLongDisplayArray();
 
 	/**
 	 * checks for duplicates in Events and Courses
@@ -59,6 +187,14 @@ public abstract class Activity {
 	 */
 	public abstract boolean isDuplicate(Activity activity);
 
+	/**
+	 * Appends the comma separated record that toString() returns to a builder,
+	 * without building a String for the record first.
+	 *
+	 * @param sb builder to append the record to
+	 */
+	public abstract void appendRecord(StringBuilder sb);
+
 	/**
 	 * Gets the Course's title.
 	 * 
@@ -74,14 +210,17 @@ public abstract class Activity {
 	 * @param title The title to be set. It should not be empty or null.
 	 *
 	 * @throws IllegalArgumentException If the provided title is empty or null.
+	 * @throws UnsupportedOperationException If the activity has been frozen.
 	 */
 	public void setTitle(String title) {
+		checkChangeable();
 
 		// checks empty or null object
 		if (isEmptyChecker(title)) {
 			throw new IllegalArgumentException("Invalid title.");
 		}
 		this.title = title;
+		clearDisplayArrays();
 	}
 
 	/**
@@ -117,12 +256,16 @@ public abstract class Activity {
 	 *                                  startTime. - If "A" is provided as
 	 *                                  meetingDays, startTime and endTime must be
 	 *                                  0.
+	 * @throws UnsupportedOperationException If the activity has been frozen.
 	 */
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
+		checkChangeable();
 		// checks if the given parameters are empty or null
 		if (isEmptyChecker(meetingDays) || isEmptyChecker("" + startTime) || isEmptyChecker("" + endTime)) {
 			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
+		// meeting days as weekday bits, or ARRANGED
+		int mask = 0;
 		// if meeting day A, meeting time must not be listed. order flip to avoid null
 		// exceptions with an empty meetingDays
 		if ("A".equals(meetingDays)) {
@@ -132,45 +275,16 @@ public abstract class Activity {
 			this.meetingDays = meetingDays;
 			this.startTime = 0;
 			this.endTime = 0;
+			mask = ARRANGED;
 		} else {
-			// holds letter count for each weekday letter
-			int letterCountM = 0, letterCountT = 0, letterCountW = 0, letterCountH = 0, letterCountF = 0,
-					letterCountS = 0, letterCountU = 0;
-
-			// loops through all characters in meetingDays and increments weekday letter
-			// counter if a letter is found
+			// loops through all characters in meetingDays and sets the weekday's bit. a
+			// letter that isn't a weekday or a weekday that is already set is invalid
 			for (int i = 0; i < meetingDays.length(); i++) {
-				if ('M' == meetingDays.charAt(i)) {
-					letterCountM++;
-				}
-				if ('T' == meetingDays.charAt(i)) {
-					letterCountT++;
-				}
-				if ('W' == meetingDays.charAt(i)) {
-					letterCountW++;
-				}
-				if ('H' == meetingDays.charAt(i)) {
-					letterCountH++;
-				}
-				if ('F' == meetingDays.charAt(i)) {
-					letterCountF++;
-				}
-				if ('S' == meetingDays.charAt(i)) {
-					letterCountS++;
-				}
-				if ('U' == meetingDays.charAt(i)) {
-					letterCountU++;
-				}
-				if (!('M' == meetingDays.charAt(i)) && !('T' == meetingDays.charAt(i))
-						&& !('W' == meetingDays.charAt(i)) && !('H' == meetingDays.charAt(i))
-						&& !('F' == meetingDays.charAt(i)) && !('S' == meetingDays.charAt(i))
-						&& !('U' == meetingDays.charAt(i))) {
+				int bit = getDayBit(meetingDays.charAt(i));
+				if (bit == 0 || (mask & bit) != 0) {
 					throw new IllegalArgumentException("Invalid meeting days and times.");
 				}
-			}
-			if (letterCountM > 1 || letterCountT > 1 || letterCountW > 1 || letterCountH > 1 || letterCountF > 1
-					|| letterCountS > 1 || letterCountU > 1) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
+				mask |= bit;
 			}
 			// break apart startTime and endTime into hours and minutes
 			int startHour = startTime / 100;
@@ -199,6 +313,89 @@ public abstract class Activity {
 		this.meetingDays = meetingDays;
 		this.startTime = startTime;
 		this.endTime = endTime;
+		this.meetingDayMask = mask;
+		clearDisplayArrays();
+	}
+
+	/**
+	 * Makes the activity read-only: from now on every setter throws
+	 * UnsupportedOperationException. An activity shared by many readers, such as
+	 * a course in a CourseCatalog, is frozen so none of them can change it under
+	 * the others. An activity can't be unfrozen.
+	 */
+	public final void freeze() {
+		frozen = true;
+	}
+
+	/**
+	 * Checks whether the activity has been frozen.
+	 * 
+	 * @return true if the activity can't be changed
+	 */
+	public final boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Checks that the activity can still be changed. Every setter calls this
+	 * before it checks or changes anything.
+	 * 
+	 * @throws UnsupportedOperationException If the activity has been frozen.
+	 */
+	protected final void checkChangeable() {
+		if (frozen) {
+			throw new UnsupportedOperationException("Activity cannot be changed.");
+		}
+	}
+
+	/**
+	 * Drops the display arrays so they are rebuilt from the new values. Called
+	 * whenever a field changes, after the field is set. The version goes up
+	 * before the arrays are dropped, so an array being built from the old values
+	 * is either dropped here or sees the new version and drops itself.
+	 */
+	protected final void clearDisplayArrays() {
+		fieldVersion++;
+		shortDisplayArray = null;
+		longDisplayArray = null;
+	}
+
+	/**
+	 * Gets the meeting days as a mask of the weekday bits MONDAY through SUNDAY, or
+	 * ARRANGED for an arranged activity. Two activities meet on a common day when
+	 * the AND of their masks has a weekday bit set.
+	 * 
+	 * @return the meeting day mask
+	 */
+	public int getMeetingDayMask() {
+		return meetingDayMask;
+	}
+
+	/**
+	 * Returns the meeting day mask bit for a weekday letter.
+	 * 
+	 * @param day weekday letter (M, T, W, H, F, S, or U)
+	 * @return the day's bit, or 0 if the letter isn't a weekday
+	 */
+	public static int getDayBit(char day) {
+		switch (day) {
+		case 'M':
+			return MONDAY;
+		case 'T':
+			return TUESDAY;
+		case 'W':
+			return WEDNESDAY;
+		case 'H':
+			return THURSDAY;
+		case 'F':
+			return FRIDAY;
+		case 'S':
+			return SATURDAY;
+		case 'U':
+			return SUNDAY;
+		default:
+			return 0;
+		}
 	}
 
 	/**
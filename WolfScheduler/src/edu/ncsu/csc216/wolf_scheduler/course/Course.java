@@ -136,6 +136,7 @@ public class Course extends Activity {
 
 		// if all tests pass, set the variable
 		this.name = name;
+		clearDisplayArrays();
 	}
 
 	/**
@@ -157,8 +158,10 @@ public class Course extends Activity {
 	 *                                  validation criteria: - It is empty or null.
 	 *                                  - It does not contain exactly SECTION_LENGTH
 	 *                                  digits. - It contains non-digit characters.
+	 * @throws UnsupportedOperationException If the activity has been frozen.
 	 */
 	public void setSection(String section) {
+		checkChangeable();
 		// checks for empty or null section string
 		if (isEmptyChecker(section)) {
 			throw new IllegalArgumentException("Invalid section.");
@@ -175,6 +178,7 @@ public class Course extends Activity {
 		}
 		// if flow control not transfered, section gets set
 		this.section = section;
+		clearDisplayArrays();
 	}
 
 	/**
@@ -198,8 +202,10 @@ public class Course extends Activity {
 	 *                                  validation criteria: - It is empty or null.
 	 *                                  - It falls outside the allowable range
 	 *                                  specified by MIN_CREDITS and MAX_CREDITS.
+	 * @throws UnsupportedOperationException If the activity has been frozen.
 	 */
 	public void setCredits(int credits) {
+		checkChangeable();
 		// checks if the credits variable is empty or null
 		if (isEmptyChecker("" + credits)) {
 			throw new IllegalArgumentException("Invalid credits.");
@@ -209,6 +215,7 @@ public class Course extends Activity {
 		}
 		// if flow control is not transfered, credits is set
 		this.credits = credits;
+		clearDisplayArrays();
 	}
 
 	/**
@@ -228,14 +235,17 @@ public class Course extends Activity {
 	 *
 	 * @throws IllegalArgumentException If the provided instructorId is empty or
 	 *                                  null.
+	 * @throws UnsupportedOperationException If the activity has been frozen.
 	 */
 	public void setInstructorId(String instructorId) {
+		checkChangeable();
 		// checks if instructorID is empty or null
 		if (isEmptyChecker(instructorId)) {
 			throw new IllegalArgumentException("Invalid instructor id.");
 		}
 		// if flow control is not transfered, instructorId is set
 		this.instructorId = instructorId;
+		clearDisplayArrays();
 	}
 
 	/**
@@ -274,6 +284,39 @@ public class Course extends Activity {
 		this(name, title, section, credits, instructorId, meetingDays, 0, 0);
 	}
 
+	/**
+	 * Creates a Course for fromValidatedFields() with no fields set.
+	 */
+	private Course() {
+		super();
+	}
+
+	/**
+	 * Creates a Course from values that already passed validation, such as ones
+	 * read back from a catalog snapshot, without checking them again. Arranged
+	 * courses pass a start and end time of 0.
+	 * 
+	 * @param name         name of Course
+	 * @param title        title of Course
+	 * @param section      section of Course
+	 * @param credits      credit hours for Course
+	 * @param instructorId instructor's unity id
+	 * @param meetingDays  meeting days for Course as series of chars
+	 * @param startTime    start time for Course
+	 * @param endTime      end time for Course
+	 * @return a Course holding the given values
+	 */
+	public static Course fromValidatedFields(String name, String title, String section, int credits,
+			String instructorId, String meetingDays, int startTime, int endTime) {
+		Course course = new Course();
+		course.setValidatedFields(title, meetingDays, startTime, endTime);
+		course.name = name;
+		course.section = section;
+		course.credits = credits;
+		course.instructorId = instructorId;
+		return course;
+	}
+
 	/**
 	 * Returns a comma separated value String of all Course fields.
 	 * 
@@ -281,12 +324,24 @@ public class Course extends Activity {
 	 */
 	@Override
 	public String toString() {
-		if ("A".equals(getMeetingDays())) {
-			return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + ","
-					+ getMeetingDays();
+		StringBuilder sb = new StringBuilder();
+		appendRecord(sb);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends all Course fields as comma separated values. Arranged courses leave
+	 * off the start and end times.
+	 * 
+	 * @param sb builder to append the record to
+	 */
+	@Override
+	public void appendRecord(StringBuilder sb) {
+		sb.append(name).append(',').append(getTitle()).append(',').append(section).append(',').append(credits)
+				.append(',').append(instructorId).append(',').append(getMeetingDays());
+		if (!"A".equals(getMeetingDays())) {
+			sb.append(',').append(getStartTime()).append(',').append(getEndTime());
 		}
-		return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + "," + getMeetingDays()
-				+ "," + getStartTime() + "," + getEndTime();
 	}
 
 	/**
@@ -294,9 +349,8 @@ public class Course extends Activity {
 	 * meeting string.
 	 */
 	@Override
-	public String[] getShortDisplayArray() {
-		String[] shortDisplayArray = { getName(), getSection(), getTitle(), getMeetingString() };
-		return shortDisplayArray;
+	protected String[] buildShortDisplayArray() {
+		return new String[] { getName(), getSection(), getTitle(), getMeetingString() };
 	}
 
 	/**
@@ -306,14 +360,14 @@ public class Course extends Activity {
 	 * 
 	 */
 	@Override
-	public String[] getLongDisplayArray() {
-		String[] longDisplayArray = { getName(), getSection(), getTitle(), getCredits() + "", getInstructorId(),
+	protected String[] buildLongDisplayArray() {
+		return new String[] { getName(), getSection(), getTitle(), getCredits() + "", getInstructorId(),
 				getMeetingString(), "" };
-		return longDisplayArray;
 	}
 
 	@Override
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
+		checkChangeable();
 		for (int i = 0; i < meetingDays.length(); i++) {
 			char letter = meetingDays.charAt(i);
 			if (!(letter == 'M' || letter == 'T' || letter == 'W' || letter == 'H' || letter == 'F'
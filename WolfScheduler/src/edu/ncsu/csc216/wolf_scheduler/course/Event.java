@@ -31,12 +31,15 @@ public class Event extends Activity {
 	 *
 	 * @throws IllegalArgumentException If the provided eventDetails is empty or
 	 *                                  null.
+	 * @throws UnsupportedOperationException If the activity has been frozen.
 	 */
 	public void setEventDetails(String eventDetails) {
+		checkChangeable();
 		if (eventDetails == null) {
 			throw new IllegalArgumentException("Invalid event details.");
 		}
 		this.eventDetails = eventDetails;
+		clearDisplayArrays();
 	}
 
 	/**
@@ -49,25 +52,22 @@ public class Event extends Activity {
 	}
 
 	/**
-	 * overrides the getShortDisplayArray method from the activity superclass. only
-	 * shows title and meeting day/time since a custom event would not have a
-	 * meeting day or time
+	 * builds the short display array for the activity superclass. only shows title
+	 * and meeting day/time since a custom event would not have a name or section.
 	 */
 	@Override
-	public String[] getShortDisplayArray() {
-		String[] shortDisplayArray = { "", "", getTitle(), getMeetingString() };
-		return shortDisplayArray;
+	protected String[] buildShortDisplayArray() {
+		return new String[] { "", "", getTitle(), getMeetingString() };
 	}
 
 	/**
-	 * overrides the getLongDisplayArray method from the activity superclass. only
-	 * shows title and meeting day/time since a custom event would not have a
-	 * meeting day or time
+	 * builds the long display array for the activity superclass. only shows title,
+	 * meeting day/time, and details since a custom event would not have a name,
+	 * section, credits, or instructor.
 	 */
 	@Override
-	public String[] getLongDisplayArray() {
-		String[] longDisplayArray = { "", "", getTitle(), "", "", getMeetingString(), getEventDetails() };
-		return longDisplayArray;
+	protected String[] buildLongDisplayArray() {
+		return new String[] { "", "", getTitle(), "", "", getMeetingString(), getEventDetails() };
 	}
 
 	/**
@@ -75,11 +75,24 @@ public class Event extends Activity {
 	 */
 	@Override
 	public String toString() {
-		if ("A".equals(getMeetingDays())) {
-			return getTitle() + "," + getMeetingDays() + "," + getEventDetails();
+		StringBuilder sb = new StringBuilder();
+		appendRecord(sb);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends the title, meeting days, times, and details as comma separated
+	 * values.
+	 * 
+	 * @param sb builder to append the record to
+	 */
+	@Override
+	public void appendRecord(StringBuilder sb) {
+		sb.append(getTitle()).append(',').append(getMeetingDays());
+		if (!"A".equals(getMeetingDays())) {
+			sb.append(',').append(getStartTime()).append(',').append(getEndTime());
 		}
-		return "" + getTitle() + "," + getMeetingDays() + "," + getStartTime() + "," + getEndTime() + ","
-				+ getEventDetails();
+		sb.append(',').append(getEventDetails());
 	}
 
 	/**
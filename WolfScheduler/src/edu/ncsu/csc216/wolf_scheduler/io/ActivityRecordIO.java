@@ -1,9 +1,21 @@
 package edu.ncsu.csc216.wolf_scheduler.io;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 
@@ -15,21 +27,149 @@ import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 public class ActivityRecordIO {
 
 	/**
-	 * Writes a list of activity records to a file.
+	 * Writes activity records to a file, one per line. The records are appended
+	 * to one reused buffer that is encoded and written whenever it fills, so no
+	 * String is built for each record. The file is closed even if writing fails.
 	 *
 	 * @param fileName   The name of the file to which the activity records will be
 	 *                   written.
-	 * @param activities An ArrayList of Activity objects to be written to the file.
+	 * @param activities The activities to be written to the file, in order.
 	 * @throws IOException If an I/O error occurs while writing to the file.
 	 */
-	public static void writeActivityRecords(String fileName, ArrayList<Activity> activities) throws IOException {
-		PrintStream fileWriter = new PrintStream(new File(fileName));
+	public static void writeActivityRecords(String fileName, Iterable<? extends Activity> activities)
+			throws IOException {
+		try (OutputStream out = new FileOutputStream(fileName)) {
+			new ActivityRecordWriter().write(out, activities.iterator());
+		}
+	}
+
+	/**
+	 * Writes activity records from a stream to a file, one per line, in the order
+	 * the stream gives them. The stream is not closed.
+	 *
+	 * @param fileName   The name of the file to which the activity records will be
+	 *                   written.
+	 * @param activities The activities to be written to the file.
+	 * @throws IOException If an I/O error occurs while writing to the file.
+	 */
+	public static void writeActivityRecords(String fileName, Stream<? extends Activity> activities)
+			throws IOException {
+		try (OutputStream out = new FileOutputStream(fileName)) {
+			new ActivityRecordWriter().write(out, activities.iterator());
+		}
+	}
+
+	/**
+	 * Writes many named schedules to one zip archive. Each schedule is an entry
+	 * named after it with a .txt extension, holding the same records
+	 * writeActivityRecords() would write. Entries are in the map's iteration order,
+	 * and one buffer and encoder are used for all of them.
+	 *
+	 * @param fileName  The name of the archive file.
+	 * @param schedules The schedules to write, by name.
+	 * @throws IOException              If an I/O error occurs while writing to the
+	 *                                  file.
+	 * @throws IllegalArgumentException If a schedule name is empty or contains a
+	 *                                  path separator.
+	 */
+	public static void writeScheduleArchive(String fileName,
+			Map<String, ? extends Iterable<? extends Activity>> schedules) throws IOException {
+		checkScheduleNames(schedules);
+		ActivityRecordWriter writer = new ActivityRecordWriter();
+		try (ZipOutputStream zip = new ZipOutputStream(
+				new BufferedOutputStream(new FileOutputStream(fileName), ActivityRecordWriter.BUFFER_SIZE))) {
+			for (Map.Entry<String, ? extends Iterable<? extends Activity>> schedule : schedules.entrySet()) {
+				zip.putNextEntry(new ZipEntry(schedule.getKey() + ".txt"));
+				writer.write(zip, schedule.getValue().iterator());
+				zip.closeEntry();
+			}
+		}
+	}
 
-		for (Activity a : activities) {
-			fileWriter.println(a.toString());
+	/**
+	 * Writes many named schedules to their own files in a directory, named after
+	 * the schedule with a .txt extension. At most the given number of threads
+	 * write at once, and each thread reuses one buffer and encoder for every file
+	 * it writes. If a file can't be written the threads stop taking new schedules
+	 * and the first error is thrown.
+	 *
+	 * @param directory The directory to write the files to. It is created if it
+	 *                  doesn't exist.
+	 * @param schedules The schedules to write, by name.
+	 * @param threads   The most threads to write with.
+	 * @throws IOException              If an I/O error occurs while writing a file,
+	 *                                  or the directory can't be created.
+	 * @throws IllegalArgumentException If threads is less than one, or a schedule
+	 *                                  name is empty or contains a path separator.
+	 */
+	public static void writeScheduleFiles(String directory,
+			Map<String, ? extends Iterable<? extends Activity>> schedules, int threads) throws IOException {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Invalid thread count.");
+		}
+		checkScheduleNames(schedules);
+		File dir = new File(directory);
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Cannot create " + directory);
 		}
+		if (schedules.isEmpty()) {
+			return;
+		}
+		ArrayList<Map.Entry<String, ? extends Iterable<? extends Activity>>> entries = new ArrayList<>(
+				schedules.entrySet());
+		AtomicInteger next = new AtomicInteger();
+		int workers = Math.min(threads, entries.size());
+		ExecutorService pool = Executors.newFixedThreadPool(workers);
+		try {
+			ArrayList<Future<Void>> results = new ArrayList<Future<Void>>();
+			for (int w = 0; w < workers; w++) {
+				results.add(pool.submit(() -> {
+					ActivityRecordWriter writer = new ActivityRecordWriter();
+					for (int i = next.getAndIncrement(); i < entries.size(); i = next.getAndIncrement()) {
+						Map.Entry<String, ? extends Iterable<? extends Activity>> schedule = entries.get(i);
+						try (OutputStream out = new FileOutputStream(new File(dir, schedule.getKey() + ".txt"))) {
+							writer.write(out, schedule.getValue().iterator());
+						} catch (IOException | RuntimeException e) {
+							// no other worker starts a new file after a failure
+							next.set(entries.size());
+							throw e;
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<Void> result : results) {
+				result.get();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while writing schedules.");
+		} finally {
+			pool.shutdownNow();
+		}
+	}
 
-		fileWriter.close();
+	/**
+	 * Checks that every schedule name can be used as a file name.
+	 *
+	 * @param schedules schedules by name
+	 * @throws IllegalArgumentException If a name is null, empty, or contains a
+	 *                                  path separator.
+	 */
+	private static void checkScheduleNames(Map<String, ?> schedules) {
+		for (String name : schedules.keySet()) {
+			if (name == null || name.isEmpty() || name.indexOf('/') >= 0 || name.indexOf('\\') >= 0) {
+				throw new IllegalArgumentException("Invalid schedule name.");
+			}
+		}
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Iterator;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Writes activity records to output streams, one per line, using buffers and a
+ * charset encoder that are kept from one write to the next. A writer can be
+ * reused for any number of files, so a batch export only sets these up once per
+ * thread. It is not safe to share one writer between threads.
+ *
+ * The bytes written are the same as a PrintStream in the default charset would
+ * write, including '?' for characters the charset can't encode.
+ *
+ * @author Kevin John
+ */
+class ActivityRecordWriter {
+
+	/** characters of records collected before they are encoded */
+	static final int BUFFER_SIZE = 1 << 16;
+	/** size of the encoded byte buffer, which is drained as often as it fills */
+	private static final int BYTE_BUFFER_SIZE = 1 << 13;
+
+	/** records waiting to be encoded */
+	private final StringBuilder records;
+	/** records copied out of the builder for the encoder */
+	private char[] chars;
+	/** encoded bytes waiting to be written */
+	private final ByteBuffer bytes;
+	/** encoder for the default charset */
+	private final CharsetEncoder encoder;
+	/** line separator written after each record */
+	private final String newLine;
+
+	/**
+	 * Creates a writer for the default charset.
+	 */
+	ActivityRecordWriter() {
+		// the buffers start small and grow to fit, so a writer used for one short
+		// schedule stays cheap
+		records = new StringBuilder();
+		chars = new char[0];
+		encoder = Charset.defaultCharset().newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		bytes = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+		newLine = System.lineSeparator();
+	}
+
+	/**
+	 * Writes each activity's record and a line separator to the stream. The
+	 * stream is not closed.
+	 *
+	 * @param out        stream to write to
+	 * @param activities activities to write, in order
+	 * @throws IOException If an I/O error occurs while writing.
+	 */
+	void write(OutputStream out, Iterator<? extends Activity> activities) throws IOException {
+		records.setLength(0);
+		encoder.reset();
+		while (activities.hasNext()) {
+			activities.next().appendRecord(records);
+			records.append(newLine);
+			if (records.length() >= BUFFER_SIZE) {
+				encode(out, false);
+			}
+		}
+		encode(out, true);
+	}
+
+	/**
+	 * Encodes the collected records and writes the bytes. Records always end in a
+	 * line separator, so nothing should be left over, but anything the encoder
+	 * doesn't take is kept for the next call rather than dropped.
+	 *
+	 * @param out  stream to write to
+	 * @param last true if no more records follow
+	 * @throws IOException If an I/O error occurs while writing.
+	 */
+	private void encode(OutputStream out, boolean last) throws IOException {
+		int length = records.length();
+		if (length > chars.length) {
+			chars = new char[length];
+		}
+		records.getChars(0, length, chars, 0);
+		CharBuffer in = CharBuffer.wrap(chars, 0, length);
+		CoderResult result = encoder.encode(in, bytes, last);
+		while (result.isOverflow()) {
+			drain(out);
+			result = encoder.encode(in, bytes, last);
+		}
+		if (last) {
+			while (encoder.flush(bytes).isOverflow()) {
+				drain(out);
+			}
+		}
+		drain(out);
+		records.setLength(0);
+		records.append(chars, in.position(), in.remaining());
+	}
+
+	/**
+	 * Writes out the encoded bytes and empties the byte buffer.
+	 *
+	 * @param out stream to write to
+	 * @throws IOException If an I/O error occurs while writing.
+	 */
+	private void drain(OutputStream out) throws IOException {
+		out.write(bytes.array(), 0, bytes.position());
+		bytes.clear();
+	}
+}
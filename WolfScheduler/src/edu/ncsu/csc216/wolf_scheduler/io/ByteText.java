@@ -0,0 +1,67 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Lets CourseLineParser read course lines straight out of a ByteBuffer, such as
+ * a memory-mapped file, without decoding the whole buffer first. Each byte is
+ * read as one character, which is only right for ASCII text, so callers must
+ * decode lines holding other bytes themselves. Sub sequences are decoded with
+ * the given charset, so tokens come out the same as a Scanner would read them.
+ * 
+ * @author Kevin John
+ */
+class ByteText implements CharSequence {
+
+	/** bytes being read */
+	private final ByteBuffer buffer;
+	/** charset used to turn bytes into Strings */
+	private final Charset charset;
+
+	/**
+	 * Creates a view over all bytes in the buffer up to its limit.
+	 * 
+	 * @param buffer  bytes to read
+	 * @param charset charset used to decode tokens
+	 */
+	ByteText(ByteBuffer buffer, Charset charset) {
+		this.buffer = buffer;
+		this.charset = charset;
+	}
+
+	/**
+	 * Returns the byte at the given index.
+	 * 
+	 * @param index index of the byte
+	 * @return the raw byte value, from -128 to 127
+	 */
+	byte byteAt(int index) {
+		return buffer.get(index);
+	}
+
+	@Override
+	public int length() {
+		return buffer.limit();
+	}
+
+	@Override
+	public char charAt(int index) {
+		return (char) (buffer.get(index) & 0xff);
+	}
+
+	/**
+	 * Decodes the bytes between start and end into a String.
+	 */
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		byte[] bytes = new byte[end - start];
+		buffer.get(start, bytes);
+		return new String(bytes, charset);
+	}
+
+	@Override
+	public String toString() {
+		return subSequence(0, length()).toString();
+	}
+}
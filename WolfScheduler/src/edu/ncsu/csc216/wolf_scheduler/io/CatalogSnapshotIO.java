@@ -0,0 +1,222 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Reads and writes catalog snapshots: a binary copy of a catalog whose Courses
+ * were already validated. Loading a snapshot skips parsing and validation, so it
+ * is much faster than reading the text catalog again.
+ * 
+ * A snapshot starts with the 4 magic bytes 0x89 'W' 'S' 'C' and a version
+ * number. Every distinct String is stored once in a table, and each course is
+ * stored as table indexes for its name, title, section, instructor id, and
+ * meeting days, followed by its credits, start time, and end time. The file
+ * ends with a CRC32 of everything before it.
+ * 
+ * @author Kevin John
+ */
+public class CatalogSnapshotIO {
+
+	/** bytes every snapshot starts with. 0x89 can't start a valid text catalog */
+	private static final byte[] MAGIC = { (byte) 0x89, 'W', 'S', 'C' };
+	/** version of the format written by this class */
+	private static final int VERSION = 1;
+	/** fewest bytes a String in the table takes: its length */
+	private static final int STRING_BYTES = Integer.BYTES;
+	/** bytes a course takes: five table indexes, credits, start and end time */
+	private static final int COURSE_BYTES = 5 * Integer.BYTES + 1 + 2 * Short.BYTES;
+
+	/**
+	 * Writes the courses to a snapshot file.
+	 * 
+	 * @param fileName file to write the snapshot to
+	 * @param courses  validated courses, in catalog order
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void writeCatalogSnapshot(String fileName, List<Course> courses) throws IOException {
+		// give every distinct String an index in the table
+		HashMap<String, Integer> indexes = new HashMap<String, Integer>();
+		ArrayList<String> strings = new ArrayList<String>();
+		for (Course c : courses) {
+			addString(c.getName(), indexes, strings);
+			addString(c.getTitle(), indexes, strings);
+			addString(c.getSection(), indexes, strings);
+			addString(c.getInstructorId(), indexes, strings);
+			addString(c.getMeetingDays(), indexes, strings);
+		}
+
+		CRC32 crc = new CRC32();
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new CheckedOutputStream(new FileOutputStream(fileName), crc)))) {
+			out.write(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(strings.size());
+			for (String s : strings) {
+				byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			out.writeInt(courses.size());
+			for (Course c : courses) {
+				out.writeInt(indexes.get(c.getName()));
+				out.writeInt(indexes.get(c.getTitle()));
+				out.writeInt(indexes.get(c.getSection()));
+				out.writeInt(indexes.get(c.getInstructorId()));
+				out.writeInt(indexes.get(c.getMeetingDays()));
+				out.writeByte(c.getCredits());
+				out.writeShort(c.getStartTime());
+				out.writeShort(c.getEndTime());
+			}
+			out.flush();
+			// the checksum covers everything written so far
+			out.writeLong(crc.getValue());
+		}
+	}
+
+	/**
+	 * Reads the courses from a snapshot file. The courses are not validated again.
+	 * 
+	 * The counts and lengths in the file are checked against the bytes left
+	 * before anything is allocated for them, so a damaged file that still passes
+	 * the checksum is rejected rather than exhausting memory, and so is one with
+	 * bytes left over after the last course.
+	 * 
+	 * @param fileName file to read the snapshot from
+	 * @return the courses, in the order they were written
+	 * @throws IOException if the file cannot be read or is not a valid snapshot
+	 */
+	public static ArrayList<Course> readCatalogSnapshot(String fileName) throws IOException {
+		byte[] data = Files.readAllBytes(Paths.get(fileName));
+		if (!startsWithMagic(data, data.length)) {
+			throw new IOException("Not a catalog snapshot.");
+		}
+		if (data.length < MAGIC.length + 4 + Long.BYTES) {
+			throw new IOException("Corrupt catalog snapshot.");
+		}
+		ByteBuffer in = ByteBuffer.wrap(data);
+		in.position(MAGIC.length);
+		int version = in.getInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported catalog snapshot version " + version + ".");
+		}
+		int bodyLength = data.length - Long.BYTES;
+		CRC32 crc = new CRC32();
+		crc.update(data, 0, bodyLength);
+		if (crc.getValue() != in.getLong(bodyLength)) {
+			throw new IOException("Corrupt catalog snapshot.");
+		}
+
+		// the body ends where the checksum starts
+		in.limit(bodyLength);
+		try {
+			String[] strings = new String[readCount(in, STRING_BYTES)];
+			for (int i = 0; i < strings.length; i++) {
+				int length = readCount(in, 1);
+				strings[i] = new String(data, in.position(), length, StandardCharsets.UTF_8);
+				in.position(in.position() + length);
+			}
+			int count = readCount(in, COURSE_BYTES);
+			ArrayList<Course> courses = new ArrayList<Course>(count);
+			for (int i = 0; i < count; i++) {
+				String name = strings[in.getInt()];
+				String title = strings[in.getInt()];
+				String section = strings[in.getInt()];
+				String instructorId = strings[in.getInt()];
+				String meetingDays = strings[in.getInt()];
+				int credits = in.get();
+				int startTime = in.getShort();
+				int endTime = in.getShort();
+				courses.add(Course.fromValidatedFields(name, title, section, credits, instructorId, meetingDays,
+						startTime, endTime));
+			}
+			if (in.hasRemaining()) {
+				throw new IOException("Corrupt catalog snapshot.");
+			}
+			return courses;
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+			throw new IOException("Corrupt catalog snapshot.", e);
+		}
+	}
+
+	/**
+	 * Reads a count of items and checks that there are enough bytes left for
+	 * that many.
+	 * 
+	 * @param in        the body of the snapshot
+	 * @param itemBytes fewest bytes each item takes
+	 * @return the count
+	 * @throws IOException if the count is negative or more than the bytes left
+	 *                     can hold
+	 */
+	private static int readCount(ByteBuffer in, int itemBytes) throws IOException {
+		int count = in.getInt();
+		if (count < 0 || count > in.remaining() / itemBytes) {
+			throw new IOException("Corrupt catalog snapshot.");
+		}
+		return count;
+	}
+
+	/**
+	 * Checks whether a file is a catalog snapshot by looking at its first bytes.
+	 * 
+	 * @param fileName file to check
+	 * @return true if the file starts like a snapshot
+	 * @throws IOException if the file cannot be read
+	 */
+	public static boolean isCatalogSnapshot(String fileName) throws IOException {
+		try (FileInputStream in = new FileInputStream(fileName)) {
+			byte[] start = new byte[MAGIC.length];
+			int read = in.readNBytes(start, 0, start.length);
+			return startsWithMagic(start, read);
+		}
+	}
+
+	/**
+	 * Checks whether the bytes start with MAGIC.
+	 * 
+	 * @param data   bytes to check
+	 * @param length number of bytes of data that are filled in
+	 * @return true if data starts with MAGIC
+	 */
+	private static boolean startsWithMagic(byte[] data, int length) {
+		if (length < MAGIC.length) {
+			return false;
+		}
+		for (int i = 0; i < MAGIC.length; i++) {
+			if (data[i] != MAGIC[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a String to the table if it is not there yet.
+	 * 
+	 * @param s       String to add
+	 * @param indexes index of every String in the table
+	 * @param strings the table
+	 */
+	private static void addString(String s, HashMap<String, Integer> indexes, ArrayList<String> strings) {
+		if (!indexes.containsKey(s)) {
+			indexes.put(s, strings.size());
+			strings.add(s);
+		}
+	}
+}
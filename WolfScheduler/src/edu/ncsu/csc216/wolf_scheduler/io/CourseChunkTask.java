@@ -0,0 +1,92 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.util.ArrayList;
+import java.util.concurrent.RecursiveTask;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Parses a range of course record lines on a fork-join pool. Ranges larger than
+ * the chunk size are split in two at a line break and parsed in parallel. The
+ * Courses from each half are joined back in file order, so the result is the
+ * same list CourseRecordIO.readLines() builds for the whole range, duplicates
+ * included.
+ * 
+ * @author Kevin John
+ */
+class CourseChunkTask extends RecursiveTask<ArrayList<Course>> {
+
+	/** ID used for object serialization */
+	private static final long serialVersionUID = 1L;
+	/** default chunk size: ranges at or below this many bytes aren't split */
+	static final int CHUNK_BYTES = 1 << 20;
+
+	/** bytes holding the lines */
+	private final transient ByteText text;
+	/** index of the first byte in the range */
+	private final int start;
+	/** index just past the last byte in the range */
+	private final int end;
+	/** ranges at or below this many bytes are parsed without splitting */
+	private final int chunkBytes;
+
+	/**
+	 * Creates a task for the lines between start and end. start must be the
+	 * beginning of a line and end must be the end of one.
+	 * 
+	 * @param text  bytes holding the lines
+	 * @param start index of the first byte in the range
+	 * @param end   index just past the last byte in the range
+	 */
+	CourseChunkTask(ByteText text, int start, int end) {
+		this(text, start, end, CHUNK_BYTES);
+	}
+
+	/**
+	 * Creates a task for the lines between start and end that splits ranges
+	 * larger than the given chunk size.
+	 * 
+	 * @param text       bytes holding the lines
+	 * @param start      index of the first byte in the range
+	 * @param end        index just past the last byte in the range
+	 * @param chunkBytes ranges at or below this many bytes aren't split
+	 */
+	CourseChunkTask(ByteText text, int start, int end, int chunkBytes) {
+		this.text = text;
+		this.start = start;
+		this.end = end;
+		this.chunkBytes = chunkBytes;
+	}
+
+	@Override
+	protected ArrayList<Course> compute() {
+		int split = end - start > chunkBytes ? lineBreakAfter(start + (end - start) / 2) : -1;
+		if (split < 0) {
+			ArrayList<Course> courses = new ArrayList<Course>();
+			CourseRecordIO.readLines(text, start, end, new CourseLineParser(), courses);
+			return courses;
+		}
+		CourseChunkTask right = new CourseChunkTask(text, split, end, chunkBytes);
+		right.fork();
+		ArrayList<Course> courses = new CourseChunkTask(text, start, split, chunkBytes).compute();
+		courses.addAll(right.join());
+		return courses;
+	}
+
+	/**
+	 * Finds where the line holding the given index ends.
+	 * 
+	 * @param from index to start searching at
+	 * @return index just past the first line break at or after from, or -1 if
+	 *         the range has no line break there
+	 */
+	private int lineBreakAfter(int from) {
+		for (int i = from; i < end - 1; i++) {
+			byte b = text.byteAt(i);
+			if (b == '\n' || b == '\r') {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+}
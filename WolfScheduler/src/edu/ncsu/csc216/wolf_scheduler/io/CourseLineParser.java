@@ -0,0 +1,197 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Parses one course record line into a Course without building a Scanner for
+ * each line. Lines that cannot be parsed are reported with a result code
+ * instead of an exception. The tokens are read the same way a Scanner with a
+ * "," delimiter reads them, so the same lines are accepted and rejected.
+ * 
+ * @author Kevin John
+ */
+class CourseLineParser {
+
+	/** the line was parsed into a course */
+	static final int OK = 0;
+	/** the line ran out of tokens before the course was complete */
+	static final int MISSING_TOKEN = 1;
+	/** a credits or time token is not an integer */
+	static final int BAD_NUMBER = 2;
+	/** the line has tokens after the last field */
+	static final int EXTRA_TOKEN = 3;
+	/** the fields were read but do not make a valid course */
+	static final int INVALID_COURSE = 4;
+
+	/** text holding the line being parsed */
+	private CharSequence text;
+	/** position of the next character to read */
+	private int pos;
+	/** position just past the end of the line */
+	private int end;
+	/** start of the last token read */
+	private int tokenStart;
+	/** end of the last token read */
+	private int tokenEnd;
+	/** value of the last integer token read */
+	private int number;
+	/** course from the last line that parsed */
+	private Course course;
+
+	/**
+	 * Parses a whole line.
+	 * 
+	 * @param line course record line
+	 * @return OK or one of the error result codes
+	 */
+	int parse(CharSequence line) {
+		return parse(line, 0, line.length());
+	}
+
+	/**
+	 * Parses the line between start and end in a larger piece of text.
+	 * 
+	 * @param text  text holding the line
+	 * @param start index of the first character of the line
+	 * @param end   index just past the last character of the line
+	 * @return OK or one of the error result codes
+	 */
+	int parse(CharSequence text, int start, int end) {
+		this.text = text;
+		this.pos = start;
+		this.end = end;
+		this.course = null;
+
+		if (!nextToken()) {
+			return MISSING_TOKEN;
+		}
+		String name = token();
+		if (!nextToken()) {
+			return MISSING_TOKEN;
+		}
+		String title = token();
+		if (!nextToken()) {
+			return MISSING_TOKEN;
+		}
+		String section = token();
+		int result = nextInt();
+		if (result != OK) {
+			return result;
+		}
+		int credits = number;
+		if (!nextToken()) {
+			return MISSING_TOKEN;
+		}
+		String instructorId = token();
+		if (!nextToken()) {
+			return MISSING_TOKEN;
+		}
+		String meetingDays = token();
+
+		int startTime = 0;
+		int endTime = 0;
+		if (!"A".equals(meetingDays)) {
+			result = nextInt();
+			if (result != OK) {
+				return result;
+			}
+			startTime = number;
+			result = nextInt();
+			if (result != OK) {
+				return result;
+			}
+			endTime = number;
+		}
+		// a Scanner would still find another token here
+		if (nextToken()) {
+			return EXTRA_TOKEN;
+		}
+
+		try {
+			course = new Course(name, title, section, credits, instructorId, meetingDays, startTime, endTime);
+		} catch (IllegalArgumentException e) {
+			return INVALID_COURSE;
+		}
+		return OK;
+	}
+
+	/**
+	 * Returns the course from the last line that parsed.
+	 * 
+	 * @return the course, or null if the last line did not parse
+	 */
+	Course getCourse() {
+		return course;
+	}
+
+	/**
+	 * Finds the next token. Like Scanner, a single comma is skipped first and the
+	 * token runs up to the next comma, so two commas in a row give an empty token
+	 * and a comma at the very end gives no token.
+	 * 
+	 * @return true if there was another token
+	 */
+	private boolean nextToken() {
+		if (pos < end && text.charAt(pos) == ',') {
+			pos++;
+		}
+		if (pos >= end) {
+			return false;
+		}
+		tokenStart = pos;
+		while (pos < end && text.charAt(pos) != ',') {
+			pos++;
+		}
+		tokenEnd = pos;
+		return true;
+	}
+
+	/**
+	 * Returns the last token as a String.
+	 * 
+	 * @return the token
+	 */
+	private String token() {
+		return text.subSequence(tokenStart, tokenEnd).toString();
+	}
+
+	/**
+	 * Reads the next token as an integer into number. Accepts what Scanner.nextInt
+	 * accepts: an optional sign followed by decimal digits that fit in an int.
+	 * 
+	 * @return OK, MISSING_TOKEN, or BAD_NUMBER
+	 */
+	private int nextInt() {
+		if (!nextToken()) {
+			return MISSING_TOKEN;
+		}
+		int i = tokenStart;
+		boolean negative = false;
+		if (i < tokenEnd && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+			negative = text.charAt(i) == '-';
+			i++;
+		}
+		if (i == tokenEnd) {
+			return BAD_NUMBER;
+		}
+		long value = 0;
+		for (; i < tokenEnd; i++) {
+			int digit = Character.digit(text.charAt(i), 10);
+			if (digit < 0) {
+				return BAD_NUMBER;
+			}
+			value = value * 10 + digit;
+			if (value > (long) Integer.MAX_VALUE + 1) {
+				return BAD_NUMBER;
+			}
+		}
+		if (negative) {
+			value = -value;
+		}
+		if (value > Integer.MAX_VALUE) {
+			return BAD_NUMBER;
+		}
+		number = (int) value;
+		return OK;
+	}
+}
@@ -5,8 +5,15 @@ package edu.ncsu.csc216.wolf_scheduler.io;
 
 import java.io.FileNotFoundException;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 
@@ -18,6 +25,13 @@ import edu.ncsu.csc216.wolf_scheduler.course.Course;
  */
 public class CourseRecordIO {
 
+	/**
+	 * largest piece of a file mapped into memory at once, kept well under the 2GB
+	 * a single mapping can hold so an index one past the end of a piece still fits
+	 * in an int
+	 */
+	static final long MAX_MAPPED_BYTES = 1L << 30;
+
 	/**
 	 * Reads course records from a file and generates a list of valid Courses. Any
 	 * invalid Courses are ignored. If the file to read cannot be found or the
@@ -30,34 +44,15 @@ public class CourseRecordIO {
 	public static ArrayList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
 		Scanner fileReader = new Scanner(new FileInputStream(fileName)); // Create a file scanner to read the file
 		ArrayList<Course> courses = new ArrayList<Course>(); // Create an empty array of Course objects
+		// Name and section of every course already in the list, so duplicates are found
+		// without searching the list
+		HashSet<String> seen = new HashSet<String>();
+		// One parser is reused for every line instead of building a Scanner per line
+		CourseLineParser parser = new CourseLineParser();
 		while (fileReader.hasNextLine()) { // While we have more lines in the file
-			try { // Attempt to do the following
-					// Read the line, process it in readCourse, and get the object
-					// If trying to construct a Course in readCourse() results in an exception, flow
-					// of control will transfer to the catch block, below
-				Course course = readCourse(fileReader.nextLine());
-				// System.out.println(courses.size());
-				// Create a flag to see if the newly created Course is a duplicate of something
-				// already in the list
-				boolean duplicate = false;
-				// Look at all the courses in our list
-				for (int i = 0; i < courses.size(); i++) {
-					// Get the course at index i
-					Course current = courses.get(i);
-					// Check if the name and section are the same
-					if (course.getName().equals(current.getName())
-							&& course.getSection().equals(current.getSection())) {
-						// It's a duplicate!
-						duplicate = true;
-						break; // We can break out of the loop, no need to continue searching
-					}
-				}
-				// If the course is NOT a duplicate
-				if (!duplicate) {
-					courses.add(course); // Add to the ArrayList!
-				} // Otherwise ignore
-			} catch (IllegalArgumentException e) {
-				// The line is invalid b/c we couldn't create a course, skip it!
+			// Read the line and parse it. Lines that aren't a valid Course are skipped.
+			if (parser.parse(fileReader.nextLine()) == CourseLineParser.OK) {
+				addCourse(courses, seen, parser.getCourse());
 			}
 		}
 		// Close the Scanner b/c we're responsible with our file handles
@@ -67,94 +62,237 @@ public class CourseRecordIO {
 	}
 
 	/**
-	 * Reads course information from a file and creates a Course object.
-	 *
-	 * @param fileName The name of the file containing course information.
-	 * @return A Course object constructed from the information in the file.
-	 * @throws FileNotFoundException    If the specified file cannot be found.
-	 * @throws IllegalArgumentException If the input format in the file is invalid
-	 *                                  or if there are any other exceptions during
-	 *                                  file reading.
+	 * Reads course records the same way as readCourseRecords(), but memory-maps the
+	 * file and parses the records straight from the mapped bytes instead of
+	 * decoding the file through a Scanner. Meant for very large catalog files.
+	 * 
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
 	 */
-	private static Course readCourse(String fileName) throws FileNotFoundException {
-		try {
-			// construct Scanner to process the line parameter
-			Scanner fileReader = new Scanner(fileName);
-
-			// set the delimiter to ","
-			fileReader.useDelimiter(",");
+	public static ArrayList<Course> readCourseRecordsMapped(String fileName) throws FileNotFoundException {
+		return readMapped(fileName, null, MAX_MAPPED_BYTES, MAX_MAPPED_BYTES, CourseChunkTask.CHUNK_BYTES);
+	}
 
-			// read in read in tokens for name, title, section, credits, instructorId, and
-			// meetingDays and store in local variables
-			String name = fileReader.next();
-			String title = fileReader.next();
-			String section = fileReader.next();
-			int credits = fileReader.nextInt();
-			String instructorId = fileReader.next();
-			String meetingDays = fileReader.next();
+	/**
+	 * Reads course records the same way as readCourseRecords(), but parses the
+	 * memory-mapped file in line-aligned chunks on the common fork-join pool. The
+	 * chunks are joined in file order before duplicates are removed, so the first
+	 * record still wins.
+	 * 
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static ArrayList<Course> readCourseRecordsParallel(String fileName) throws FileNotFoundException {
+		return readMapped(fileName, ForkJoinPool.commonPool(), MAX_MAPPED_BYTES, MAX_MAPPED_BYTES,
+				CourseChunkTask.CHUNK_BYTES);
+	}
 
-			if ("A".equals(meetingDays)) {
-				// If meetingDays is "A", check if there are more tokens
-				if (fileReader.hasNext()) {
-					fileReader.close();
-					throw new IllegalArgumentException("Invalid input format");
+	/**
+	 * Memory-maps the file a piece at a time and reads the course records from it.
+	 * Each piece ends after its last line break, and the next piece starts there,
+	 * so a line that crosses the end of a piece is read whole from the next one. A
+	 * piece holding no line break at all is part of a line longer than the piece,
+	 * so it is mapped again at twice the size until the line ends, up to
+	 * maxPieceBytes. A longer line can't be a course, so, as with
+	 * readCourseRecords(), the whole line is skipped up to its line break rather
+	 * than cut, so no part of it is read as a record of its own.
+	 * 
+	 * @param fileName      file to read Course records from
+	 * @param pool          pool used to parse chunks in parallel, or null to parse
+	 *                      on the calling thread
+	 * @param pieceBytes    size of each piece mapped, at most maxPieceBytes
+	 * @param maxPieceBytes largest piece mapped, at most MAX_MAPPED_BYTES
+	 * @param chunkBytes    largest range of a piece parsed by one task of the pool
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	static ArrayList<Course> readMapped(String fileName, ForkJoinPool pool, long pieceBytes, long maxPieceBytes,
+			int chunkBytes) throws FileNotFoundException {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		HashSet<String> seen = new HashSet<String>();
+		CourseLineParser parser = new CourseLineParser();
+		ArrayList<Course> read = new ArrayList<Course>();
+		try (RandomAccessFile file = new RandomAccessFile(fileName, "r")) {
+			FileChannel channel = file.getChannel();
+			long size = channel.size();
+			long position = 0;
+			// true while skipping the rest of a line longer than maxPieceBytes
+			boolean skipping = false;
+			// a single mapping can't be larger than 2GB, so bigger files are mapped a piece
+			// at a time
+			while (position < size) {
+				long length = Math.min(size - position, pieceBytes);
+				ByteText text = map(channel, position, length);
+				if (skipping) {
+					int first = firstLineBreak(text);
+					if (first >= 0) {
+						skipping = false;
+						position += first + 1;
+					} else {
+						position += length;
+					}
+					continue;
+				}
+				int end = (int) length;
+				while (position + length < size) {
+					// end this piece after its last line break so no line is cut in two
+					int last = lastLineBreak(text);
+					if (last >= 0) {
+						end = last + 1;
+						break;
+					}
+					if (length >= maxPieceBytes) {
+						skipping = true;
+						break;
+					}
+					length = Math.min(size - position, Math.min(length * 2, maxPieceBytes));
+					text = map(channel, position, length);
+					end = (int) length;
+				}
+				if (skipping) {
+					position += length;
+					continue;
+				}
+				if (pool == null) {
+					read.clear();
+					readLines(text, 0, end, parser, read);
 				} else {
-					// Return a newly constructed Course object
-					fileReader.close();
-					return new Course(name, title, section, credits, instructorId, meetingDays);
+					read = pool.invoke(new CourseChunkTask(text, 0, end, chunkBytes));
+				}
+				for (Course course : read) {
+					addCourse(courses, seen, course);
 				}
-			} else {
-				// Read tokens for startTime and endTime
-				int startTime = fileReader.nextInt();
-				int endTime = fileReader.nextInt();
+				position += end;
+			}
+		} catch (FileNotFoundException e) {
+			throw e;
+		} catch (IOException e) {
+			FileNotFoundException notRead = new FileNotFoundException("Cannot read " + fileName);
+			notRead.initCause(e);
+			throw notRead;
+		}
+		return courses;
+	}
 
-				// If there are more tokens, throw an exception
-				if (fileReader.hasNext()) {
-					fileReader.close();
-					throw new IllegalArgumentException("Invalid input format");
-				} else {
-					// Return a newly constructed Course object
-					fileReader.close();
-					return new Course(name, title, section, credits, instructorId, meetingDays, startTime, endTime);
+	/**
+	 * Maps part of a file for reading.
+	 * 
+	 * @param channel  channel of the file
+	 * @param position index of the first byte to map
+	 * @param length   number of bytes to map
+	 * @return the mapped bytes
+	 * @throws IOException if the file can't be mapped
+	 */
+	private static ByteText map(FileChannel channel, long position, long length) throws IOException {
+		return new ByteText(channel.map(MapMode.READ_ONLY, position, length), Charset.defaultCharset());
+	}
+
+	/**
+	 * Parses every line between start and end and adds the valid Courses to the
+	 * list in file order. Duplicates are not removed. Lines are split the way
+	 * Scanner.nextLine() splits them.
+	 * 
+	 * @param text    bytes holding the lines
+	 * @param start   index of the first byte to read
+	 * @param end     index just past the last byte to read
+	 * @param parser  parser to use for each line
+	 * @param courses list the valid Courses are added to
+	 */
+	static void readLines(ByteText text, int start, int end, CourseLineParser parser, ArrayList<Course> courses) {
+		int lineStart = start;
+		boolean ascii = true;
+		for (int i = start; i < end; i++) {
+			byte b = text.byteAt(i);
+			if (b == '\n' || b == '\r') {
+				readLine(text, lineStart, i, ascii, parser, courses);
+				lineStart = i + 1;
+				ascii = true;
+			} else if (b < 0) {
+				ascii = false;
+			}
+		}
+		readLine(text, lineStart, end, ascii, parser, courses);
+	}
+
+	/**
+	 * Parses one line and adds it to the list if it is a valid Course.
+	 * 
+	 * @param text    bytes holding the line
+	 * @param start   index of the first byte of the line
+	 * @param end     index of the line break, or just past the last byte
+	 * @param ascii   true if every byte of the line is ASCII
+	 * @param parser  parser to use
+	 * @param courses list the Course is added to
+	 */
+	private static void readLine(ByteText text, int start, int end, boolean ascii, CourseLineParser parser,
+			ArrayList<Course> courses) {
+		// empty lines, like the one between \r and \n, are never valid courses
+		if (end <= start) {
+			return;
+		}
+		if (ascii) {
+			if (parser.parse(text, start, end) == CourseLineParser.OK) {
+				courses.add(parser.getCourse());
+			}
+		} else {
+			// decode the line and split it again on the line separators Scanner
+			// also treats as line breaks
+			String line = text.subSequence(start, end).toString();
+			for (String part : line.split("[\\u2028\\u2029\\u0085]")) {
+				if (parser.parse(part) == CourseLineParser.OK) {
+					courses.add(parser.getCourse());
 				}
 			}
-		} catch (Exception e) {
-			// Catch any exceptions and throw a new IllegalArgumentException
-			throw new IllegalArgumentException("Invalid input format", e);
 		}
+	}
 
-//		try {
-//			Scanner fileReader = new Scanner(fileName);
-//			fileReader.useDelimiter(",");
-//			String courseCode = fileReader.next();
-//			String description = fileReader.next();
-//			String section = fileReader.next();
-//			int hours = fileReader.nextInt();
-//			String instructorID = fileReader.next();
-//			String meetingDays = fileReader.next();
-//			if (("A").equals(meetingDays) && !fileReader.hasNext()) {
-//				
-//				fileReader.close();
-//				
-//				return new Course (courseCode, description, section, hours, instructorID, meetingDays);
-//
-//			} else if (("A").equals(meetingDays) && fileReader.hasNext()){
-//				fileReader.close();
-//				throw new IllegalArgumentException("Invalid input format");
-//			}
-//			
-//			int startTime = fileReader.nextInt();
-//			int endTime = fileReader.nextInt();
-//			
-//			fileReader.close();
-//			
-//			return new Course (courseCode, description, section, hours, instructorID, meetingDays, startTime, endTime);
-//			
-//		
-//		} catch (Exception e) {
-//			// Catch any exceptions and throw a new IllegalArgumentException
-//			throw new IllegalArgumentException("Invalid input format", e);
-//		}
+	/**
+	 * Finds the first line break in the text.
+	 * 
+	 * @param text text to search
+	 * @return index of the first '\n' or '\r', or -1 if there isn't one
+	 */
+	private static int firstLineBreak(ByteText text) {
+		for (int i = 0; i < text.length(); i++) {
+			byte b = text.byteAt(i);
+			if (b == '\n' || b == '\r') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the last line break in the text.
+	 * 
+	 * @param text text to search
+	 * @return index of the last '\n' or '\r', or -1 if there isn't one
+	 */
+	private static int lastLineBreak(ByteText text) {
+		for (int i = text.length() - 1; i >= 0; i--) {
+			byte b = text.byteAt(i);
+			if (b == '\n' || b == '\r') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds the course to the list unless a course with the same name and section
+	 * is already there, so the first record wins. Names and sections can't hold a
+	 * comma, so the key is unique.
+	 * 
+	 * @param courses list of courses read so far
+	 * @param seen    name and section of every course in the list
+	 * @param course  course to add
+	 */
+	private static void addCourse(ArrayList<Course> courses, HashSet<String> seen, Course course) {
+		if (seen.add(course.getName() + "," + course.getSection())) {
+			courses.add(course);
+		}
 	}
 
 }
@@ -0,0 +1,226 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Keeps track of the minutes taken on each weekday by the activities on a
+ * schedule, so a new activity can be checked for a time conflict without
+ * comparing it to every activity already on the schedule. Each weekday is a
+ * bitset with one bit per minute. An activity takes every minute from its start
+ * time through its end time, so one that starts the minute another ends
+ * conflicts with it. Arranged activities never conflict.
+ * 
+ * Activities on a schedule can overlap, so each minute also counts the
+ * activities that take it. Removing an activity counts its minutes down and
+ * clears the bits that reach zero, so add and remove both cost the minutes of
+ * the one activity, however many are on the schedule.
+ * 
+ * @author Kevin John
+ */
+public class ConflictChecker {
+
+	/** number of weekdays */
+	private static final int DAYS = 7;
+	/** minutes in a day */
+	private static final int MINUTES_PER_DAY = 24 * 60;
+	/** longs needed to hold a bit for every minute of a day */
+	private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + 63) / 64;
+
+	/** minutes taken on each weekday, one bit per minute */
+	private final long[][] taken = new long[DAYS][WORDS_PER_DAY];
+	/** number of activities taking each minute of each weekday */
+	private final int[][] counts = new int[DAYS][MINUTES_PER_DAY];
+	/** activities that have been added, with the times they were added with */
+	private final ArrayList<Entry> entries = new ArrayList<Entry>();
+	/** entry of each activity added, by identity */
+	private final IdentityHashMap<Activity, Entry> byActivity = new IdentityHashMap<Activity, Entry>();
+
+	/**
+	 * Finds an activity already added that meets at the same time as the given
+	 * one.
+	 * 
+	 * @param activity activity to check
+	 * @return a conflicting activity, or null if there is no conflict
+	 */
+	public Activity findConflict(Activity activity) {
+		int days = activity.getMeetingDayMask() & Activity.WEEKDAYS;
+		if (days == 0) {
+			return null;
+		}
+		int start = toMinutes(activity.getStartTime());
+		int end = toMinutes(activity.getEndTime());
+		boolean conflict = false;
+		for (int day = 0; day < DAYS && !conflict; day++) {
+			if ((days & (1 << day)) != 0) {
+				conflict = anySet(taken[day], start, end);
+			}
+		}
+		if (!conflict) {
+			return null;
+		}
+		// only reached on a conflict, so scanning the entries to name it is fine
+		for (Entry e : entries) {
+			if ((e.days & days) != 0 && e.start <= end && start <= e.end) {
+				return e.activity;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Marks the activity's meeting times as taken. The activity may overlap ones
+	 * already added. Adding an activity that is already added does nothing.
+	 * 
+	 * @param activity activity added to the schedule
+	 */
+	public void add(Activity activity) {
+		if (byActivity.containsKey(activity)) {
+			return;
+		}
+		Entry e = new Entry(activity, entries.size());
+		entries.add(e);
+		byActivity.put(activity, e);
+		mark(e, 1);
+	}
+
+	/**
+	 * Frees the meeting times of an activity that was added. Minutes still taken
+	 * by other activities stay taken.
+	 * 
+	 * @param activity activity removed from the schedule
+	 */
+	public void remove(Activity activity) {
+		Entry e = byActivity.remove(activity);
+		if (e == null) {
+			return;
+		}
+		// move the last entry into the hole so nothing has to shift
+		Entry last = entries.remove(entries.size() - 1);
+		if (last != e) {
+			last.index = e.index;
+			entries.set(e.index, last);
+		}
+		mark(e, -1);
+	}
+
+	/**
+	 * Frees every meeting time.
+	 */
+	public void clear() {
+		for (long[] day : taken) {
+			Arrays.fill(day, 0L);
+		}
+		for (int[] day : counts) {
+			Arrays.fill(day, 0);
+		}
+		entries.clear();
+		byActivity.clear();
+	}
+
+	/**
+	 * Counts the minutes of an entry up or down on each of its days, setting the
+	 * bits of minutes that become taken and clearing those that become free.
+	 * 
+	 * @param e     entry to mark
+	 * @param delta 1 when the entry is added, -1 when it is removed
+	 */
+	private void mark(Entry e, int delta) {
+		for (int day = 0; day < DAYS; day++) {
+			if ((e.days & (1 << day)) == 0) {
+				continue;
+			}
+			long[] bits = taken[day];
+			int[] count = counts[day];
+			for (int minute = e.start; minute <= e.end; minute++) {
+				count[minute] += delta;
+				if (count[minute] == 0) {
+					bits[minute >> 6] &= ~(1L << minute);
+				} else {
+					bits[minute >> 6] |= 1L << minute;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks whether any minute from start through end is set.
+	 * 
+	 * @param bits  minutes of one day
+	 * @param start first minute
+	 * @param end   last minute
+	 * @return true if a minute in the range is set
+	 */
+	private static boolean anySet(long[] bits, int start, int end) {
+		for (int word = start >> 6; word <= end >> 6; word++) {
+			if ((bits[word] & wordMask(word, start, end)) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the bits of one word that fall from start through end.
+	 * 
+	 * @param word  index of the word
+	 * @param start first minute
+	 * @param end   last minute
+	 * @return mask of the minutes in the word that are in the range
+	 */
+	private static long wordMask(int word, int start, int end) {
+		long mask = -1L;
+		if (start >> 6 == word) {
+			mask &= -1L << (start & 63);
+		}
+		if (end >> 6 == word) {
+			mask &= -1L >>> (63 - (end & 63));
+		}
+		return mask;
+	}
+
+	/**
+	 * Converts a time in HHMM form to minutes after midnight.
+	 * 
+	 * @param time time in HHMM form
+	 * @return minutes after midnight
+	 */
+	static int toMinutes(int time) {
+		return time / 100 * 60 + time % 100;
+	}
+
+	/**
+	 * An activity with the days and minutes it held when it was added, so the
+	 * checker stays correct even if the activity changes later, and where it is
+	 * in the list of entries.
+	 */
+	private static class Entry {
+		/** the activity */
+		private final Activity activity;
+		/** weekday bits */
+		private final int days;
+		/** first minute */
+		private final int start;
+		/** last minute */
+		private final int end;
+		/** index in the list of entries */
+		private int index;
+
+		/**
+		 * Records the activity's current days and times.
+		 * 
+		 * @param activity activity to record
+		 * @param index    index in the list of entries
+		 */
+		Entry(Activity activity, int index) {
+			this.activity = activity;
+			this.index = index;
+			this.days = activity.getMeetingDayMask() & Activity.WEEKDAYS;
+			this.start = toMinutes(activity.getStartTime());
+			this.end = toMinutes(activity.getEndTime());
+		}
+	}
+}
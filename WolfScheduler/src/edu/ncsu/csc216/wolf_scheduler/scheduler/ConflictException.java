@@ -0,0 +1,38 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Thrown when an activity can't be added to a schedule because it meets at the
+ * same time as an activity already on the schedule.
+ * 
+ * @author Kevin John
+ */
+public class ConflictException extends IllegalArgumentException {
+
+	/** ID used for object serialization */
+	private static final long serialVersionUID = 1L;
+
+	/** activity already on the schedule that conflicts */
+	private final transient Activity conflictingActivity;
+
+	/**
+	 * Creates the exception.
+	 * 
+	 * @param message             message to show the user
+	 * @param conflictingActivity activity already on the schedule that conflicts
+	 */
+	public ConflictException(String message, Activity conflictingActivity) {
+		super(message);
+		this.conflictingActivity = conflictingActivity;
+	}
+
+	/**
+	 * Returns the activity already on the schedule that conflicts.
+	 * 
+	 * @return the conflicting activity
+	 */
+	public Activity getConflictingActivity() {
+		return conflictingActivity;
+	}
+}
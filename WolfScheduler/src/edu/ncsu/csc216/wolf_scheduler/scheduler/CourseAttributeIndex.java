@@ -0,0 +1,277 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Answers a CourseFilter without checking every course in the catalog. For each
+ * department, instructor, number of credits, meeting day, and hour courses
+ * start in, the index keeps a CourseIdSet of the catalog positions of the
+ * courses that have it. A filter ANDs the sets for each part that is set,
+ * smallest first, ORs together the hours of a start time range, and takes out
+ * the courses on excluded days with ANDNOT.
+ *
+ * A start time range covers whole hours and parts of the first and last one,
+ * so only the courses in the first and last hour are checked against the range
+ * one at a time.
+ *
+ * An index can't be changed once it is built, so it can be shared between
+ * threads.
+ *
+ * @author Kevin John
+ */
+public final class CourseAttributeIndex {
+
+	/** number of meeting day bits, the weekdays and ARRANGED */
+	private static final int DAY_BITS = 8;
+	/** number of hours a course can start in */
+	private static final int HOURS = 24;
+
+	/** every course */
+	private final CourseIdSet all;
+	/** courses by department */
+	private final HashMap<String, CourseIdSet> byDepartment;
+	/** courses by instructor id */
+	private final HashMap<String, CourseIdSet> byInstructor;
+	/** courses by number of credits */
+	private final HashMap<Integer, CourseIdSet> byCredits;
+	/** courses by meeting day bit */
+	private final CourseIdSet[] byDay;
+	/** courses with a start time, by the hour they start in */
+	private final CourseIdSet[] byStartHour;
+	/** start time of each course in HHMM form, or -1 if it is arranged */
+	private final int[] startTimes;
+
+	/**
+	 * Builds an index over the given courses.
+	 *
+	 * @param courses courses in catalog order
+	 * @throws IllegalArgumentException If courses is null or holds a null course.
+	 */
+	public CourseAttributeIndex(List<Course> courses) {
+		if (courses == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		int size = courses.size();
+		startTimes = new int[size];
+		HashMap<String, IdList> departments = new HashMap<String, IdList>();
+		HashMap<String, IdList> instructors = new HashMap<String, IdList>();
+		HashMap<Integer, IdList> credits = new HashMap<Integer, IdList>();
+		IdList[] days = newLists(DAY_BITS);
+		IdList[] hours = newLists(HOURS);
+		for (int i = 0; i < size; i++) {
+			Course c = courses.get(i);
+			if (c == null) {
+				throw new IllegalArgumentException("Invalid catalog.");
+			}
+			departments.computeIfAbsent(CourseFilter.departmentOf(c.getName()), k -> new IdList()).add(i);
+			instructors.computeIfAbsent(c.getInstructorId(), k -> new IdList()).add(i);
+			credits.computeIfAbsent(c.getCredits(), k -> new IdList()).add(i);
+			int mask = c.getMeetingDayMask();
+			for (int bit = 0; bit < DAY_BITS; bit++) {
+				if ((mask & (1 << bit)) != 0) {
+					days[bit].add(i);
+				}
+			}
+			if ((mask & Activity.ARRANGED) != 0) {
+				startTimes[i] = -1;
+			} else {
+				startTimes[i] = c.getStartTime();
+				hours[c.getStartTime() / 100].add(i);
+			}
+		}
+		all = CourseIdSet.range(size);
+		byDepartment = toSets(departments);
+		byInstructor = toSets(instructors);
+		byCredits = toSets(credits);
+		byDay = toSets(days);
+		byStartHour = toSets(hours);
+	}
+
+	/**
+	 * Returns the number of courses in the index.
+	 *
+	 * @return the number of courses
+	 */
+	public int size() {
+		return startTimes.length;
+	}
+
+	/**
+	 * Finds the courses that pass a filter.
+	 *
+	 * @param filter filter to apply
+	 * @return the catalog positions of the matching courses, in catalog order
+	 * @throws IllegalArgumentException If filter is null.
+	 */
+	public int[] find(CourseFilter filter) {
+		return select(filter).toArray();
+	}
+
+	/**
+	 * Finds the courses that pass a filter, as a set that can be combined further.
+	 *
+	 * @param filter filter to apply
+	 * @return the catalog positions of the matching courses
+	 * @throws IllegalArgumentException If filter is null.
+	 */
+	public CourseIdSet select(CourseFilter filter) {
+		if (filter == null) {
+			throw new IllegalArgumentException("Invalid filter.");
+		}
+		ArrayList<CourseIdSet> sets = new ArrayList<CourseIdSet>();
+		if (filter.getDepartment() != null) {
+			sets.add(byDepartment.getOrDefault(filter.getDepartment(), CourseIdSet.EMPTY));
+		}
+		if (filter.getInstructorId() != null) {
+			sets.add(byInstructor.getOrDefault(filter.getInstructorId(), CourseIdSet.EMPTY));
+		}
+		if (filter.getCredits() != 0) {
+			sets.add(byCredits.getOrDefault(filter.getCredits(), CourseIdSet.EMPTY));
+		}
+		for (int bit = 0; bit < DAY_BITS; bit++) {
+			if ((filter.getDayMask() & (1 << bit)) != 0) {
+				sets.add(byDay[bit]);
+			}
+		}
+		if (filter.hasStartTimeRange()) {
+			sets.add(startingBetween(filter.getEarliestStart(), filter.getLatestStart()));
+		}
+		sets.sort(Comparator.comparingInt(CourseIdSet::size));
+
+		CourseIdSet found = sets.isEmpty() ? all : sets.get(0);
+		for (int i = 1; i < sets.size() && !found.isEmpty(); i++) {
+			found = found.and(sets.get(i));
+		}
+		for (int bit = 0; bit < DAY_BITS && !found.isEmpty(); bit++) {
+			if ((filter.getExcludedDayMask() & (1 << bit)) != 0) {
+				found = found.andNot(byDay[bit]);
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Returns the courses that start between two times: the whole hours the range
+	 * covers ORed together, and the courses in its first and last hour that are
+	 * in the range.
+	 *
+	 * @param earliest earliest start time in HHMM form
+	 * @param latest   latest start time in HHMM form
+	 * @return the catalog positions of the courses
+	 */
+	private CourseIdSet startingBetween(int earliest, int latest) {
+		int first = earliest / 100;
+		int last = latest / 100;
+		CourseIdSet found = CourseIdSet.EMPTY;
+		for (int hour = first + 1; hour < last; hour++) {
+			found = found.or(byStartHour[hour]);
+		}
+		found = found.or(startingBetween(first, earliest, latest));
+		if (last != first) {
+			found = found.or(startingBetween(last, earliest, latest));
+		}
+		return found;
+	}
+
+	/**
+	 * Returns the courses starting in one hour that start between two times.
+	 *
+	 * @param hour     hour to check
+	 * @param earliest earliest start time in HHMM form
+	 * @param latest   latest start time in HHMM form
+	 * @return the catalog positions of the courses
+	 */
+	private CourseIdSet startingBetween(int hour, int earliest, int latest) {
+		int[] ids = byStartHour[hour].toArray();
+		int n = 0;
+		for (int id : ids) {
+			if (startTimes[id] >= earliest && startTimes[id] <= latest) {
+				ids[n++] = id;
+			}
+		}
+		return CourseIdSet.of(Arrays.copyOf(ids, n));
+	}
+
+	/**
+	 * Makes empty lists.
+	 *
+	 * @param count number of lists
+	 * @return the lists
+	 */
+	private static IdList[] newLists(int count) {
+		IdList[] lists = new IdList[count];
+		for (int i = 0; i < count; i++) {
+			lists[i] = new IdList();
+		}
+		return lists;
+	}
+
+	/**
+	 * Compresses built lists to sets.
+	 *
+	 * @param lists lists by key
+	 * @param <K>   type of key
+	 * @return the sets by key
+	 */
+	private static <K> HashMap<K, CourseIdSet> toSets(HashMap<K, IdList> lists) {
+		HashMap<K, CourseIdSet> sets = new HashMap<K, CourseIdSet>(lists.size() * 2);
+		for (Map.Entry<K, IdList> entry : lists.entrySet()) {
+			sets.put(entry.getKey(), entry.getValue().toSet());
+		}
+		return sets;
+	}
+
+	/**
+	 * Compresses built lists to sets.
+	 *
+	 * @param lists lists to compress
+	 * @return the sets, in the same order
+	 */
+	private static CourseIdSet[] toSets(IdList[] lists) {
+		CourseIdSet[] sets = new CourseIdSet[lists.length];
+		for (int i = 0; i < lists.length; i++) {
+			sets[i] = lists[i].toSet();
+		}
+		return sets;
+	}
+
+	/**
+	 * A growing list of catalog positions, added in catalog order so it is always
+	 * sorted.
+	 */
+	private static class IdList {
+		/** positions of the courses */
+		private int[] ids = new int[4];
+		/** number of courses */
+		private int size;
+
+		/**
+		 * Adds a course.
+		 *
+		 * @param id position of the course
+		 */
+		void add(int id) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+
+		/**
+		 * Returns the positions as a compressed set.
+		 *
+		 * @return the set
+		 */
+		CourseIdSet toSet() {
+			return CourseIdSet.of(Arrays.copyOf(ids, size));
+		}
+	}
+}
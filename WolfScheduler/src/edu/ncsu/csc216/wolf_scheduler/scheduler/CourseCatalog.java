@@ -0,0 +1,232 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CatalogSnapshotIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Holds a course catalog that can be shared by any number of WolfSchedulers, so
+ * one catalog can be loaded once and used by every student's session instead
+ * of each session keeping its own copy.
+ *
+ * A CourseCatalog can't be changed once it is built, and every field but the
+ * lazily built indexes is final, so it is safe to share between threads
+ * without locking. The courses in it are frozen when the catalog is built, so
+ * their setters throw and no session can change a course under the others or
+ * leave the indexes out of date. Each course's display arrays are built while
+ * the catalog is constructed, so threads only ever read them.
+ *
+ * @author Kevin John
+ */
+public final class CourseCatalog {
+
+	/** courses in catalog order */
+	private final List<Course> courses;
+	/** courses by name and then by section, with sections in catalog order */
+	private final HashMap<String, LinkedHashMap<String, Course>> index;
+	/** index for searching names and titles, built the first time it is needed */
+	private volatile CourseSearchIndex searchIndex;
+	/** index for filtering by attributes, built the first time it is needed */
+	private volatile CourseAttributeIndex attributeIndex;
+	/** index of meeting times, built the first time it is needed */
+	private volatile CourseTimeIndex timeIndex;
+
+	/**
+	 * Constructs a catalog by reading course information from a file. The file
+	 * can be a text catalog or a catalog snapshot.
+	 *
+	 * @param fileName The name of the file containing course information.
+	 * @throws IllegalArgumentException If the specified file cannot be found or if
+	 *                                  there are any other exceptions during file
+	 *                                  reading.
+	 */
+	public CourseCatalog(String fileName) {
+		this(read(fileName));
+	}
+
+	/**
+	 * Constructs a catalog holding the given courses. The list is copied, so
+	 * changing it afterwards doesn't change the catalog, and the courses are
+	 * frozen, so they can't be changed either. If the list holds the same name and
+	 * section more than once, getCourse() finds the first one.
+	 *
+	 * @param courses courses in catalog order
+	 * @throws IllegalArgumentException If courses is null or holds a null course.
+	 */
+	public CourseCatalog(List<Course> courses) {
+		if (courses == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		ArrayList<Course> copy = new ArrayList<Course>(courses);
+		HashMap<String, LinkedHashMap<String, Course>> byName = new HashMap<String, LinkedHashMap<String, Course>>();
+		for (Course c : copy) {
+			if (c == null) {
+				throw new IllegalArgumentException("Invalid catalog.");
+			}
+			LinkedHashMap<String, Course> sections = byName.get(c.getName());
+			if (sections == null) {
+				sections = new LinkedHashMap<String, Course>();
+				byName.put(c.getName(), sections);
+			}
+			sections.putIfAbsent(c.getSection(), c);
+			// build the shared display arrays now so readers of the catalog never have to
+			c.getSharedShortDisplayArray();
+			c.getSharedLongDisplayArray();
+			c.freeze();
+		}
+		this.courses = Collections.unmodifiableList(copy);
+		this.index = byName;
+	}
+
+	/**
+	 * Reads the courses from a text catalog or a catalog snapshot.
+	 *
+	 * @param fileName file to read
+	 * @return the courses in the file
+	 * @throws IllegalArgumentException If the file can't be read.
+	 */
+	private static List<Course> read(String fileName) {
+		try {
+			if (CatalogSnapshotIO.isCatalogSnapshot(fileName)) {
+				return CatalogSnapshotIO.readCatalogSnapshot(fileName);
+			}
+			return CourseRecordIO.readCourseRecords(fileName);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Cannot find file.");
+		}
+	}
+
+	/**
+	 * Retrieves a course based on course name and section number. The course is
+	 * shared by every session using the catalog, so it is frozen.
+	 *
+	 * @param name    course name
+	 * @param section section number
+	 * @return the matching course, or null if the catalog does not have it
+	 */
+	public Course getCourse(String name, String section) {
+		LinkedHashMap<String, Course> sections = index.get(name);
+		if (sections == null) {
+			return null;
+		}
+		return sections.get(section);
+	}
+
+	/**
+	 * Returns every section of a course, in catalog order. If the catalog holds a
+	 * section more than once, only the first is returned, as with getCourse().
+	 *
+	 * @param name course name
+	 * @return the sections of the course, or an empty list if the catalog does not
+	 *         have it
+	 */
+	public List<Course> getSections(String name) {
+		LinkedHashMap<String, Course> sections = index.get(name);
+		if (sections == null) {
+			return new ArrayList<Course>();
+		}
+		return new ArrayList<Course>(sections.values());
+	}
+
+	/**
+	 * Returns the courses in catalog order. Neither the list nor the courses in
+	 * it can be changed.
+	 *
+	 * @return the courses
+	 */
+	public List<Course> getCourses() {
+		return courses;
+	}
+
+	/**
+	 * Returns an index for searching the names and titles in the catalog. It is
+	 * built the first time it is asked for, so catalogs that are never searched
+	 * don't pay for it, and then kept for every later search.
+	 *
+	 * @return the search index
+	 */
+	public CourseSearchIndex getSearchIndex() {
+		CourseSearchIndex built = searchIndex;
+		if (built == null) {
+			synchronized (this) {
+				built = searchIndex;
+				if (built == null) {
+					built = new CourseSearchIndex(courses);
+					searchIndex = built;
+				}
+			}
+		}
+		return built;
+	}
+
+	/**
+	 * Returns an index for filtering the catalog by instructor, credits, meeting
+	 * days, and start time. Like the search index, it is built the first time it
+	 * is asked for.
+	 *
+	 * @return the attribute index
+	 */
+	public CourseAttributeIndex getAttributeIndex() {
+		CourseAttributeIndex built = attributeIndex;
+		if (built == null) {
+			synchronized (this) {
+				built = attributeIndex;
+				if (built == null) {
+					built = new CourseAttributeIndex(courses);
+					attributeIndex = built;
+				}
+			}
+		}
+		return built;
+	}
+
+	/**
+	 * Returns an index for finding the courses that meet during a time window.
+	 * Like the other indexes, it is built the first time it is asked for.
+	 *
+	 * @return the time index
+	 */
+	public CourseTimeIndex getTimeIndex() {
+		CourseTimeIndex built = timeIndex;
+		if (built == null) {
+			synchronized (this) {
+				built = timeIndex;
+				if (built == null) {
+					built = new CourseTimeIndex(courses);
+					timeIndex = built;
+				}
+			}
+		}
+		return built;
+	}
+
+	/**
+	 * Returns the number of courses in the catalog.
+	 *
+	 * @return the number of courses
+	 */
+	public int size() {
+		return courses.size();
+	}
+
+	/**
+	 * Retrieves the catalog as a 2D array of strings, one row per course with its
+	 * name, section, title, and meeting string. The rows are new arrays, so
+	 * changing them doesn't change the catalog.
+	 *
+	 * @return the catalog rows
+	 */
+	public String[][] getCourseCatalog() {
+		String[][] rows = new String[courses.size()][];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = courses.get(i).getShortDisplayArray();
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,251 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * What an advisor is looking for in the catalog, such as "3-credit CSC sections
+ * taught by jtking on TH starting after 1:00PM, but not on Friday". Each part
+ * that is set has to match; a part that isn't set matches every course. A new
+ * filter matches the whole catalog.
+ *
+ * A filter is answered by CourseAttributeIndex without checking every course;
+ * matches() says what the answer has to be.
+ *
+ * @author Kevin John
+ */
+public class CourseFilter {
+
+	/** department the course must be in, or null for any */
+	private String department;
+	/** instructor the course must be taught by, or null for any */
+	private String instructorId;
+	/** credits the course must have, or 0 for any */
+	private int credits;
+	/** meeting day bits the course must meet on, or 0 for any */
+	private int dayMask;
+	/** meeting day bits the course must not meet on, or 0 for none */
+	private int excludedDayMask;
+	/** earliest start time in HHMM form, or -1 for any */
+	private int earliestStart = -1;
+	/** latest start time in HHMM form, or -1 for any */
+	private int latestStart = -1;
+
+	/**
+	 * Sets the department the course must be in, the part of its name before the
+	 * space, such as "CSC".
+	 *
+	 * @param department department, or null for any department
+	 */
+	public void setDepartment(String department) {
+		this.department = department;
+	}
+
+	/**
+	 * Sets the instructor the course must be taught by.
+	 *
+	 * @param instructorId instructor's unity id, or null for any instructor
+	 */
+	public void setInstructorId(String instructorId) {
+		this.instructorId = instructorId;
+	}
+
+	/**
+	 * Sets the credits the course must have.
+	 *
+	 * @param credits number of credits, or 0 for any
+	 * @throws IllegalArgumentException If credits is negative.
+	 */
+	public void setCredits(int credits) {
+		if (credits < 0) {
+			throw new IllegalArgumentException("Invalid credits.");
+		}
+		this.credits = credits;
+	}
+
+	/**
+	 * Sets the days the course must meet on. The course can meet on other days as
+	 * well, so "TH" finds both TH and MTWHF courses. "A" finds arranged courses.
+	 *
+	 * @param days meeting day letters, or null or "" for any days
+	 * @throws IllegalArgumentException If days holds a letter that is not a
+	 *                                  meeting day.
+	 */
+	public void setMeetingDays(String days) {
+		this.dayMask = toMask(days);
+	}
+
+	/**
+	 * Sets the days the course must not meet on, such as "F" for no Friday
+	 * classes. "A" leaves out arranged courses.
+	 *
+	 * @param days meeting day letters, or null or "" to leave out no days
+	 * @throws IllegalArgumentException If days holds a letter that is not a
+	 *                                  meeting day.
+	 */
+	public void setExcludedDays(String days) {
+		this.excludedDayMask = toMask(days);
+	}
+
+	/**
+	 * Sets the times the course must start between, both included. Arranged
+	 * courses have no start time, so they never match once this is set.
+	 *
+	 * @param earliest earliest start time in HHMM form, such as 1300 for 1:00PM
+	 * @param latest   latest start time in HHMM form
+	 * @throws IllegalArgumentException If either time is not a valid time or
+	 *                                  earliest is after latest.
+	 */
+	public void setStartTimeRange(int earliest, int latest) {
+		if (!isTime(earliest) || !isTime(latest) || earliest > latest) {
+			throw new IllegalArgumentException("Invalid time.");
+		}
+		this.earliestStart = earliest;
+		this.latestStart = latest;
+	}
+
+	/**
+	 * Checks whether a course passes the filter.
+	 *
+	 * @param course course to check
+	 * @return true if every part of the filter that is set matches the course
+	 */
+	public boolean matches(Course course) {
+		if (department != null && !department.equals(departmentOf(course.getName()))) {
+			return false;
+		}
+		if (instructorId != null && !instructorId.equals(course.getInstructorId())) {
+			return false;
+		}
+		if (credits != 0 && credits != course.getCredits()) {
+			return false;
+		}
+		if ((course.getMeetingDayMask() & dayMask) != dayMask) {
+			return false;
+		}
+		if ((course.getMeetingDayMask() & excludedDayMask) != 0) {
+			return false;
+		}
+		if (hasStartTimeRange()) {
+			int start = course.getStartTime();
+			return (course.getMeetingDayMask() & Activity.ARRANGED) == 0 && start >= earliestStart
+					&& start <= latestStart;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the department the course must be in.
+	 *
+	 * @return the department, or null for any
+	 */
+	String getDepartment() {
+		return department;
+	}
+
+	/**
+	 * Returns the instructor the course must be taught by.
+	 *
+	 * @return the instructor's unity id, or null for any
+	 */
+	String getInstructorId() {
+		return instructorId;
+	}
+
+	/**
+	 * Returns the credits the course must have.
+	 *
+	 * @return the credits, or 0 for any
+	 */
+	int getCredits() {
+		return credits;
+	}
+
+	/**
+	 * Returns the meeting day bits the course must meet on.
+	 *
+	 * @return the day bits, or 0 for any
+	 */
+	int getDayMask() {
+		return dayMask;
+	}
+
+	/**
+	 * Returns the meeting day bits the course must not meet on.
+	 *
+	 * @return the day bits, or 0 for none
+	 */
+	int getExcludedDayMask() {
+		return excludedDayMask;
+	}
+
+	/**
+	 * Checks whether the filter has a start time range.
+	 *
+	 * @return true if setStartTimeRange() was called
+	 */
+	boolean hasStartTimeRange() {
+		return earliestStart >= 0;
+	}
+
+	/**
+	 * Returns the earliest start time.
+	 *
+	 * @return the time in HHMM form
+	 */
+	int getEarliestStart() {
+		return earliestStart;
+	}
+
+	/**
+	 * Returns the latest start time.
+	 *
+	 * @return the time in HHMM form
+	 */
+	int getLatestStart() {
+		return latestStart;
+	}
+
+	/**
+	 * Returns the department of a course name, the part before the first space.
+	 *
+	 * @param name course name, such as "CSC 216"
+	 * @return the department, such as "CSC"
+	 */
+	static String departmentOf(String name) {
+		int space = name.indexOf(' ');
+		return space < 0 ? name : name.substring(0, space);
+	}
+
+	/**
+	 * Turns meeting day letters into day bits.
+	 *
+	 * @param days meeting day letters, or null
+	 * @return the day bits
+	 * @throws IllegalArgumentException If days holds a letter that is not a
+	 *                                  meeting day.
+	 */
+	private static int toMask(String days) {
+		int mask = 0;
+		if (days != null) {
+			for (int i = 0; i < days.length(); i++) {
+				int bit = days.charAt(i) == 'A' ? Activity.ARRANGED : Activity.getDayBit(days.charAt(i));
+				if (bit == 0) {
+					throw new IllegalArgumentException("Invalid meeting days.");
+				}
+				mask |= bit;
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Checks that a time in HHMM form is a real time of day.
+	 *
+	 * @param time time to check
+	 * @return true if it is a valid time
+	 */
+	private static boolean isTime(int time) {
+		return time >= 0 && time <= 2359 && time % 100 <= 59;
+	}
+}
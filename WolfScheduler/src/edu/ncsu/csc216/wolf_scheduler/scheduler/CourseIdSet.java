@@ -0,0 +1,607 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * A compressed set of catalog positions, used by CourseAttributeIndex for the
+ * courses having each attribute. Positions are split into chunks of 65536 by
+ * their high 16 bits. A chunk with few positions keeps them as a sorted array
+ * of their low 16 bits; a chunk with more than 4096 keeps a 65536-bit bitmap,
+ * which is then the smaller of the two. Chunks with no positions aren't kept.
+ *
+ * A set that most courses are in, such as every 3-credit section, takes one bit
+ * per course rather than the 32 a list of ints would. AND, OR, and ANDNOT work
+ * a chunk at a time: two bitmaps are combined 64 positions per step, and an
+ * array is checked against a bitmap one lookup per position, so combining a
+ * small set with a large one costs about as much as the small one.
+ *
+ * A set can't be changed once it is built; every operation returns a new set.
+ *
+ * @author Kevin John
+ */
+public final class CourseIdSet {
+
+	/** set with no positions */
+	public static final CourseIdSet EMPTY = new CourseIdSet(new char[0], new Chunk[0]);
+
+	/** most positions a chunk keeps as an array */
+	private static final int ARRAY_MAX = 4096;
+	/** number of longs in a chunk's bitmap */
+	private static final int BITMAP_WORDS = 1 << 10;
+
+	/** high 16 bits of the positions in each chunk, ascending */
+	private final char[] keys;
+	/** chunks, matching keys */
+	private final Chunk[] chunks;
+
+	/**
+	 * Constructs a set from its chunks.
+	 *
+	 * @param keys   high bits of each chunk
+	 * @param chunks chunks, none of them empty
+	 */
+	private CourseIdSet(char[] keys, Chunk[] chunks) {
+		this.keys = keys;
+		this.chunks = chunks;
+	}
+
+	/**
+	 * Builds a set holding the given positions.
+	 *
+	 * @param ids positions in ascending order, none repeated
+	 * @return the set
+	 * @throws IllegalArgumentException If ids is null, holds a negative position,
+	 *                                  or is not in ascending order.
+	 */
+	public static CourseIdSet of(int[] ids) {
+		if (ids == null) {
+			throw new IllegalArgumentException("Invalid ids.");
+		}
+		char[] keys = new char[0];
+		Chunk[] chunks = new Chunk[0];
+		int n = 0;
+		int start = 0;
+		while (start < ids.length) {
+			if (ids[start] < 0 || (start > 0 && ids[start] <= ids[start - 1])) {
+				throw new IllegalArgumentException("Invalid ids.");
+			}
+			int high = ids[start] >>> 16;
+			int end = start + 1;
+			while (end < ids.length && ids[end] >>> 16 == high) {
+				if (ids[end] <= ids[end - 1]) {
+					throw new IllegalArgumentException("Invalid ids.");
+				}
+				end++;
+			}
+			if (n == keys.length) {
+				keys = Arrays.copyOf(keys, Math.max(4, n * 2));
+				chunks = Arrays.copyOf(chunks, keys.length);
+			}
+			keys[n] = (char) high;
+			chunks[n] = Chunk.of(ids, start, end);
+			n++;
+			start = end;
+		}
+		return new CourseIdSet(Arrays.copyOf(keys, n), Arrays.copyOf(chunks, n));
+	}
+
+	/**
+	 * Builds a set holding every position from 0 up to, but not including, size.
+	 *
+	 * @param size number of positions
+	 * @return the set
+	 * @throws IllegalArgumentException If size is negative.
+	 */
+	public static CourseIdSet range(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Invalid ids.");
+		}
+		int[] ids = new int[size];
+		for (int i = 0; i < size; i++) {
+			ids[i] = i;
+		}
+		return of(ids);
+	}
+
+	/**
+	 * Returns the number of positions in the set.
+	 *
+	 * @return the number of positions
+	 */
+	public int size() {
+		int size = 0;
+		for (Chunk c : chunks) {
+			size += c.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Checks whether the set has no positions.
+	 *
+	 * @return true if the set is empty
+	 */
+	public boolean isEmpty() {
+		return chunks.length == 0;
+	}
+
+	/**
+	 * Checks whether a position is in the set.
+	 *
+	 * @param id position to look for
+	 * @return true if it is in the set
+	 */
+	public boolean contains(int id) {
+		if (id < 0) {
+			return false;
+		}
+		int at = Arrays.binarySearch(keys, (char) (id >>> 16));
+		return at >= 0 && chunks[at].contains((char) id);
+	}
+
+	/**
+	 * Returns the positions in the set.
+	 *
+	 * @return the positions in ascending order
+	 */
+	public int[] toArray() {
+		int[] ids = new int[size()];
+		int n = 0;
+		for (int i = 0; i < chunks.length; i++) {
+			n = chunks[i].copyTo(ids, n, keys[i] << 16);
+		}
+		return ids;
+	}
+
+	/**
+	 * Returns the positions in both this set and another.
+	 *
+	 * @param other other set
+	 * @return the intersection
+	 */
+	public CourseIdSet and(CourseIdSet other) {
+		Builder result = new Builder(Math.min(keys.length, other.keys.length));
+		int i = 0;
+		int j = 0;
+		while (i < keys.length && j < other.keys.length) {
+			if (keys[i] < other.keys[j]) {
+				i++;
+			} else if (keys[i] > other.keys[j]) {
+				j++;
+			} else {
+				result.add(keys[i], chunks[i].and(other.chunks[j]));
+				i++;
+				j++;
+			}
+		}
+		return result.build();
+	}
+
+	/**
+	 * Returns the positions in either this set or another.
+	 *
+	 * @param other other set
+	 * @return the union
+	 */
+	public CourseIdSet or(CourseIdSet other) {
+		Builder result = new Builder(keys.length + other.keys.length);
+		int i = 0;
+		int j = 0;
+		while (i < keys.length || j < other.keys.length) {
+			if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+				result.add(keys[i], chunks[i]);
+				i++;
+			} else if (i == keys.length || keys[i] > other.keys[j]) {
+				result.add(other.keys[j], other.chunks[j]);
+				j++;
+			} else {
+				result.add(keys[i], chunks[i].or(other.chunks[j]));
+				i++;
+				j++;
+			}
+		}
+		return result.build();
+	}
+
+	/**
+	 * Returns the positions in this set that are not in another.
+	 *
+	 * @param other set of positions to leave out
+	 * @return the difference
+	 */
+	public CourseIdSet andNot(CourseIdSet other) {
+		Builder result = new Builder(keys.length);
+		int j = 0;
+		for (int i = 0; i < keys.length; i++) {
+			while (j < other.keys.length && other.keys[j] < keys[i]) {
+				j++;
+			}
+			if (j < other.keys.length && other.keys[j] == keys[i]) {
+				result.add(keys[i], chunks[i].andNot(other.chunks[j]));
+			} else {
+				result.add(keys[i], chunks[i]);
+			}
+		}
+		return result.build();
+	}
+
+	/**
+	 * Collects the chunks of a set being built, leaving out empty ones.
+	 */
+	private static class Builder {
+		/** high bits of each chunk */
+		private final char[] keys;
+		/** chunks */
+		private final Chunk[] chunks;
+		/** number of chunks */
+		private int size;
+
+		/**
+		 * Makes a builder with room for the given number of chunks.
+		 *
+		 * @param capacity most chunks that will be added
+		 */
+		Builder(int capacity) {
+			keys = new char[capacity];
+			chunks = new Chunk[capacity];
+		}
+
+		/**
+		 * Adds a chunk, unless it is null.
+		 *
+		 * @param key   high bits of the chunk
+		 * @param chunk chunk, or null if it is empty
+		 */
+		void add(char key, Chunk chunk) {
+			if (chunk != null) {
+				keys[size] = key;
+				chunks[size] = chunk;
+				size++;
+			}
+		}
+
+		/**
+		 * Makes the set.
+		 *
+		 * @return the set
+		 */
+		CourseIdSet build() {
+			if (size == 0) {
+				return EMPTY;
+			}
+			return new CourseIdSet(Arrays.copyOf(keys, size), Arrays.copyOf(chunks, size));
+		}
+	}
+
+	/**
+	 * The low 16 bits of the positions that share their high 16 bits, as either a
+	 * sorted array or a bitmap. A chunk is never empty; operations that leave
+	 * nothing return null.
+	 */
+	private abstract static class Chunk {
+
+		/**
+		 * Makes a chunk of the low bits of some positions, as an array if there are
+		 * few and as a bitmap otherwise.
+		 *
+		 * @param ids   positions, ascending
+		 * @param start index of the first position
+		 * @param end   index after the last position
+		 * @return the chunk
+		 */
+		static Chunk of(int[] ids, int start, int end) {
+			if (end - start <= ARRAY_MAX) {
+				char[] values = new char[end - start];
+				for (int i = start; i < end; i++) {
+					values[i - start] = (char) ids[i];
+				}
+				return new ArrayChunk(values);
+			}
+			long[] words = new long[BITMAP_WORDS];
+			for (int i = start; i < end; i++) {
+				words[(ids[i] & 0xFFFF) >>> 6] |= 1L << ids[i];
+			}
+			return new BitmapChunk(words, end - start);
+		}
+
+		/**
+		 * Makes a chunk from a bitmap, as an array if it has few bits set.
+		 *
+		 * @param words bitmap, which the chunk may keep
+		 * @return the chunk, or null if no bits are set
+		 */
+		static Chunk of(long[] words) {
+			int size = 0;
+			for (long w : words) {
+				size += Long.bitCount(w);
+			}
+			if (size == 0) {
+				return null;
+			}
+			if (size > ARRAY_MAX) {
+				return new BitmapChunk(words, size);
+			}
+			char[] values = new char[size];
+			int n = 0;
+			for (int i = 0; i < words.length; i++) {
+				long w = words[i];
+				while (w != 0) {
+					values[n++] = (char) (i << 6 | Long.numberOfTrailingZeros(w));
+					w &= w - 1;
+				}
+			}
+			return new ArrayChunk(values);
+		}
+
+		/**
+		 * Returns the number of positions in the chunk.
+		 *
+		 * @return the number of positions
+		 */
+		abstract int size();
+
+		/**
+		 * Checks whether the chunk holds the given low bits.
+		 *
+		 * @param low low 16 bits of a position
+		 * @return true if they are in the chunk
+		 */
+		abstract boolean contains(char low);
+
+		/**
+		 * Copies the chunk's positions into an array.
+		 *
+		 * @param ids  array to copy into
+		 * @param at   index to copy the first position to
+		 * @param high high bits of the positions, already shifted
+		 * @return the index after the last position copied
+		 */
+		abstract int copyTo(int[] ids, int at, int high);
+
+		/**
+		 * Returns the positions in both chunks.
+		 *
+		 * @param other chunk with the same high bits
+		 * @return the intersection, or null if it is empty
+		 */
+		abstract Chunk and(Chunk other);
+
+		/**
+		 * Returns the positions in either chunk.
+		 *
+		 * @param other chunk with the same high bits
+		 * @return the union
+		 */
+		abstract Chunk or(Chunk other);
+
+		/**
+		 * Returns the positions in this chunk but not the other.
+		 *
+		 * @param other chunk with the same high bits
+		 * @return the difference, or null if it is empty
+		 */
+		abstract Chunk andNot(Chunk other);
+	}
+
+	/**
+	 * A chunk of at most ARRAY_MAX positions kept as a sorted array.
+	 */
+	private static final class ArrayChunk extends Chunk {
+		/** low bits of the positions, ascending */
+		private final char[] values;
+
+		/**
+		 * Makes a chunk of the given low bits.
+		 *
+		 * @param values low bits, ascending
+		 */
+		ArrayChunk(char[] values) {
+			this.values = values;
+		}
+
+		@Override
+		int size() {
+			return values.length;
+		}
+
+		@Override
+		boolean contains(char low) {
+			return Arrays.binarySearch(values, low) >= 0;
+		}
+
+		@Override
+		int copyTo(int[] ids, int at, int high) {
+			for (char v : values) {
+				ids[at++] = high | v;
+			}
+			return at;
+		}
+
+		@Override
+		Chunk and(Chunk other) {
+			char[] kept = new char[values.length];
+			int n = 0;
+			if (other instanceof BitmapChunk) {
+				BitmapChunk bitmap = (BitmapChunk) other;
+				for (char v : values) {
+					if (bitmap.contains(v)) {
+						kept[n++] = v;
+					}
+				}
+			} else {
+				char[] o = ((ArrayChunk) other).values;
+				int i = 0;
+				int j = 0;
+				while (i < values.length && j < o.length) {
+					if (values[i] < o[j]) {
+						i++;
+					} else if (values[i] > o[j]) {
+						j++;
+					} else {
+						kept[n++] = values[i];
+						i++;
+						j++;
+					}
+				}
+			}
+			return n == 0 ? null : new ArrayChunk(Arrays.copyOf(kept, n));
+		}
+
+		@Override
+		Chunk or(Chunk other) {
+			if (other instanceof BitmapChunk) {
+				return other.or(this);
+			}
+			char[] o = ((ArrayChunk) other).values;
+			if (values.length + o.length > ARRAY_MAX) {
+				long[] words = new long[BITMAP_WORDS];
+				setBits(words, values);
+				setBits(words, o);
+				return Chunk.of(words);
+			}
+			char[] merged = new char[values.length + o.length];
+			int n = 0;
+			int i = 0;
+			int j = 0;
+			while (i < values.length || j < o.length) {
+				if (j == o.length || (i < values.length && values[i] < o[j])) {
+					merged[n++] = values[i++];
+				} else if (i == values.length || values[i] > o[j]) {
+					merged[n++] = o[j++];
+				} else {
+					merged[n++] = values[i];
+					i++;
+					j++;
+				}
+			}
+			return new ArrayChunk(Arrays.copyOf(merged, n));
+		}
+
+		@Override
+		Chunk andNot(Chunk other) {
+			char[] kept = new char[values.length];
+			int n = 0;
+			if (other instanceof BitmapChunk) {
+				BitmapChunk bitmap = (BitmapChunk) other;
+				for (char v : values) {
+					if (!bitmap.contains(v)) {
+						kept[n++] = v;
+					}
+				}
+			} else {
+				char[] o = ((ArrayChunk) other).values;
+				int j = 0;
+				for (char v : values) {
+					while (j < o.length && o[j] < v) {
+						j++;
+					}
+					if (j == o.length || o[j] != v) {
+						kept[n++] = v;
+					}
+				}
+			}
+			if (n == values.length) {
+				return this;
+			}
+			return n == 0 ? null : new ArrayChunk(Arrays.copyOf(kept, n));
+		}
+
+		/**
+		 * Sets the bits of the given low bits in a bitmap.
+		 *
+		 * @param words  bitmap
+		 * @param values low bits to set
+		 */
+		static void setBits(long[] words, char[] values) {
+			for (char v : values) {
+				words[v >>> 6] |= 1L << v;
+			}
+		}
+	}
+
+	/**
+	 * A chunk of more than ARRAY_MAX positions kept as a bitmap.
+	 */
+	private static final class BitmapChunk extends Chunk {
+		/** one bit for each of the 65536 low bits */
+		private final long[] words;
+		/** number of bits set */
+		private final int size;
+
+		/**
+		 * Makes a chunk of a bitmap.
+		 *
+		 * @param words bitmap
+		 * @param size  number of bits set
+		 */
+		BitmapChunk(long[] words, int size) {
+			this.words = words;
+			this.size = size;
+		}
+
+		@Override
+		int size() {
+			return size;
+		}
+
+		@Override
+		boolean contains(char low) {
+			return (words[low >>> 6] & 1L << low) != 0;
+		}
+
+		@Override
+		int copyTo(int[] ids, int at, int high) {
+			for (int i = 0; i < words.length; i++) {
+				long w = words[i];
+				while (w != 0) {
+					ids[at++] = high | i << 6 | Long.numberOfTrailingZeros(w);
+					w &= w - 1;
+				}
+			}
+			return at;
+		}
+
+		@Override
+		Chunk and(Chunk other) {
+			if (other instanceof ArrayChunk) {
+				return other.and(this);
+			}
+			long[] o = ((BitmapChunk) other).words;
+			long[] both = new long[BITMAP_WORDS];
+			for (int i = 0; i < BITMAP_WORDS; i++) {
+				both[i] = words[i] & o[i];
+			}
+			return Chunk.of(both);
+		}
+
+		@Override
+		Chunk or(Chunk other) {
+			long[] either = words.clone();
+			if (other instanceof ArrayChunk) {
+				ArrayChunk.setBits(either, ((ArrayChunk) other).values);
+			} else {
+				long[] o = ((BitmapChunk) other).words;
+				for (int i = 0; i < BITMAP_WORDS; i++) {
+					either[i] |= o[i];
+				}
+			}
+			return Chunk.of(either);
+		}
+
+		@Override
+		Chunk andNot(Chunk other) {
+			long[] kept = words.clone();
+			if (other instanceof ArrayChunk) {
+				for (char v : ((ArrayChunk) other).values) {
+					kept[v >>> 6] &= ~(1L << v);
+				}
+			} else {
+				long[] o = ((BitmapChunk) other).words;
+				for (int i = 0; i < BITMAP_WORDS; i++) {
+					kept[i] &= ~o[i];
+				}
+			}
+			return Chunk.of(kept);
+		}
+	}
+}
@@ -0,0 +1,378 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Finds courses whose name or title holds every word of a query, fast enough to
+ * search again on every keystroke. Case doesn't matter, and the space in a
+ * course name is ignored, so "csc216", "CSC 216" and "CSC2" all find CSC 216.
+ * A word ending in '*', such as "CSC2*" or "data*", only matches at the start of
+ * the name or of a word in the title. Words that follow each other in the name
+ * count as starting it too, so "CSC 2*" finds the same courses as "CSC2*".
+ *
+ * Every run of one to three characters in each name and title is indexed with
+ * the courses it appears in. A query looks up the rarest run in any of its
+ * words, so only those courses are checked against the whole query rather than
+ * the whole catalog.
+ *
+ * Results are ranked in three groups, each in catalog order: courses whose name
+ * is the whole query, then courses where every word matches at the start of the
+ * name, right after the words before it in the name, or at the start of a title
+ * word, then the rest. Results come back a page at a time.
+ *
+ * An index can't be changed once it is built, so it can be shared between
+ * threads.
+ *
+ * @author Kevin John
+ */
+public final class CourseSearchIndex {
+
+	/** longest run of characters indexed */
+	private static final int GRAM_LENGTH = 3;
+	/** rank of a course whose name is the whole query */
+	private static final int EXACT = 0;
+	/** rank of a course where every word matches at the start of a word */
+	private static final int PREFIX = 1;
+	/** rank of any other course that matches */
+	private static final int SUBSTRING = 2;
+	/** number of ranks */
+	private static final int RANKS = 3;
+	/** courses ranked between checks for an interrupt, less one */
+	private static final int CHECK_INTERRUPT_MASK = 1023;
+
+	/** courses in catalog order */
+	private final Course[] courses;
+	/** lowercase names without spaces, matching courses */
+	private final String[] nameKeys;
+	/** lowercase titles, matching courses */
+	private final String[] titleKeys;
+	/** for each run of characters, the courses it appears in, in catalog order */
+	private final HashMap<Long, int[]> postings;
+
+	/**
+	 * Builds an index over the names and titles of the given courses.
+	 *
+	 * @param courses courses in catalog order
+	 * @throws IllegalArgumentException If courses is null or holds a null course.
+	 */
+	public CourseSearchIndex(List<Course> courses) {
+		if (courses == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		int n = courses.size();
+		this.courses = new Course[n];
+		nameKeys = new String[n];
+		titleKeys = new String[n];
+		HashMap<Long, Postings> building = new HashMap<Long, Postings>();
+		for (int i = 0; i < n; i++) {
+			Course c = courses.get(i);
+			if (c == null) {
+				throw new IllegalArgumentException("Invalid catalog.");
+			}
+			this.courses[i] = c;
+			nameKeys[i] = nameKey(c.getName());
+			titleKeys[i] = c.getTitle().toLowerCase(Locale.ROOT);
+			addGrams(building, nameKeys[i], i);
+			addGrams(building, titleKeys[i], i);
+		}
+		postings = new HashMap<Long, int[]>(building.size() * 2);
+		for (Map.Entry<Long, Postings> entry : building.entrySet()) {
+			Postings p = entry.getValue();
+			postings.put(entry.getKey(), Arrays.copyOf(p.ids, p.size));
+		}
+	}
+
+	/**
+	 * Returns the number of courses in the index.
+	 *
+	 * @return the number of courses
+	 */
+	public int size() {
+		return courses.length;
+	}
+
+	/**
+	 * Finds the courses matching a query and returns one page of them, ranked as
+	 * described above. A query with no words matches every course.
+	 *
+	 * @param query  words to find, separated by spaces
+	 * @param offset number of ranked results to skip
+	 * @param limit  most results to return
+	 * @return the page of results and the number of courses that matched
+	 * @throws IllegalArgumentException If query is null, offset is negative, or
+	 *                                  limit is less than one.
+	 */
+	public CourseSearchResults search(String query, int offset, int limit) {
+		if (offset < 0 || limit < 1) {
+			throw new IllegalArgumentException("Invalid page.");
+		}
+		int[] found = find(query);
+		ArrayList<Course> page = new ArrayList<Course>();
+		for (int j = offset; j < found.length && page.size() < limit; j++) {
+			page.add(courses[found[j]]);
+		}
+		return new CourseSearchResults(page, found.length);
+	}
+
+	/**
+	 * Finds the courses matching a query, ranked as described above, and returns
+	 * their positions in the list the index was built from. A view of the catalog
+	 * can show just these rows without copying any of them.
+	 *
+	 * A search of a large catalog can take a while, so it stops early if the
+	 * thread running it is interrupted, such as by cancelling the SwingWorker the
+	 * search runs in. The thread is left interrupted.
+	 *
+	 * @param query words to find, separated by spaces
+	 * @return the positions of the matching courses, best first
+	 * @throws IllegalArgumentException If query is null.
+	 * @throws CancellationException    If the thread is interrupted during the
+	 *                                  search.
+	 */
+	public int[] find(String query) {
+		if (query == null) {
+			throw new IllegalArgumentException("Invalid query.");
+		}
+		Query q = new Query(query);
+		int[] candidates = q.candidates();
+
+		// sort the matches into their ranks, each already in catalog order
+		int[][] ranked = new int[RANKS][];
+		int[] counts = new int[RANKS];
+		int total = 0;
+		int count = candidates == null ? courses.length : candidates.length;
+		for (int j = 0; j < count; j++) {
+			if ((j & CHECK_INTERRUPT_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+				throw new CancellationException("Search cancelled.");
+			}
+			int i = candidates == null ? j : candidates[j];
+			int rank = q.rank(i);
+			if (rank < 0) {
+				continue;
+			}
+			if (ranked[rank] == null) {
+				ranked[rank] = new int[Math.min(count, 16)];
+			} else if (counts[rank] == ranked[rank].length) {
+				ranked[rank] = Arrays.copyOf(ranked[rank], ranked[rank].length * 2);
+			}
+			ranked[rank][counts[rank]++] = i;
+			total++;
+		}
+
+		int[] found = new int[total];
+		int at = 0;
+		for (int rank = 0; rank < RANKS; rank++) {
+			if (counts[rank] > 0) {
+				System.arraycopy(ranked[rank], 0, found, at, counts[rank]);
+				at += counts[rank];
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Makes the key a course name is matched on: lowercase, without spaces.
+	 *
+	 * @param name course name
+	 * @return the name key
+	 */
+	private static String nameKey(String name) {
+		StringBuilder sb = new StringBuilder(name.length());
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Adds a course to the postings of every run of one to three characters in a
+	 * text.
+	 *
+	 * @param building postings being built
+	 * @param text     text to index
+	 * @param id       index of the course
+	 */
+	private static void addGrams(HashMap<Long, Postings> building, String text, int id) {
+		for (int start = 0; start < text.length(); start++) {
+			for (int length = 1; length <= GRAM_LENGTH && start + length <= text.length(); length++) {
+				Long key = gram(text, start, length);
+				Postings p = building.get(key);
+				if (p == null) {
+					p = new Postings();
+					building.put(key, p);
+				}
+				p.add(id);
+			}
+		}
+	}
+
+	/**
+	 * Packs a run of up to three characters and its length into one key.
+	 *
+	 * @param text   text holding the run
+	 * @param start  index of the first character
+	 * @param length number of characters
+	 * @return the key
+	 */
+	private static long gram(String text, int start, int length) {
+		long key = length;
+		for (int i = 0; i < length; i++) {
+			key = key << 16 | text.charAt(start + i);
+		}
+		return key;
+	}
+
+	/**
+	 * The courses a run of characters appears in, while the index is built.
+	 * Courses are added in catalog order, so a course is already in the list if
+	 * it was the last one added.
+	 */
+	private static class Postings {
+		/** indexes of the courses */
+		private int[] ids = new int[4];
+		/** number of courses */
+		private int size;
+
+		/**
+		 * Adds a course, unless it was the last one added.
+		 *
+		 * @param id index of the course
+		 */
+		void add(int id) {
+			if (size > 0 && ids[size - 1] == id) {
+				return;
+			}
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+	}
+
+	/**
+	 * A query split into its words.
+	 */
+	private class Query {
+		/** lowercase words, without any trailing '*' */
+		private final String[] words;
+		/** for each word, true if it must match at the start of a word */
+		private final boolean[] prefixOnly;
+		/** the words run together, to compare with a name key */
+		private final String joined;
+
+		/**
+		 * Splits a query into words.
+		 *
+		 * @param query query to split
+		 */
+		Query(String query) {
+			String[] parts = query.trim().toLowerCase(Locale.ROOT).split("\\s+");
+			ArrayList<String> kept = new ArrayList<String>();
+			ArrayList<Boolean> prefix = new ArrayList<Boolean>();
+			StringBuilder sb = new StringBuilder();
+			for (String part : parts) {
+				boolean star = part.endsWith("*");
+				String word = part.replace("*", "");
+				if (!word.isEmpty()) {
+					kept.add(word);
+					prefix.add(star);
+					sb.append(word);
+				}
+			}
+			words = kept.toArray(new String[0]);
+			prefixOnly = new boolean[words.length];
+			for (int i = 0; i < words.length; i++) {
+				prefixOnly[i] = prefix.get(i);
+			}
+			joined = sb.toString();
+		}
+
+		/**
+		 * Returns the courses that might match: those holding the rarest run of
+		 * characters in any word.
+		 *
+		 * @return indexes of the courses in catalog order, or null if every course
+		 *         might match
+		 */
+		int[] candidates() {
+			int[] rarest = null;
+			for (String word : words) {
+				int length = Math.min(GRAM_LENGTH, word.length());
+				for (int start = 0; start + length <= word.length(); start++) {
+					int[] ids = postings.get(gram(word, start, length));
+					if (ids == null) {
+						return new int[0];
+					}
+					if (rarest == null || ids.length < rarest.length) {
+						rarest = ids;
+					}
+				}
+			}
+			return rarest;
+		}
+
+		/**
+		 * Ranks a course against the query.
+		 *
+		 * @param i index of the course
+		 * @return the course's rank, or -1 if it doesn't match
+		 */
+		int rank(int i) {
+			String name = nameKeys[i];
+			String title = titleKeys[i];
+			boolean allPrefix = true;
+			// end of the run of words that spell out the start of the name, or -1
+			int nameAt = 0;
+			for (int w = 0; w < words.length; w++) {
+				String word = words[w];
+				if (nameAt >= 0 && name.startsWith(word, nameAt)) {
+					nameAt += word.length();
+				} else if (name.startsWith(word)) {
+					nameAt = word.length();
+				} else {
+					nameAt = -1;
+				}
+				boolean atStart = nameAt >= 0 || startsWord(title, word);
+				if (!atStart) {
+					if (prefixOnly[w] || (!name.contains(word) && !title.contains(word))) {
+						return -1;
+					}
+					allPrefix = false;
+				}
+			}
+			if (words.length > 0 && name.equals(joined)) {
+				return EXACT;
+			}
+			return allPrefix ? PREFIX : SUBSTRING;
+		}
+
+		/**
+		 * Checks whether a word starts a word of a title.
+		 *
+		 * @param title lowercase title
+		 * @param word  word to look for
+		 * @return true if a word of the title starts with it
+		 */
+		private boolean startsWord(String title, String word) {
+			int at = title.indexOf(word);
+			while (at >= 0) {
+				if (at == 0 || !Character.isLetterOrDigit(title.charAt(at - 1))) {
+					return true;
+				}
+				at = title.indexOf(word, at + 1);
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Collections;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * One page of the courses found by a CourseSearchIndex, with the number of
+ * courses found in all, so a view can show how many pages there are.
+ *
+ * @author Kevin John
+ */
+public final class CourseSearchResults {
+
+	/** courses on this page, best first */
+	private final List<Course> courses;
+	/** number of courses that matched */
+	private final int total;
+
+	/**
+	 * Constructs a page of results.
+	 *
+	 * @param courses courses on the page, best first
+	 * @param total   number of courses that matched
+	 */
+	CourseSearchResults(List<Course> courses, int total) {
+		this.courses = Collections.unmodifiableList(courses);
+		this.total = total;
+	}
+
+	/**
+	 * Returns the courses on this page, best first. The list can't be changed.
+	 *
+	 * @return the courses
+	 */
+	public List<Course> getCourses() {
+		return courses;
+	}
+
+	/**
+	 * Returns the number of courses that matched, on every page.
+	 *
+	 * @return the number of matches
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Retrieves the courses on this page as a 2D array of strings, one row per
+	 * course with its name, section, title, and meeting string, like the catalog
+	 * table.
+	 *
+	 * @return the rows
+	 */
+	public String[][] getRows() {
+		String[][] rows = new String[courses.size()][];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = courses.get(i).getShortDisplayArray();
+		}
+		return rows;
+	}
+}
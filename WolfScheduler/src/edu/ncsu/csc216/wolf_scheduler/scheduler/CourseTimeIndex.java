@@ -0,0 +1,381 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Finds the catalog courses that meet during a time window on given days, such
+ * as every section meeting inside W 1000-1400 for a room report. As with
+ * ConflictChecker, a course takes every minute from its start time through its
+ * end time, so one that ends at 1000 overlaps a window starting at 1000.
+ * Arranged courses meet at no time, so they are never found.
+ *
+ * For each weekday the index keeps the courses that meet on it sorted by start
+ * time, and an interval tree over that order: a balanced tree, laid out in the
+ * sorted arrays, where each node knows the earliest and latest end time below
+ * it. A course overlaps a window if it starts no later than the window ends and
+ * ends no earlier than it starts; it is inside the window if it starts no
+ * earlier than the window and ends no later. Either way the start times give a
+ * run of the sorted courses by binary search, and the tree finds the ones in
+ * the run with a fitting end time without visiting any subtree that has none,
+ * so a query takes about log n steps for each course it finds.
+ *
+ * An index can't be changed once it is built, so it can be shared between
+ * threads.
+ *
+ * @author Kevin John
+ */
+public final class CourseTimeIndex {
+
+	/** number of weekdays */
+	private static final int DAYS = 7;
+
+	/** courses meeting on each weekday */
+	private final DayTree[] days = new DayTree[DAYS];
+	/** number of courses */
+	private final int size;
+
+	/**
+	 * Builds an index over the meeting times of the given courses.
+	 *
+	 * @param courses courses in catalog order
+	 * @throws IllegalArgumentException If courses is null or holds a null course.
+	 */
+	public CourseTimeIndex(List<Course> courses) {
+		if (courses == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		size = courses.size();
+		int[] counts = new int[DAYS];
+		for (Course c : courses) {
+			if (c == null) {
+				throw new IllegalArgumentException("Invalid catalog.");
+			}
+			for (int day = 0; day < DAYS; day++) {
+				if ((c.getMeetingDayMask() & (1 << day)) != 0) {
+					counts[day]++;
+				}
+			}
+		}
+		for (int day = 0; day < DAYS; day++) {
+			Integer[] order = new Integer[counts[day]];
+			int n = 0;
+			for (int i = 0; i < size; i++) {
+				if ((courses.get(i).getMeetingDayMask() & (1 << day)) != 0) {
+					order[n++] = i;
+				}
+			}
+			// stable, so courses with the same start stay in catalog order
+			Arrays.sort(order, (a, b) -> Integer.compare(courses.get(a).getStartTime(),
+					courses.get(b).getStartTime()));
+			days[day] = new DayTree(courses, order);
+		}
+	}
+
+	/**
+	 * Returns the number of courses in the index, including arranged ones.
+	 *
+	 * @return the number of courses
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Finds the courses that meet on any of the given days at a time that
+	 * overlaps the window.
+	 *
+	 * @param days  weekday letters, such as "W" or "MWF"
+	 * @param start start of the window in HHMM form
+	 * @param end   end of the window in HHMM form
+	 * @return the catalog positions of the courses, in catalog order
+	 * @throws IllegalArgumentException If days is null, empty, or holds a letter
+	 *                                  that is not a weekday, or the window is not
+	 *                                  a valid time range.
+	 */
+	public CourseIdSet findOverlapping(String days, int start, int end) {
+		return find(days, start, end, false);
+	}
+
+	/**
+	 * Finds the courses that meet on any of the given days entirely inside the
+	 * window.
+	 *
+	 * @param days  weekday letters, such as "W" or "MWF"
+	 * @param start start of the window in HHMM form
+	 * @param end   end of the window in HHMM form
+	 * @return the catalog positions of the courses, in catalog order
+	 * @throws IllegalArgumentException If days is null, empty, or holds a letter
+	 *                                  that is not a weekday, or the window is not
+	 *                                  a valid time range.
+	 */
+	public CourseIdSet findWithin(String days, int start, int end) {
+		return find(days, start, end, true);
+	}
+
+	/**
+	 * Finds the courses overlapping or inside a window on each of the given days.
+	 * A course can be found on more than one day, and the trees find courses in
+	 * start time order, so the positions are put back in order: by sorting when
+	 * there are few, and through a bitmap of the catalog when there are many.
+	 *
+	 * @param days   weekday letters
+	 * @param start  start of the window in HHMM form
+	 * @param end    end of the window in HHMM form
+	 * @param inside true for courses inside the window, false for overlapping
+	 * @return the catalog positions of the courses
+	 */
+	private CourseIdSet find(String days, int start, int end, boolean inside) {
+		int mask = toWeekdayMask(days);
+		if (!isTime(start) || !isTime(end) || start > end) {
+			throw new IllegalArgumentException("Invalid time.");
+		}
+		Found found = new Found();
+		for (int day = 0; day < DAYS; day++) {
+			if ((mask & (1 << day)) != 0) {
+				if (inside) {
+					this.days[day].within(start, end, found);
+				} else {
+					this.days[day].overlapping(start, end, found);
+				}
+			}
+		}
+		return CourseIdSet.of(found.sorted(size));
+	}
+
+	/**
+	 * Turns weekday letters into day bits.
+	 *
+	 * @param days weekday letters
+	 * @return the day bits
+	 * @throws IllegalArgumentException If days is null, empty, or holds a letter
+	 *                                  that is not a weekday.
+	 */
+	private static int toWeekdayMask(String days) {
+		if (days == null || days.isEmpty()) {
+			throw new IllegalArgumentException("Invalid meeting days.");
+		}
+		int mask = 0;
+		for (int i = 0; i < days.length(); i++) {
+			int bit = Activity.getDayBit(days.charAt(i));
+			if ((bit & Activity.WEEKDAYS) == 0) {
+				throw new IllegalArgumentException("Invalid meeting days.");
+			}
+			mask |= bit;
+		}
+		return mask;
+	}
+
+	/**
+	 * Checks that a time in HHMM form is a real time of day.
+	 *
+	 * @param time time to check
+	 * @return true if it is a valid time
+	 */
+	private static boolean isTime(int time) {
+		return time >= 0 && time <= 2359 && time % 100 <= 59;
+	}
+
+	/**
+	 * The courses meeting on one weekday, sorted by start time, with an interval
+	 * tree over them. The node for a run of the sorted courses is the one in the
+	 * middle; its left and right subtrees are the runs before and after it. Each
+	 * node keeps the earliest and latest end time in its subtree.
+	 */
+	private static final class DayTree {
+		/** catalog positions, by start time */
+		private final int[] ids;
+		/** start times, by start time */
+		private final int[] starts;
+		/** end times, by start time */
+		private final int[] ends;
+		/** earliest end time in the subtree of each node */
+		private final int[] minEnd;
+		/** latest end time in the subtree of each node */
+		private final int[] maxEnd;
+
+		/**
+		 * Builds the tree.
+		 *
+		 * @param courses courses in catalog order
+		 * @param order   positions of the courses meeting on the day, by start time
+		 */
+		DayTree(List<Course> courses, Integer[] order) {
+			int n = order.length;
+			ids = new int[n];
+			starts = new int[n];
+			ends = new int[n];
+			for (int i = 0; i < n; i++) {
+				Course c = courses.get(order[i]);
+				ids[i] = order[i];
+				starts[i] = c.getStartTime();
+				ends[i] = c.getEndTime();
+			}
+			minEnd = new int[n];
+			maxEnd = new int[n];
+			build(0, n);
+		}
+
+		/**
+		 * Fills in the end times of the subtree over a run.
+		 *
+		 * @param lo first index of the run
+		 * @param hi index after the run
+		 */
+		private void build(int lo, int hi) {
+			if (lo >= hi) {
+				return;
+			}
+			int mid = (lo + hi) >>> 1;
+			build(lo, mid);
+			build(mid + 1, hi);
+			int min = ends[mid];
+			int max = ends[mid];
+			if (lo < mid) {
+				min = Math.min(min, minEnd[(lo + mid) >>> 1]);
+				max = Math.max(max, maxEnd[(lo + mid) >>> 1]);
+			}
+			if (mid + 1 < hi) {
+				min = Math.min(min, minEnd[(mid + 1 + hi) >>> 1]);
+				max = Math.max(max, maxEnd[(mid + 1 + hi) >>> 1]);
+			}
+			minEnd[mid] = min;
+			maxEnd[mid] = max;
+		}
+
+		/**
+		 * Finds the courses that start no later than the window ends and end no
+		 * earlier than it starts.
+		 *
+		 * @param start start of the window
+		 * @param end   end of the window
+		 * @param found courses found
+		 */
+		void overlapping(int start, int end, Found found) {
+			collect(0, ids.length, 0, firstStartAfter(end), start, Integer.MAX_VALUE, found);
+		}
+
+		/**
+		 * Finds the courses that start no earlier than the window and end no later.
+		 *
+		 * @param start start of the window
+		 * @param end   end of the window
+		 * @param found courses found
+		 */
+		void within(int start, int end, Found found) {
+			collect(0, ids.length, firstStartAfter(start - 1), firstStartAfter(end), Integer.MIN_VALUE, end,
+					found);
+		}
+
+		/**
+		 * Returns the index of the first course that starts after a time.
+		 *
+		 * @param time time in HHMM form
+		 * @return the index, or the number of courses if none start after it
+		 */
+		private int firstStartAfter(int time) {
+			int lo = 0;
+			int hi = starts.length;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (starts[mid] <= time) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo;
+		}
+
+		/**
+		 * Collects the courses of a subtree that are in a run and end between two
+		 * times, skipping subtrees outside the run or with no such end time.
+		 *
+		 * @param lo      first index of the subtree
+		 * @param hi      index after the subtree
+		 * @param from    first index of the run
+		 * @param to      index after the run
+		 * @param endMin  earliest end time to collect
+		 * @param endMax  latest end time to collect
+		 * @param found   courses collected
+		 */
+		private void collect(int lo, int hi, int from, int to, int endMin, int endMax, Found found) {
+			if (lo >= hi || hi <= from || lo >= to) {
+				return;
+			}
+			int mid = (lo + hi) >>> 1;
+			if (maxEnd[mid] < endMin || minEnd[mid] > endMax) {
+				return;
+			}
+			collect(lo, mid, from, to, endMin, endMax, found);
+			if (mid >= from && mid < to && ends[mid] >= endMin && ends[mid] <= endMax) {
+				found.add(ids[mid]);
+			}
+			collect(mid + 1, hi, from, to, endMin, endMax, found);
+		}
+	}
+
+	/**
+	 * A growing list of the catalog positions found, in any order and possibly
+	 * repeated.
+	 */
+	private static final class Found {
+		/** positions found */
+		private int[] ids = new int[16];
+		/** number of positions */
+		private int size;
+
+		/**
+		 * Adds a position.
+		 *
+		 * @param id position of the course
+		 */
+		void add(int id) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+
+		/**
+		 * Returns the positions found, in order and without repeats.
+		 *
+		 * @param universe number of positions in the catalog
+		 * @return the positions
+		 */
+		int[] sorted(int universe) {
+			if (size < universe >>> 6) {
+				int[] sorted = Arrays.copyOf(ids, size);
+				Arrays.sort(sorted);
+				int n = 0;
+				for (int i = 0; i < sorted.length; i++) {
+					if (n == 0 || sorted[i] != sorted[n - 1]) {
+						sorted[n++] = sorted[i];
+					}
+				}
+				return Arrays.copyOf(sorted, n);
+			}
+			long[] bits = new long[(universe + 63) >>> 6];
+			for (int i = 0; i < size; i++) {
+				bits[ids[i] >>> 6] |= 1L << ids[i];
+			}
+			int n = 0;
+			for (long w : bits) {
+				n += Long.bitCount(w);
+			}
+			int[] sorted = new int[n];
+			n = 0;
+			for (int i = 0; i < bits.length; i++) {
+				long w = bits[i];
+				while (w != 0) {
+					sorted[n++] = i << 6 | Long.numberOfTrailingZeros(w);
+					w &= w - 1;
+				}
+			}
+			return sorted;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * A schedule found by ScheduleGenerator.best(), with its cost under the
+ * SchedulePreferences it was ranked by. A lower cost is a better schedule.
+ *
+ * @author Kevin John
+ */
+public final class RankedSchedule {
+
+	/** sections on the schedule, in the order the courses were asked for */
+	private final List<Course> courses;
+	/** cost of the schedule */
+	private final double cost;
+
+	/**
+	 * Constructs a ranked schedule.
+	 *
+	 * @param courses sections on the schedule, which can't be changed
+	 * @param cost    cost of the schedule
+	 */
+	RankedSchedule(List<Course> courses, double cost) {
+		this.courses = courses;
+		this.cost = cost;
+	}
+
+	/**
+	 * Returns the sections on the schedule, in the order the courses were asked
+	 * for. The list can't be changed.
+	 *
+	 * @return the sections
+	 */
+	public List<Course> getCourses() {
+		return courses;
+	}
+
+	/**
+	 * Returns the cost of the schedule.
+	 *
+	 * @return the cost, lower being better
+	 */
+	public double getCost() {
+		return cost;
+	}
+}
@@ -0,0 +1,1202 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Finds every way to take one section of each of a list of courses without two
+ * of them meeting at the same time. The sections are chosen one course at a
+ * time, and a section that conflicts with one already chosen is skipped along
+ * with every schedule that would include it, so combinations that can't work
+ * are never built. Courses with the fewest sections are chosen first, since
+ * they rule out the most.
+ *
+ * Schedules are found as the stream returned by generate() is read, so only as
+ * many are found as the caller reads, up to a cap on the number of schedules
+ * and on the time spent looking. Conflicts follow the same rule as
+ * ConflictChecker: activities conflict if they share a weekday and one starts
+ * no later than the other ends, and arranged courses never conflict.
+ *
+ * generateParallel() and bestParallel() search the same tree with the threads
+ * of a ForkJoinPool, for searches too big for one core. A generator only reads the
+ * catalog and its own arrays once it is built, so one generator can be used by
+ * several threads at once.
+ *
+ * @author Kevin John
+ */
+public class ScheduleGenerator {
+
+	/** how many search steps are taken between checks of the clock */
+	private static final int STEPS_PER_CLOCK_CHECK = 256;
+	/** combinations of sections below a parallel task worth splitting it for */
+	private static final long SPLIT_THRESHOLD = 1 << 12;
+
+	/** the courses wanted, in the order they were asked for */
+	private final String[] names;
+	/** for each course in search order, its position in names */
+	private final int[] namePosition;
+	/** for each course in search order, the sections that can be taken */
+	private final Course[][] sections;
+	/** weekday bits of each section, matching sections */
+	private final int[][] days;
+	/** first minute of each section, matching sections */
+	private final int[][] starts;
+	/** last minute of each section, matching sections */
+	private final int[][] ends;
+	/** activities every schedule must fit around */
+	private final List<Activity> fixed;
+	/** weekday bits of the days the fixed activities meet on */
+	private final int fixedDays;
+	/** first minute of the fixed activities on each weekday they meet on */
+	private final int[] fixedFirst = new int[7];
+	/** last minute of the fixed activities on each weekday they meet on */
+	private final int[] fixedLast = new int[7];
+
+	/**
+	 * Constructs a generator for the given courses. Each name must be the name of
+	 * a course in the catalog, such as "CSC 216"; a name given twice is only used
+	 * once.
+	 *
+	 * @param catalog     catalog to take the sections from
+	 * @param courseNames names of the courses wanted
+	 * @throws IllegalArgumentException If catalog or courseNames is null, or a
+	 *                                  name is not in the catalog.
+	 */
+	public ScheduleGenerator(CourseCatalog catalog, List<String> courseNames) {
+		this(catalog, courseNames, new ArrayList<Activity>());
+	}
+
+	/**
+	 * Constructs a generator for the given courses that only uses sections that
+	 * don't conflict with the given activities, such as events already on a
+	 * student's schedule.
+	 *
+	 * @param catalog     catalog to take the sections from
+	 * @param courseNames names of the courses wanted
+	 * @param fixed       activities every schedule must fit around
+	 * @throws IllegalArgumentException If any parameter is null, or a name is not
+	 *                                  in the catalog.
+	 */
+	public ScheduleGenerator(CourseCatalog catalog, List<String> courseNames, List<? extends Activity> fixed) {
+		if (catalog == null || courseNames == null || fixed == null) {
+			throw new IllegalArgumentException("Invalid course list.");
+		}
+		LinkedHashSet<String> unique = new LinkedHashSet<String>();
+		for (String name : courseNames) {
+			if (catalog.getSections(name).isEmpty()) {
+				throw new IllegalArgumentException("Cannot find course " + name + ".");
+			}
+			unique.add(name);
+		}
+		names = unique.toArray(new String[0]);
+		this.fixed = Collections.unmodifiableList(new ArrayList<Activity>(fixed));
+
+		// the times the fixed activities take on each day, which best() starts from
+		int used = 0;
+		for (Activity a : this.fixed) {
+			int d = a.getMeetingDayMask() & Activity.WEEKDAYS;
+			int start = ConflictChecker.toMinutes(a.getStartTime());
+			int end = ConflictChecker.toMinutes(a.getEndTime());
+			for (int day = 0; day < 7; day++) {
+				if ((d & (1 << day)) == 0) {
+					continue;
+				}
+				if ((used & (1 << day)) == 0) {
+					fixedFirst[day] = start;
+					fixedLast[day] = end;
+				} else {
+					fixedFirst[day] = Math.min(fixedFirst[day], start);
+					fixedLast[day] = Math.max(fixedLast[day], end);
+				}
+			}
+			used |= d;
+		}
+		fixedDays = used;
+
+		// keep the sections that fit around the fixed activities
+		ArrayList<List<Course>> candidates = new ArrayList<List<Course>>();
+		for (String name : names) {
+			ArrayList<Course> fits = new ArrayList<Course>();
+			for (Course c : catalog.getSections(name)) {
+				boolean conflict = false;
+				for (Activity a : fixed) {
+					if (conflicts(c, a)) {
+						conflict = true;
+						break;
+					}
+				}
+				if (!conflict) {
+					fits.add(c);
+				}
+			}
+			candidates.add(fits);
+		}
+
+		// search the courses with the fewest sections first
+		Integer[] order = new Integer[names.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Integer.compare(candidates.get(a).size(), candidates.get(b).size()));
+
+		int n = names.length;
+		namePosition = new int[n];
+		sections = new Course[n][];
+		days = new int[n][];
+		starts = new int[n][];
+		ends = new int[n][];
+		for (int k = 0; k < n; k++) {
+			namePosition[k] = order[k];
+			sections[k] = candidates.get(order[k]).toArray(new Course[0]);
+			int count = sections[k].length;
+			days[k] = new int[count];
+			starts[k] = new int[count];
+			ends[k] = new int[count];
+			for (int s = 0; s < count; s++) {
+				Course c = sections[k][s];
+				days[k][s] = c.getMeetingDayMask() & Activity.WEEKDAYS;
+				starts[k][s] = ConflictChecker.toMinutes(c.getStartTime());
+				ends[k][s] = ConflictChecker.toMinutes(c.getEndTime());
+			}
+		}
+	}
+
+	/**
+	 * Returns a stream of the schedules that take one section of each course with
+	 * no conflicts. Each schedule is an unmodifiable list of sections in the order
+	 * the courses were asked for. The schedules are found as the stream is read,
+	 * and the stream ends early, without an error, once maxResults schedules have
+	 * been found or timeLimitMillis milliseconds have passed since this call. Pass
+	 * Long.MAX_VALUE for either to leave it uncapped.
+	 *
+	 * @param maxResults      most schedules to return
+	 * @param timeLimitMillis most time to spend, in milliseconds
+	 * @return the conflict free schedules
+	 * @throws IllegalArgumentException If maxResults or timeLimitMillis is less
+	 *                                  than one.
+	 */
+	public Stream<List<Course>> generate(long maxResults, long timeLimitMillis) {
+		if (maxResults < 1 || timeLimitMillis < 1) {
+			throw new IllegalArgumentException("Invalid limit.");
+		}
+		Search search = new Search(maxResults, new Limits(timeLimitMillis));
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(search,
+				Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+	}
+
+	/**
+	 * Returns the schedules that take one section of each course with no
+	 * conflicts, searching with the common ForkJoinPool. See
+	 * generateParallel(long, long, boolean, ForkJoinPool).
+	 *
+	 * @param maxResults      most schedules to return
+	 * @param timeLimitMillis most time to spend, in milliseconds
+	 * @param ordered         true to return the same schedules in the same order
+	 *                        as generate()
+	 * @return the conflict free schedules
+	 * @throws IllegalArgumentException If maxResults or timeLimitMillis is less
+	 *                                  than one.
+	 */
+	public List<List<Course>> generateParallel(long maxResults, long timeLimitMillis, boolean ordered) {
+		return generateParallel(maxResults, timeLimitMillis, ordered, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the schedules that take one section of each course with no
+	 * conflicts, searching the tree of choices with the threads of the given pool.
+	 * The tree is split into a task for each section of the first few courses,
+	 * until each task has few enough schedules below it to search alone. Every
+	 * task stops once the time limit passes.
+	 *
+	 * If ordered is true, the result is the same as collecting generate() with
+	 * the same cap, unless the time limit cuts the search short. Each task then
+	 * publishes how many schedules it has kept, and a task stops, or never starts,
+	 * once the tasks before it in the tree hold maxResults between them, since
+	 * none of its schedules could be returned. The tasks are run in tree order
+	 * where they can be, so a small cap only searches about as much of the tree as
+	 * generate() would. If ordered is false, the tasks share a count of the
+	 * schedules found and all of them stop as soon as maxResults are found, so the
+	 * schedules returned depend on which tasks ran first.
+	 *
+	 * Unlike generate(), the schedules are all found before this returns, so
+	 * maxResults should be set to what the caller can hold.
+	 *
+	 * @param maxResults      most schedules to return
+	 * @param timeLimitMillis most time to spend, in milliseconds
+	 * @param ordered         true to return the same schedules in the same order
+	 *                        as generate()
+	 * @param pool            pool to search with
+	 * @return the conflict free schedules
+	 * @throws IllegalArgumentException If maxResults or timeLimitMillis is less
+	 *                                  than one, or pool is null.
+	 */
+	public List<List<Course>> generateParallel(long maxResults, long timeLimitMillis, boolean ordered,
+			ForkJoinPool pool) {
+		if (maxResults < 1 || timeLimitMillis < 1) {
+			throw new IllegalArgumentException("Invalid limit.");
+		}
+		if (pool == null) {
+			throw new IllegalArgumentException("Invalid pool.");
+		}
+		SearchTask search = new SearchTask(null, 0, new int[0], maxResults, ordered, new AtomicLong(),
+				new Limits(timeLimitMillis));
+		pool.invoke(search);
+		ArrayList<List<Course>> schedules = new ArrayList<List<Course>>();
+		search.collect(schedules);
+		return schedules;
+	}
+
+	/**
+	 * Returns the k best schedules under the given preferences, best first. The
+	 * cost of a schedule is that of the whole week: the sections chosen along
+	 * with the activities the generator fits around, so a day the fixed
+	 * activities already use costs nothing more to add a class to. Schedules of
+	 * the same cost are kept in the order the search finds them, so the same
+	 * request always gets the same schedules.
+	 *
+	 * The search is branch and bound: it keeps the k best schedules found so far,
+	 * and it skips a partial schedule as soon as it can't beat the worst of them.
+	 * The most a partial schedule can improve by is the cheapest section of each
+	 * course still to choose, since its day costs can only go up, so most of the
+	 * tree is never visited once a few good schedules are known. The sections of
+	 * each course are tried cheapest first so good schedules are found early. If
+	 * the time limit passes, the best schedules found so far are returned.
+	 *
+	 * @param k               most schedules to return
+	 * @param preferences     what the student wants
+	 * @param timeLimitMillis most time to spend, in milliseconds
+	 * @return the best schedules and their costs
+	 * @throws IllegalArgumentException If k or timeLimitMillis is less than one,
+	 *                                  or preferences is null.
+	 */
+	public List<RankedSchedule> best(int k, SchedulePreferences preferences, long timeLimitMillis) {
+		checkBest(k, preferences, timeLimitMillis);
+		BranchAndBound search = new BranchAndBound(k, preferences, new Limits(timeLimitMillis));
+		search.new Walker(new int[0]).run();
+		return search.ranked();
+	}
+
+	/**
+	 * Returns the k best schedules under the given preferences, searching with
+	 * the common ForkJoinPool. See bestParallel(int, SchedulePreferences, long,
+	 * ForkJoinPool).
+	 *
+	 * @param k               most schedules to return
+	 * @param preferences     what the student wants
+	 * @param timeLimitMillis most time to spend, in milliseconds
+	 * @return the best schedules and their costs
+	 * @throws IllegalArgumentException If k or timeLimitMillis is less than one,
+	 *                                  or preferences is null.
+	 */
+	public List<RankedSchedule> bestParallel(int k, SchedulePreferences preferences, long timeLimitMillis) {
+		return bestParallel(k, preferences, timeLimitMillis, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the k best schedules under the given preferences, running the
+	 * branch and bound of best() with the threads of the given pool. The tree is
+	 * split into tasks the same way as for generateParallel(), and every task
+	 * keeps its schedules in one shared list of the k best. The worst schedule in
+	 * that list is published to every task as soon as it changes, so a good
+	 * schedule found by one task lets all of them skip what can't beat it.
+	 *
+	 * Ties are broken by where the schedules are in the tree rather than by when
+	 * they are found, so unless the time limit cuts the search short the result
+	 * is the same as best() gives, however the tasks are run.
+	 *
+	 * @param k               most schedules to return
+	 * @param preferences     what the student wants
+	 * @param timeLimitMillis most time to spend, in milliseconds
+	 * @param pool            pool to search with
+	 * @return the best schedules and their costs
+	 * @throws IllegalArgumentException If k or timeLimitMillis is less than one,
+	 *                                  or preferences or pool is null.
+	 */
+	public List<RankedSchedule> bestParallel(int k, SchedulePreferences preferences, long timeLimitMillis,
+			ForkJoinPool pool) {
+		checkBest(k, preferences, timeLimitMillis);
+		if (pool == null) {
+			throw new IllegalArgumentException("Invalid pool.");
+		}
+		BranchAndBound search = new BranchAndBound(k, preferences, new Limits(timeLimitMillis));
+		pool.invoke(search.new BoundTask(new int[0]));
+		return search.ranked();
+	}
+
+	/**
+	 * Checks the arguments of best() and bestParallel().
+	 *
+	 * @param k               most schedules to return
+	 * @param preferences     what the student wants
+	 * @param timeLimitMillis most time to spend, in milliseconds
+	 * @throws IllegalArgumentException If k or timeLimitMillis is less than one,
+	 *                                  or preferences is null.
+	 */
+	private static void checkBest(int k, SchedulePreferences preferences, long timeLimitMillis) {
+		if (k < 1 || timeLimitMillis < 1) {
+			throw new IllegalArgumentException("Invalid limit.");
+		}
+		if (preferences == null) {
+			throw new IllegalArgumentException("Invalid preferences.");
+		}
+	}
+
+	/**
+	 * Returns how many combinations of sections there are for the levels from the
+	 * given one down, without checking for conflicts.
+	 *
+	 * @param depth first level
+	 * @return the number of combinations, or Long.MAX_VALUE if there are more
+	 */
+	private long schedulesBelow(int depth) {
+		long count = 1;
+		for (int k = depth; k < sections.length; k++) {
+			int n = sections[k].length;
+			if (n != 0 && count > Long.MAX_VALUE / n) {
+				return Long.MAX_VALUE;
+			}
+			count *= n;
+		}
+		return count;
+	}
+
+	/**
+	 * Checks whether a section at one level conflicts with the sections chosen at
+	 * the levels above it.
+	 *
+	 * @param depth  level of the section
+	 * @param s      index of the section
+	 * @param choice sections chosen at each level
+	 * @return true if it conflicts
+	 */
+	private boolean conflictsWithChosen(int depth, int s, int[] choice) {
+		int d = days[depth][s];
+		if (d == 0) {
+			return false;
+		}
+		int start = starts[depth][s];
+		int end = ends[depth][s];
+		for (int k = 0; k < depth; k++) {
+			int c = choice[k];
+			if ((days[k][c] & d) != 0 && starts[k][c] <= end && start <= ends[k][c]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether two activities meet at the same time.
+	 *
+	 * @param a first activity
+	 * @param b second activity
+	 * @return true if they conflict
+	 */
+	private static boolean conflicts(Activity a, Activity b) {
+		if ((a.getMeetingDayMask() & b.getMeetingDayMask() & Activity.WEEKDAYS) == 0) {
+			return false;
+		}
+		return ConflictChecker.toMinutes(a.getStartTime()) <= ConflictChecker.toMinutes(b.getEndTime())
+				&& ConflictChecker.toMinutes(b.getStartTime()) <= ConflictChecker.toMinutes(a.getEndTime());
+	}
+
+	/**
+	 * Walks the choices of sections depth first, one course per level, keeping the
+	 * index of the section chosen at each level. Each call to next() picks up
+	 * where the last schedule was found. A search can start below a prefix of
+	 * choices that is already made, which it then never changes, so parallel
+	 * tasks can each search one part of the tree.
+	 */
+	private class Search implements Iterator<List<Course>> {
+
+		/** section chosen at each level, or -1 before the first is tried */
+		private final int[] choice;
+		/** first level the search may change */
+		private final int floor;
+		/** level being chosen */
+		private int depth;
+		/** schedules that can still be returned */
+		private long remaining;
+		/** when the search has to stop */
+		private final Limits limits;
+		/** steps taken since the clock was last checked */
+		private int steps;
+		/** next schedule to return, or null if it hasn't been found yet */
+		private List<Course> next;
+		/** true once the search can't find any more schedules */
+		private boolean done;
+
+		/**
+		 * Starts a search of the whole tree.
+		 *
+		 * @param maxResults most schedules to return
+		 * @param limits     when the search has to stop
+		 */
+		Search(long maxResults, Limits limits) {
+			this(new int[0], maxResults, limits);
+		}
+
+		/**
+		 * Starts a search of the part of the tree below the given choices.
+		 *
+		 * @param prefix     sections chosen for the first levels, which must not
+		 *                   conflict
+		 * @param maxResults most schedules to return
+		 * @param limits     when the search has to stop
+		 */
+		Search(int[] prefix, long maxResults, Limits limits) {
+			choice = new int[sections.length];
+			Arrays.fill(choice, -1);
+			System.arraycopy(prefix, 0, choice, 0, prefix.length);
+			floor = prefix.length;
+			depth = floor;
+			remaining = maxResults;
+			this.limits = limits;
+			if (floor == sections.length) {
+				// every choice is already made, so there is exactly one schedule
+				next = schedule();
+				done = true;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next == null && !done) {
+				next = find();
+				done = next == null;
+			}
+			return next != null;
+		}
+
+		@Override
+		public List<Course> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			List<Course> schedule = next;
+			next = null;
+			if (--remaining == 0) {
+				done = true;
+			}
+			return schedule;
+		}
+
+		/**
+		 * Finds the next schedule, trying the section after the last one chosen.
+		 *
+		 * @return the next schedule, or null if there are no more or the search has
+		 *         to stop
+		 */
+		private List<Course> find() {
+			int last = sections.length - 1;
+			while (depth >= floor) {
+				if (++steps == STEPS_PER_CLOCK_CHECK) {
+					steps = 0;
+					if (limits.expired()) {
+						return null;
+					}
+				}
+				int s = ++choice[depth];
+				if (s == sections[depth].length) {
+					// every section at this level has been tried
+					choice[depth] = -1;
+					depth--;
+					continue;
+				}
+				if (conflictsWithChosen(depth, s, choice)) {
+					continue;
+				}
+				if (depth == last) {
+					return schedule();
+				}
+				depth++;
+			}
+			return null;
+		}
+
+		/**
+		 * Builds the schedule for the sections chosen at every level.
+		 *
+		 * @return the schedule, in the order the courses were asked for
+		 */
+		private List<Course> schedule() {
+			Course[] schedule = new Course[names.length];
+			for (int k = 0; k < choice.length; k++) {
+				schedule[namePosition[k]] = sections[k][choice[k]];
+			}
+			return Collections.unmodifiableList(Arrays.asList(schedule));
+		}
+	}
+
+	/**
+	 * Searches one part of the tree of choices in a ForkJoinPool. A task with
+	 * many schedules below it forks a task for each section that fits at the next
+	 * level; a smaller one searches its part with a Search and keeps what it
+	 * finds. The schedules are gathered from the tasks once, in order, after every
+	 * task is done, rather than copied up through each level.
+	 *
+	 * When the order is kept, every task counts the schedules kept in its part of
+	 * the tree, and a searching task adds to the counts of the tasks above it
+	 * every so often. The schedules kept before a task in the tree are then the
+	 * counts of the earlier siblings of the task and of each task above it, which
+	 * tells a task when none of its schedules could be returned.
+	 */
+	private class SearchTask extends RecursiveAction {
+
+		/** ID used for serialization */
+		private static final long serialVersionUID = 1L;
+		/** schedules a task finds between updates of the kept counts, less one */
+		private static final int PUBLISH_MASK = 63;
+
+		/** task this one was split from, or null for the whole tree */
+		private final SearchTask parent;
+		/** position of this task among the tasks its parent was split into */
+		private final int index;
+		/** sections chosen for the levels above this part of the tree */
+		private final int[] prefix;
+		/** most schedules the whole search returns */
+		private final long maxResults;
+		/** true to return schedules in the order a sequential search finds them */
+		private final boolean ordered;
+		/** schedules found so far by every task, used when not ordered */
+		private final AtomicLong found;
+		/** when the search has to stop */
+		private final Limits limits;
+		/** schedules kept in this part of the tree so far, used when ordered */
+		private final AtomicLong kept = new AtomicLong();
+		/** tasks this one was split into, or null if it searched alone */
+		private volatile SearchTask[] children;
+		/** schedules this task found, if it searched alone */
+		private ArrayList<List<Course>> results;
+
+		/**
+		 * Creates a task for the part of the tree below the given choices.
+		 *
+		 * @param parent     task this one was split from, or null
+		 * @param index      position among the tasks the parent was split into
+		 * @param prefix     sections chosen for the levels above
+		 * @param maxResults most schedules the whole search returns
+		 * @param ordered    true to keep the sequential order
+		 * @param found      schedules found so far by every task
+		 * @param limits     when the search has to stop
+		 */
+		SearchTask(SearchTask parent, int index, int[] prefix, long maxResults, boolean ordered, AtomicLong found,
+				Limits limits) {
+			this.parent = parent;
+			this.index = index;
+			this.prefix = prefix;
+			this.maxResults = maxResults;
+			this.ordered = ordered;
+			this.found = found;
+			this.limits = limits;
+		}
+
+		@Override
+		protected void compute() {
+			if (limits.expired()) {
+				return;
+			}
+			long before = ordered ? keptBefore() : 0;
+			if (before >= maxResults) {
+				// the tasks before this one already hold every schedule returned
+				return;
+			}
+			int depth = prefix.length;
+			if (depth < sections.length - 1 && schedulesBelow(depth) > SPLIT_THRESHOLD) {
+				split(depth);
+				return;
+			}
+			results = new ArrayList<List<Course>>();
+			Search search = new Search(prefix, maxResults - before, limits);
+			int published = 0;
+			while (search.hasNext()) {
+				List<Course> schedule = search.next();
+				if (!ordered && found.incrementAndGet() > maxResults) {
+					// every task can stop now that the cap is reached
+					limits.stop();
+					break;
+				}
+				results.add(schedule);
+				if (ordered && (results.size() & PUBLISH_MASK) == 0) {
+					publish(results.size() - published);
+					published = results.size();
+					if (keptBefore() + results.size() >= maxResults) {
+						break;
+					}
+				}
+			}
+			if (ordered) {
+				publish(results.size() - published);
+			}
+		}
+
+		/**
+		 * Splits this task into a task for each section that fits at the next
+		 * level and runs them. When the order is kept, the earliest is run here
+		 * first and the rest are joined in order, so tasks later in the tree are
+		 * only searched before earlier ones by threads that would be idle.
+		 *
+		 * @param depth level to split at
+		 */
+		private void split(int depth) {
+			ArrayList<SearchTask> tasks = new ArrayList<SearchTask>();
+			int[] child = Arrays.copyOf(prefix, depth + 1);
+			for (int s = 0; s < sections[depth].length; s++) {
+				if (!conflictsWithChosen(depth, s, child)) {
+					child[depth] = s;
+					tasks.add(new SearchTask(this, tasks.size(), child.clone(), maxResults, ordered, found, limits));
+				}
+			}
+			SearchTask[] split = tasks.toArray(new SearchTask[0]);
+			children = split;
+			if (!ordered || split.length == 0) {
+				invokeAll(split);
+				return;
+			}
+			// forked last to first, so this thread takes them back first to last
+			for (int i = split.length - 1; i > 0; i--) {
+				split[i].fork();
+			}
+			split[0].invoke();
+			for (int i = 1; i < split.length; i++) {
+				split[i].join();
+			}
+		}
+
+		/**
+		 * Adds schedules this task has kept to its count and those of the tasks
+		 * above it.
+		 *
+		 * @param count schedules kept since the last update
+		 */
+		private void publish(long count) {
+			if (count == 0) {
+				return;
+			}
+			for (SearchTask t = this; t.parent != null; t = t.parent) {
+				t.kept.addAndGet(count);
+			}
+		}
+
+		/**
+		 * Counts the schedules kept so far by the tasks before this one in the
+		 * tree. Each is one of the first schedules of its own part, and all of them
+		 * come before any this task finds.
+		 *
+		 * @return the schedules kept before this task
+		 */
+		private long keptBefore() {
+			long count = 0;
+			for (SearchTask t = this; t.parent != null; t = t.parent) {
+				SearchTask[] siblings = t.parent.children;
+				for (int i = 0; i < t.index; i++) {
+					count += siblings[i].kept.get();
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * Adds the schedules found by this task and the tasks it was split into, in
+		 * order, until there are maxResults.
+		 *
+		 * @param schedules list to add to
+		 */
+		void collect(ArrayList<List<Course>> schedules) {
+			if (children != null) {
+				for (SearchTask child : children) {
+					child.collect(schedules);
+				}
+			} else if (results != null) {
+				for (List<Course> schedule : results) {
+					if (schedules.size() >= maxResults) {
+						return;
+					}
+					schedules.add(schedule);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the best schedules for best() and bestParallel(). It holds what every
+	 * part of a search shares: each section's own cost, the sections of each
+	 * level from cheapest to dearest, the cost and day times of the fixed
+	 * activities the search starts from, and the k best schedules found. Each
+	 * Walker searches one part of the tree with its own working arrays.
+	 *
+	 * A schedule's place in the tree is the position, in cheapest first order, of
+	 * the section chosen at each level. A sequential search finds schedules in
+	 * that order, so ties are broken by it, which gives a parallel search the
+	 * same result.
+	 */
+	private class BranchAndBound {
+
+		/** days in a week */
+		private static final int DAYS = 7;
+
+		/** most schedules to keep */
+		private final int k;
+		/** what the student wants */
+		private final SchedulePreferences preferences;
+		/** when the search has to stop */
+		private final Limits limits;
+		/** each section's own cost, matching sections */
+		private final double[][] ownCost;
+		/** for each level, its sections from cheapest to dearest */
+		private final int[][] order;
+		/** for each level, the least the levels from it down can add */
+		private final double[] leastBelow;
+		/** cost of the fixed activities on their own */
+		private final double baseCost;
+		/** the best schedules found, worst at the head */
+		private final PriorityQueue<Candidate> kept;
+		/**
+		 * the worst of the k best schedules, or null until k are found; read
+		 * without locking by every task to skip what can't beat it
+		 */
+		private volatile Candidate worst;
+
+		/**
+		 * Sets up a search.
+		 *
+		 * @param k           most schedules to keep
+		 * @param preferences what the student wants
+		 * @param limits      when the search has to stop
+		 */
+		BranchAndBound(int k, SchedulePreferences preferences, Limits limits) {
+			this.k = k;
+			this.preferences = preferences;
+			this.limits = limits;
+			int n = sections.length;
+			ownCost = new double[n][];
+			order = new int[n][];
+			leastBelow = new double[n + 1];
+			for (int level = 0; level < n; level++) {
+				double[] costs = new double[sections[level].length];
+				Integer[] byCost = new Integer[costs.length];
+				for (int s = 0; s < costs.length; s++) {
+					costs[s] = preferences.sectionCost(sections[level][s]);
+					byCost[s] = s;
+				}
+				// a stable sort keeps catalog order among sections of the same cost
+				Arrays.sort(byCost, (a, b) -> Double.compare(costs[a], costs[b]));
+				ownCost[level] = costs;
+				order[level] = new int[costs.length];
+				for (int s = 0; s < costs.length; s++) {
+					order[level][s] = byCost[s];
+				}
+			}
+			for (int level = n - 1; level >= 0; level--) {
+				double least = order[level].length == 0 ? 0 : ownCost[level][order[level][0]];
+				leastBelow[level] = leastBelow[level + 1] + least;
+			}
+			baseCost = preferences.cost(fixed);
+			kept = new PriorityQueue<Candidate>(k + 1, (a, b) -> b.compareTo(a));
+		}
+
+		/**
+		 * Keeps a schedule if it is one of the k best so far.
+		 *
+		 * @param candidate schedule found
+		 */
+		synchronized void keep(Candidate candidate) {
+			if (kept.size() == k && candidate.compareTo(kept.peek()) >= 0) {
+				return;
+			}
+			kept.add(candidate);
+			if (kept.size() > k) {
+				kept.poll();
+			}
+			if (kept.size() == k) {
+				worst = kept.peek();
+			}
+		}
+
+		/**
+		 * Checks whether every schedule below a partial one would be worse than the
+		 * worst of the k best: it costs more, or costs the same and comes later in
+		 * the tree.
+		 *
+		 * @param least least cost of a schedule below the partial one
+		 * @param path  positions chosen at the levels above and at this one
+		 * @param depth level being chosen
+		 * @return true if the partial schedule can be skipped
+		 */
+		boolean cantBeat(double least, int[] path, int depth) {
+			Candidate w = worst;
+			if (w == null || least < w.cost) {
+				return false;
+			}
+			if (least > w.cost) {
+				return true;
+			}
+			return Arrays.compare(path, 0, depth + 1, w.path, 0, depth + 1) > 0;
+		}
+
+		/**
+		 * Returns the schedules kept, best first.
+		 *
+		 * @return the best schedules and their costs
+		 */
+		synchronized List<RankedSchedule> ranked() {
+			ArrayList<Candidate> best = new ArrayList<Candidate>(kept);
+			best.sort(null);
+			ArrayList<RankedSchedule> ranked = new ArrayList<RankedSchedule>();
+			for (Candidate c : best) {
+				ranked.add(new RankedSchedule(c.schedule, c.cost));
+			}
+			return ranked;
+		}
+
+		/**
+		 * Searches the part of the tree below a prefix of choices. The cost of the
+		 * schedule chosen so far is kept as it grows, along with the first and last
+		 * minute of class on each day at each level, so adding a section only costs
+		 * the days it meets on.
+		 */
+		private class Walker {
+			/** section chosen at each level */
+			private final int[] choice;
+			/** position of the section chosen at each level, in order */
+			private final int[] path;
+			/** first minute of class on each day, for the schedule above each level */
+			private final int[][] first;
+			/** last minute of class on each day, for the schedule above each level */
+			private final int[][] last;
+			/** weekday bits of the days with a class, above each level */
+			private final int[] used;
+			/** cost of the schedule above each level */
+			private final double[] cost;
+			/** first level the walker may change */
+			private final int floor;
+			/** steps taken since the clock was last checked */
+			private int steps;
+
+			/**
+			 * Starts from the fixed activities and takes the sections at the given
+			 * positions for the first levels.
+			 *
+			 * @param prefix positions, in order, of the sections chosen for the first
+			 *               levels, which must not conflict
+			 */
+			Walker(int[] prefix) {
+				int n = sections.length;
+				choice = new int[n];
+				path = new int[n];
+				first = new int[n + 1][];
+				last = new int[n + 1][];
+				used = new int[n + 1];
+				cost = new double[n + 1];
+				for (int level = 0; level <= n; level++) {
+					first[level] = new int[DAYS];
+					last[level] = new int[DAYS];
+				}
+				System.arraycopy(fixedFirst, 0, first[0], 0, DAYS);
+				System.arraycopy(fixedLast, 0, last[0], 0, DAYS);
+				used[0] = fixedDays;
+				cost[0] = baseCost;
+				for (int level = 0; level < prefix.length; level++) {
+					take(level, prefix[level], costWith(level, order[level][prefix[level]]));
+				}
+				floor = prefix.length;
+			}
+
+			/**
+			 * Checks whether every schedule below the prefix would be worse than the
+			 * worst of the k best.
+			 *
+			 * @return true if the prefix can be skipped
+			 */
+			boolean cantBeatPrefix() {
+				return cantBeat(cost[floor] + leastBelow[floor], path, floor - 1);
+			}
+
+			/**
+			 * Searches every schedule below the prefix.
+			 */
+			void run() {
+				search(floor);
+			}
+
+			/**
+			 * Checks whether the section at a position of a level conflicts with the
+			 * sections chosen above it.
+			 *
+			 * @param depth    level of the section
+			 * @param position position of the section in order
+			 * @return true if it conflicts
+			 */
+			boolean conflicts(int depth, int position) {
+				return conflictsWithChosen(depth, order[depth][position], choice);
+			}
+
+			/**
+			 * Chooses a section at one level and searches below it, for each section
+			 * that fits and could still make one of the k best schedules.
+			 *
+			 * @param depth level to choose
+			 */
+			private void search(int depth) {
+				if (depth == sections.length) {
+					found();
+					return;
+				}
+				for (int j = 0; j < order[depth].length; j++) {
+					if (++steps == STEPS_PER_CLOCK_CHECK) {
+						steps = 0;
+						if (limits.expired()) {
+							return;
+						}
+					}
+					int s = order[depth][j];
+					if (conflictsWithChosen(depth, s, choice)) {
+						continue;
+					}
+					double next = costWith(depth, s);
+					path[depth] = j;
+					if (cantBeat(next + leastBelow[depth + 1], path, depth)) {
+						// can't beat the worst schedule kept, even with the cheapest sections below
+						continue;
+					}
+					take(depth, j, next);
+					search(depth + 1);
+					if (limits.isStopped()) {
+						return;
+					}
+				}
+			}
+
+			/**
+			 * Returns the cost of the schedule above a level with a section of the
+			 * level added.
+			 *
+			 * @param depth level of the section
+			 * @param s     index of the section
+			 * @return the cost with the section
+			 */
+			private double costWith(int depth, int s) {
+				double next = cost[depth] + ownCost[depth][s];
+				int d = days[depth][s];
+				int start = starts[depth][s];
+				int end = ends[depth][s];
+				int[] dayFirst = first[depth];
+				int[] dayLast = last[depth];
+				for (int day = 0; day < DAYS; day++) {
+					if ((d & (1 << day)) == 0) {
+						continue;
+					}
+					if ((used[depth] & (1 << day)) == 0) {
+						next += preferences.newDayCost(day) + preferences.campusTimeCost(end - start);
+					} else {
+						int before = dayLast[day] - dayFirst[day];
+						int after = Math.max(dayLast[day], end) - Math.min(dayFirst[day], start);
+						next += preferences.campusTimeCost(after) - preferences.campusTimeCost(before);
+					}
+				}
+				return next;
+			}
+
+			/**
+			 * Chooses the section at a position of a level, setting up the level
+			 * below it.
+			 *
+			 * @param depth    level of the section
+			 * @param position position of the section in order
+			 * @param next     cost with the section, from costWith()
+			 */
+			private void take(int depth, int position, double next) {
+				int s = order[depth][position];
+				choice[depth] = s;
+				path[depth] = position;
+				int d = days[depth][s];
+				int start = starts[depth][s];
+				int end = ends[depth][s];
+				int[] dayFirst = first[depth];
+				int[] dayLast = last[depth];
+				int[] nextFirst = first[depth + 1];
+				int[] nextLast = last[depth + 1];
+				for (int day = 0; day < DAYS; day++) {
+					if ((d & (1 << day)) == 0) {
+						nextFirst[day] = dayFirst[day];
+						nextLast[day] = dayLast[day];
+					} else if ((used[depth] & (1 << day)) == 0) {
+						nextFirst[day] = start;
+						nextLast[day] = end;
+					} else {
+						nextFirst[day] = Math.min(dayFirst[day], start);
+						nextLast[day] = Math.max(dayLast[day], end);
+					}
+				}
+				used[depth + 1] = used[depth] | d;
+				cost[depth + 1] = next;
+			}
+
+			/**
+			 * Offers the schedule chosen at every level to the k best.
+			 */
+			private void found() {
+				double total = cost[sections.length];
+				Candidate w = worst;
+				if (w != null && total > w.cost) {
+					return;
+				}
+				Course[] schedule = new Course[names.length];
+				for (int level = 0; level < choice.length; level++) {
+					schedule[namePosition[level]] = sections[level][choice[level]];
+				}
+				keep(new Candidate(Collections.unmodifiableList(Arrays.asList(schedule)), total, path.clone()));
+			}
+		}
+
+		/**
+		 * Runs one part of a parallel search in a ForkJoinPool. A task with many
+		 * schedules below it forks a task for each section that fits at the next
+		 * level; a smaller one searches its part with a Walker.
+		 */
+		private class BoundTask extends RecursiveAction {
+
+			/** ID used for serialization */
+			private static final long serialVersionUID = 1L;
+
+			/** positions of the sections chosen for the levels above */
+			private final int[] prefix;
+
+			/**
+			 * Creates a task for the part of the tree below the given choices.
+			 *
+			 * @param prefix positions of the sections chosen for the levels above
+			 */
+			BoundTask(int[] prefix) {
+				this.prefix = prefix;
+			}
+
+			@Override
+			protected void compute() {
+				if (limits.expired()) {
+					return;
+				}
+				Walker walker = new Walker(prefix);
+				int depth = prefix.length;
+				if (depth > 0 && walker.cantBeatPrefix()) {
+					// a schedule found since this task was forked is already better
+					return;
+				}
+				if (depth < sections.length - 1 && schedulesBelow(depth) > SPLIT_THRESHOLD) {
+					ArrayList<BoundTask> children = new ArrayList<BoundTask>();
+					for (int j = 0; j < order[depth].length; j++) {
+						if (!walker.conflicts(depth, j)) {
+							int[] child = Arrays.copyOf(prefix, depth + 1);
+							child[depth] = j;
+							children.add(new BoundTask(child));
+						}
+					}
+					invokeAll(children);
+					return;
+				}
+				walker.run();
+			}
+		}
+	}
+
+	/**
+	 * A schedule kept by BranchAndBound, with its cost and its place in the tree.
+	 * Candidates are ordered best first: by cost, then by place.
+	 */
+	private static class Candidate implements Comparable<Candidate> {
+		/** sections on the schedule */
+		private final List<Course> schedule;
+		/** cost of the schedule */
+		private final double cost;
+		/** position of the section chosen at each level, in cheapest first order */
+		private final int[] path;
+
+		/**
+		 * Creates a candidate.
+		 *
+		 * @param schedule sections on the schedule
+		 * @param cost     cost of the schedule
+		 * @param path     position of the section chosen at each level
+		 */
+		Candidate(List<Course> schedule, double cost, int[] path) {
+			this.schedule = schedule;
+			this.cost = cost;
+			this.path = path;
+		}
+
+		@Override
+		public int compareTo(Candidate other) {
+			int c = Double.compare(cost, other.cost);
+			return c != 0 ? c : Arrays.compare(path, other.path);
+		}
+	}
+
+	/**
+	 * When a search has to stop: after a time limit, or when any task of a
+	 * parallel search says so. It is shared by every task of a parallel search.
+	 */
+	private static class Limits {
+
+		/** System.nanoTime() when the search started */
+		private final long started;
+		/** nanoseconds the search may run for */
+		private final long timeLimit;
+		/** true once the search has to stop */
+		private volatile boolean stopped;
+
+		/**
+		 * Starts the clock.
+		 *
+		 * @param timeLimitMillis most time to spend, in milliseconds
+		 */
+		Limits(long timeLimitMillis) {
+			started = System.nanoTime();
+			timeLimit = timeLimitMillis > Long.MAX_VALUE / 1000000 ? Long.MAX_VALUE : timeLimitMillis * 1000000;
+		}
+
+		/**
+		 * Checks whether the search has to stop.
+		 *
+		 * @return true if time is up or the search was stopped
+		 */
+		boolean expired() {
+			if (!stopped && System.nanoTime() - started > timeLimit) {
+				stopped = true;
+			}
+			return stopped;
+		}
+
+		/**
+		 * Checks whether the search has already been found to have to stop, without
+		 * looking at the clock.
+		 *
+		 * @return true if the search was stopped
+		 */
+		boolean isStopped() {
+			return stopped;
+		}
+
+		/**
+		 * Stops every search sharing these limits.
+		 */
+		void stop() {
+			stopped = true;
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Listens for changes to a WolfScheduler's schedule. Each method is called after
+ * the schedule has changed, so a view can update just the rows that changed
+ * instead of rebuilding everything from the scheduler.
+ *
+ * @author Kevin John
+ */
+public interface ScheduleListener {
+
+	/**
+	 * Called after an activity is added to the schedule.
+	 *
+	 * @param index    position of the new activity in the schedule
+	 * @param activity activity that was added
+	 */
+	void activityAdded(int index, Activity activity);
+
+	/**
+	 * Called after an activity is removed from the schedule.
+	 *
+	 * @param index    position the activity had in the schedule
+	 * @param activity activity that was removed
+	 */
+	void activityRemoved(int index, Activity activity);
+
+	/**
+	 * Called after the schedule is reset to empty.
+	 *
+	 * @param removedCount number of activities the schedule held before the reset
+	 */
+	void scheduleReset(int removedCount);
+}
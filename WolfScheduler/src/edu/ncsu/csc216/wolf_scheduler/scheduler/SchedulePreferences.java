@@ -0,0 +1,245 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Weights for what a student wants from a schedule, used to rank schedules by
+ * cost. A schedule's cost is the sum of what it has that the student doesn't
+ * want, each times its weight, less a bonus for each favorite instructor, so a
+ * lower cost is a better schedule. Every weight starts at 0, which means the
+ * student doesn't care.
+ *
+ * The costs are:
+ * <ul>
+ * <li>early classes: each hour of class before a given time, on each day the
+ * class meets</li>
+ * <li>days off: each of the given days with any class on it, such as
+ * Fridays</li>
+ * <li>days on campus: each day with any class on it</li>
+ * <li>time on campus: each hour from the start of the first class to the end of
+ * the last on each day, so a compact day costs less than one with gaps</li>
+ * <li>favorite instructors: each section taught by one, which takes its bonus
+ * off the cost</li>
+ * </ul>
+ *
+ * The early class and instructor costs only depend on each section. The day
+ * costs can only go up as sections are added to a schedule, which is what lets
+ * ScheduleGenerator.best() skip schedules that can't beat the best found.
+ * Weights can't be negative for the same reason. Arranged courses only count
+ * toward their instructor.
+ *
+ * @author Kevin John
+ */
+public class SchedulePreferences {
+
+	/** minutes in an hour */
+	private static final double MINUTES_PER_HOUR = 60.0;
+
+	/** weight of each hour of class before earliestStart */
+	private double earlyClassWeight;
+	/** time in HHMM form before which classes cost earlyClassWeight */
+	private int earliestStart;
+	/** weight of each day in dayOffMask with a class */
+	private double dayOffWeight;
+	/** weekday bits of the days wanted off */
+	private int dayOffMask;
+	/** weight of each day with a class */
+	private double daysOnCampusWeight;
+	/** weight of each hour on campus */
+	private double campusTimeWeight;
+	/** bonus for each favorite instructor, by instructor id */
+	private final HashMap<String, Double> favoriteInstructors = new HashMap<String, Double>();
+
+	/**
+	 * Sets the cost of each hour of class before the given time, on each day the
+	 * class meets.
+	 *
+	 * @param earliestStart time in HHMM form, such as 1000 for 10:00AM
+	 * @param weight        cost of each hour before it
+	 * @throws IllegalArgumentException If the time is not a valid time or the
+	 *                                  weight is negative.
+	 */
+	public void setEarlyClassWeight(int earliestStart, double weight) {
+		if (earliestStart < 0 || earliestStart > 2359 || earliestStart % 100 > 59) {
+			throw new IllegalArgumentException("Invalid time.");
+		}
+		checkWeight(weight);
+		this.earliestStart = earliestStart;
+		this.earlyClassWeight = weight;
+	}
+
+	/**
+	 * Sets the cost of each of the given days that has a class on it.
+	 *
+	 * @param days   days wanted off, as meeting day letters such as "F"
+	 * @param weight cost of each of those days with a class
+	 * @throws IllegalArgumentException If days is null or holds a letter that is
+	 *                                  not a weekday, or the weight is negative.
+	 */
+	public void setDayOffWeight(String days, double weight) {
+		if (days == null) {
+			throw new IllegalArgumentException("Invalid meeting days.");
+		}
+		int mask = 0;
+		for (int i = 0; i < days.length(); i++) {
+			int bit = Activity.getDayBit(days.charAt(i));
+			if ((bit & Activity.WEEKDAYS) == 0) {
+				throw new IllegalArgumentException("Invalid meeting days.");
+			}
+			mask |= bit;
+		}
+		checkWeight(weight);
+		this.dayOffMask = mask;
+		this.dayOffWeight = weight;
+	}
+
+	/**
+	 * Sets the cost of each day with a class on it.
+	 *
+	 * @param weight cost of each day
+	 * @throws IllegalArgumentException If the weight is negative.
+	 */
+	public void setDaysOnCampusWeight(double weight) {
+		checkWeight(weight);
+		this.daysOnCampusWeight = weight;
+	}
+
+	/**
+	 * Sets the cost of each hour from the start of the first class of a day to the
+	 * end of the last.
+	 *
+	 * @param weight cost of each hour
+	 * @throws IllegalArgumentException If the weight is negative.
+	 */
+	public void setCampusTimeWeight(double weight) {
+		checkWeight(weight);
+		this.campusTimeWeight = weight;
+	}
+
+	/**
+	 * Sets the bonus for each section an instructor teaches. A bonus of 0 removes
+	 * the instructor.
+	 *
+	 * @param instructorId instructor's unity id
+	 * @param bonus        cost taken off for each section they teach
+	 * @throws IllegalArgumentException If instructorId is null or the bonus is
+	 *                                  negative.
+	 */
+	public void setFavoriteInstructor(String instructorId, double bonus) {
+		if (instructorId == null) {
+			throw new IllegalArgumentException("Invalid instructor id.");
+		}
+		checkWeight(bonus);
+		if (bonus == 0) {
+			favoriteInstructors.remove(instructorId);
+		} else {
+			favoriteInstructors.put(instructorId, bonus);
+		}
+	}
+
+	/**
+	 * Returns the cost of a whole schedule.
+	 *
+	 * @param schedule activities on the schedule
+	 * @return the cost, lower being better
+	 */
+	public double cost(List<? extends Activity> schedule) {
+		double cost = 0;
+		int[] first = new int[7];
+		int[] last = new int[7];
+		int daysUsed = 0;
+		for (Activity a : schedule) {
+			cost += sectionCost(a);
+			int days = a.getMeetingDayMask() & Activity.WEEKDAYS;
+			int start = ConflictChecker.toMinutes(a.getStartTime());
+			int end = ConflictChecker.toMinutes(a.getEndTime());
+			for (int day = 0; day < 7; day++) {
+				if ((days & (1 << day)) == 0) {
+					continue;
+				}
+				if ((daysUsed & (1 << day)) == 0) {
+					first[day] = start;
+					last[day] = end;
+				} else {
+					first[day] = Math.min(first[day], start);
+					last[day] = Math.max(last[day], end);
+				}
+			}
+			daysUsed |= days;
+		}
+		for (int day = 0; day < 7; day++) {
+			if ((daysUsed & (1 << day)) != 0) {
+				cost += newDayCost(day) + campusTimeCost(last[day] - first[day]);
+			}
+		}
+		return cost;
+	}
+
+	/**
+	 * Returns the part of the cost that only depends on one activity: its early
+	 * class time less its instructor's bonus.
+	 *
+	 * @param activity activity to cost
+	 * @return the activity's own cost
+	 */
+	double sectionCost(Activity activity) {
+		double cost = 0;
+		int days = activity.getMeetingDayMask() & Activity.WEEKDAYS;
+		if (days != 0 && earlyClassWeight > 0) {
+			int start = ConflictChecker.toMinutes(activity.getStartTime());
+			int end = ConflictChecker.toMinutes(activity.getEndTime());
+			int before = Math.min(end, ConflictChecker.toMinutes(earliestStart)) - start;
+			if (before > 0) {
+				cost += earlyClassWeight * before / MINUTES_PER_HOUR * Integer.bitCount(days);
+			}
+		}
+		if (activity instanceof Course) {
+			Double bonus = favoriteInstructors.get(((Course) activity).getInstructorId());
+			if (bonus != null) {
+				cost -= bonus;
+			}
+		}
+		return cost;
+	}
+
+	/**
+	 * Returns the cost of having a class on a day that had none.
+	 *
+	 * @param day index of the weekday, 0 for Monday
+	 * @return the cost of using the day
+	 */
+	double newDayCost(int day) {
+		double cost = daysOnCampusWeight;
+		if ((dayOffMask & (1 << day)) != 0) {
+			cost += dayOffWeight;
+		}
+		return cost;
+	}
+
+	/**
+	 * Returns the cost of a day's time on campus.
+	 *
+	 * @param minutes minutes from the start of the first class to the end of the
+	 *                last
+	 * @return the cost of the time
+	 */
+	double campusTimeCost(int minutes) {
+		return campusTimeWeight * minutes / MINUTES_PER_HOUR;
+	}
+
+	/**
+	 * Checks that a weight can be used.
+	 *
+	 * @param weight weight to check
+	 * @throws IllegalArgumentException If the weight is negative or not a number.
+	 */
+	private static void checkWeight(double weight) {
+		if (!(weight >= 0) || Double.isInfinite(weight)) {
+			throw new IllegalArgumentException("Invalid weight.");
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Holds a WolfScheduler's schedule as it was at one moment. A snapshot can't be
+ * changed, so it can be read by any number of threads without locking while the
+ * scheduler moves on. Every change to the schedule makes a new snapshot with a
+ * higher version, so a caller that polls a schedule can tell whether it has
+ * changed by comparing versions.
+ *
+ * The rows of the schedule are built when the snapshot is taken, while the
+ * scheduler still holds its lock, as unmodifiable views of the activities'
+ * shared display arrays. getScheduledRows() and getFullScheduledRows() hand out
+ * the same views on every read without copying them, and since they can't be
+ * changed, no reader can change what another one sees.
+ * getScheduledActivities() and getFullScheduledActivities() copy the rows into
+ * new arrays for callers that want them.
+ *
+ * @author Kevin John
+ */
+public final class ScheduleSnapshot {
+
+	/** snapshot of an empty schedule that has never been changed */
+	static final ScheduleSnapshot EMPTY = new ScheduleSnapshot(0, new ArrayList<Activity>());
+
+	/** number of changes made to the schedule before this snapshot */
+	private final long version;
+	/** activities in the schedule, in order */
+	private final List<Activity> activities;
+	/** rows for getScheduledRows() */
+	private final List<List<String>> shortRows;
+	/** rows for getFullScheduledRows() */
+	private final List<List<String>> longRows;
+
+	/**
+	 * Constructs a snapshot of the given schedule and builds its rows. The list is
+	 * copied.
+	 *
+	 * @param version  number of changes made to the schedule
+	 * @param schedule activities in the schedule
+	 */
+	ScheduleSnapshot(long version, List<Activity> schedule) {
+		this.version = version;
+		this.activities = Collections.unmodifiableList(new ArrayList<Activity>(schedule));
+		ArrayList<List<String>> shortList = new ArrayList<List<String>>(activities.size());
+		ArrayList<List<String>> longList = new ArrayList<List<String>>(activities.size());
+		for (Activity a : activities) {
+			// an activity builds new arrays when it changes, so these keep the values they have now
+			shortList.add(Collections.unmodifiableList(Arrays.asList(a.getSharedShortDisplayArray())));
+			longList.add(Collections.unmodifiableList(Arrays.asList(a.getSharedLongDisplayArray())));
+		}
+		this.shortRows = Collections.unmodifiableList(shortList);
+		this.longRows = Collections.unmodifiableList(longList);
+	}
+
+	/**
+	 * Returns the number of changes made to the schedule before this snapshot was
+	 * taken. A later snapshot of the same schedule has a higher version only if
+	 * the schedule changed in between.
+	 *
+	 * @return the version
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the activities in the schedule, in order. The list can't be changed.
+	 *
+	 * @return the activities
+	 */
+	public List<Activity> getActivities() {
+		return activities;
+	}
+
+	/**
+	 * Returns the number of activities in the schedule.
+	 *
+	 * @return the number of activities
+	 */
+	public int size() {
+		return activities.size();
+	}
+
+	/**
+	 * Returns the scheduled activities one row per activity, with its name,
+	 * section, title, and meeting string. The rows are built once and shared by
+	 * every reader of the snapshot, so neither the list nor its rows can be
+	 * changed.
+	 *
+	 * @return the schedule rows
+	 */
+	public List<List<String>> getScheduledRows() {
+		return shortRows;
+	}
+
+	/**
+	 * Returns the scheduled activities one row per activity, with its name,
+	 * section, title, credits, instructor id, meeting string, and event details.
+	 * The rows are built once and shared by every reader of the snapshot, so
+	 * neither the list nor its rows can be changed.
+	 *
+	 * @return the full schedule rows
+	 */
+	public List<List<String>> getFullScheduledRows() {
+		return longRows;
+	}
+
+	/**
+	 * Retrieves the scheduled activities as a 2D array of strings, one row per
+	 * activity with its name, section, title, and meeting string. The array is a
+	 * new copy, so changing it doesn't change the snapshot.
+	 *
+	 * @return the schedule rows
+	 */
+	public String[][] getScheduledActivities() {
+		return toArray(shortRows);
+	}
+
+	/**
+	 * Retrieves the scheduled activities as a 2D array of strings, one row per
+	 * activity with its name, section, title, credits, instructor id, meeting
+	 * string, and event details. The array is a new copy, so changing it doesn't
+	 * change the snapshot.
+	 *
+	 * @return the full schedule rows
+	 */
+	public String[][] getFullScheduledActivities() {
+		return toArray(longRows);
+	}
+
+	/**
+	 * Copies rows into a new 2D array.
+	 *
+	 * @param rows rows to copy
+	 * @return the copy
+	 */
+	private static String[][] toArray(List<List<String>> rows) {
+		String[][] copy = new String[rows.size()][];
+		for (int i = 0; i < copy.length; i++) {
+			copy[i] = rows.get(i).toArray(new String[0]);
+		}
+		return copy;
+	}
+}
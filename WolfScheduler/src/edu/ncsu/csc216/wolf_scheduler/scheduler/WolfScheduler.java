@@ -2,12 +2,16 @@ package edu.ncsu.csc216.wolf_scheduler.scheduler;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 import edu.ncsu.csc216.wolf_scheduler.course.Event;
 import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
-import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CatalogSnapshotIO;
 
 /**
  * WolfScheduler reads in and stores as a list all of the Course records stored
@@ -18,14 +22,26 @@ import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
  * schedule ([UC 5: Remove Course from Schedule]), resetting the schedule ([Use
  * Case 8: Reset Schedule])
  * 
+ * A WolfScheduler can be used by more than one thread at a time, such as two
+ * requests for the same student arriving together. Every method that changes
+ * the schedule holds the scheduler's lock, so each change, including the
+ * duplicate and conflict checks before an add, happens all at once. Each change
+ * then publishes a new ScheduleSnapshot, and the methods that only read the
+ * schedule use the latest snapshot without taking the lock, so a reader sees
+ * the schedule either before or after a change, never partway through. The
+ * catalog can't change, so reading it takes no lock either. Listeners are told
+ * about a change while the lock is still held, so they hear about changes in
+ * the order they were made; a listener must not wait on another thread that
+ * uses the same scheduler.
+ * 
  * @author Kevin John
  */
 public class WolfScheduler {
 
 	/**
-	 * holds the course catalog in an array list
+	 * holds the course catalog, which may be shared with other WolfSchedulers
 	 */
-	ArrayList<Course> catalog;
+	final CourseCatalog catalog;
 
 	/**
 	 * holds the schedule in an array list
@@ -33,13 +49,35 @@ public class WolfScheduler {
 
 	ArrayList<Activity> schedule;
 
+	/**
+	 * the schedule as of the last change, which readers use without locking
+	 */
+	volatile ScheduleSnapshot snapshot;
+
+	/**
+	 * tracks the meeting times taken by the schedule to find time conflicts
+	 */
+	ConflictChecker conflicts;
+
+	/**
+	 * whether the add methods reject activities that conflict with the schedule
+	 */
+	boolean conflictChecking;
+
 	/**
 	 * name for schedule, default My Schedule
 	 */
 	String title;
 
+	/**
+	 * listeners told about every change to the schedule
+	 */
+	ArrayList<ScheduleListener> listeners;
+
 	/**
 	 * Constructs a WolfScheduler object by reading course information from a file.
+	 * The file can be a text catalog or a catalog snapshot written by
+	 * exportCatalogSnapshot(), which loads without validating the courses again.
 	 *
 	 * @param fileName The name of the file containing course information to
 	 *                 initialize the catalog.
@@ -49,15 +87,52 @@ public class WolfScheduler {
 	 */
 	public WolfScheduler(String fileName) {
 
-		catalog = new ArrayList<Course>();
+		this(new CourseCatalog(fileName));
+	}
+
+	/**
+	 * Constructs a WolfScheduler with an empty schedule that uses a catalog loaded
+	 * elsewhere. Any number of WolfSchedulers can share one CourseCatalog, so a
+	 * server with a session per student only needs one copy of the catalog.
+	 *
+	 * @param catalog catalog of courses that can be added to the schedule
+	 * @throws IllegalArgumentException If catalog is null.
+	 */
+	public WolfScheduler(CourseCatalog catalog) {
+
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		this.catalog = catalog;
 		schedule = new ArrayList<Activity>();
+		snapshot = ScheduleSnapshot.EMPTY;
+		conflicts = new ConflictChecker();
+		listeners = new ArrayList<ScheduleListener>();
 		title = "My Schedule";
+	}
 
-		try {
-			catalog = CourseRecordIO.readCourseRecords(fileName);
-		} catch (Exception e) {
-			throw new IllegalArgumentException("Cannot find file.");
-		}
+	/**
+	 * Constructs a WolfScheduler with an empty schedule that shares the catalog of
+	 * another WolfScheduler, so a catalog can be loaded once and used for many
+	 * schedules.
+	 *
+	 * @param catalogSource WolfScheduler whose catalog is shared
+	 * @throws IllegalArgumentException If catalogSource is null.
+	 */
+	public WolfScheduler(WolfScheduler catalogSource) {
+
+		this(catalogSource == null ? null : catalogSource.catalog);
+	}
+
+	/**
+	 * Returns the catalog this WolfScheduler uses, which can be passed to other
+	 * WolfSchedulers to share it.
+	 *
+	 * @return the course catalog
+	 */
+	public CourseCatalog getCatalog() {
+
+		return catalog;
 	}
 
 	/**
@@ -67,62 +142,139 @@ public class WolfScheduler {
 	 *         section, and title.
 	 */
 	public String[][] getCourseCatalog() {
-		String[][] courseCatalog = new String[catalog.size()][4];
-
-		for (int i = 0; i < catalog.size(); i++) {
-			Course a = catalog.get(i);
-			courseCatalog[i][0] = a.getShortDisplayArray()[0];
-			courseCatalog[i][1] = a.getShortDisplayArray()[1];
-			courseCatalog[i][2] = a.getShortDisplayArray()[2];
-			courseCatalog[i][3] = a.getShortDisplayArray()[3];
-		}
 
-		return courseCatalog;
+		return catalog.getCourseCatalog();
+	}
+
+	/**
+	 * Searches the names and titles of the courses in the catalog and returns one
+	 * page of the matches, best first. See CourseSearchIndex for how queries are
+	 * matched and ranked.
+	 *
+	 * @param query  words to find, separated by spaces
+	 * @param offset number of ranked results to skip
+	 * @param limit  most results to return
+	 * @return the page of results and the number of courses that matched
+	 * @throws IllegalArgumentException If query is null, offset is negative, or
+	 *                                  limit is less than one.
+	 */
+	public CourseSearchResults searchCatalog(String query, int offset, int limit) {
+		return catalog.getSearchIndex().search(query, offset, limit);
+	}
+
+	/**
+	 * Searches the names and titles of the courses in the catalog and returns the
+	 * rows of getCourseCatalog() that match, best first. A table showing the
+	 * catalog can show just these rows instead of building new ones.
+	 *
+	 * @param query words to find, separated by spaces
+	 * @return the catalog rows of the matching courses
+	 * @throws IllegalArgumentException If query is null.
+	 */
+	public int[] findInCatalog(String query) {
+		return catalog.getSearchIndex().find(query);
 	}
 
 	/**
-	 * Retrieves the scheduled courses as a 2D array of strings.
+	 * Finds the courses in the catalog that pass a filter, such as every 3-credit
+	 * section an instructor teaches on TH after 1:00PM. See CourseAttributeIndex
+	 * for how the filter is answered without checking every course.
+	 *
+	 * @param filter filter to apply
+	 * @return the matching courses, in catalog order
+	 * @throws IllegalArgumentException If filter is null.
+	 */
+	public List<Course> filterCatalog(CourseFilter filter) {
+
+		return coursesAt(catalog.getAttributeIndex().find(filter));
+	}
+
+	/**
+	 * Finds the courses in the catalog that meet on any of the given days at a
+	 * time overlapping a window, such as every section meeting at some point
+	 * during W 1000-1400. Arranged courses are never found.
+	 *
+	 * @param days  weekday letters, such as "W" or "MWF"
+	 * @param start start of the window in HHMM form
+	 * @param end   end of the window in HHMM form
+	 * @return the matching courses, in catalog order
+	 * @throws IllegalArgumentException If days is null, empty, or holds a letter
+	 *                                  that is not a weekday, or the window is not
+	 *                                  a valid time range.
+	 */
+	public List<Course> getCoursesOverlapping(String days, int start, int end) {
+
+		return coursesAt(catalog.getTimeIndex().findOverlapping(days, start, end).toArray());
+	}
+
+	/**
+	 * Finds the courses in the catalog that meet on any of the given days entirely
+	 * inside a window. Arranged courses are never found.
+	 *
+	 * @param days  weekday letters, such as "W" or "MWF"
+	 * @param start start of the window in HHMM form
+	 * @param end   end of the window in HHMM form
+	 * @return the matching courses, in catalog order
+	 * @throws IllegalArgumentException If days is null, empty, or holds a letter
+	 *                                  that is not a weekday, or the window is not
+	 *                                  a valid time range.
+	 */
+	public List<Course> getCoursesWithin(String days, int start, int end) {
+
+		return coursesAt(catalog.getTimeIndex().findWithin(days, start, end).toArray());
+	}
+
+	/**
+	 * Returns the catalog courses at the given positions.
+	 *
+	 * @param positions positions in the catalog
+	 * @return the courses, in the same order
+	 */
+	private List<Course> coursesAt(int[] positions) {
+		List<Course> courses = catalog.getCourses();
+		ArrayList<Course> found = new ArrayList<Course>(positions.length);
+		for (int i : positions) {
+			found.add(courses.get(i));
+		}
+		return found;
+	}
+
+	/**
+	 * Retrieves the scheduled courses as a 2D array of strings. The array is
+	 * copied from the current snapshot, so changing it doesn't change the
+	 * schedule; getScheduleSnapshot() has the rows without copying them.
 	 *
 	 * @return A 2D array where each row represents a scheduled course with columns
 	 *         for name, section, and title.
 	 */
 	public String[][] getScheduledActivities() {
 
-		String[][] getScheduledActivities = new String[schedule.size()][4];
-		for (int i = 0; i < schedule.size(); i++) {
-			Activity a = schedule.get(i);
-			getScheduledActivities[i][0] = a.getShortDisplayArray()[0];
-			getScheduledActivities[i][1] = a.getShortDisplayArray()[1];
-			getScheduledActivities[i][2] = a.getShortDisplayArray()[2];
-			getScheduledActivities[i][3] = a.getShortDisplayArray()[3];
-
-		}
-		return getScheduledActivities;
+		return snapshot.getScheduledActivities();
 	}
 
 	/**
-	 * Retrieves the full scheduled courses as a 2D array of strings.
+	 * Retrieves the full scheduled courses as a 2D array of strings. The array is
+	 * copied from the current snapshot, so changing it doesn't change the
+	 * schedule; getScheduleSnapshot() has the rows without copying them.
 	 *
 	 * @return A 2D array where each row represents a scheduled course with columns
 	 *         for name, section, and title.
 	 */
 	public String[][] getFullScheduledActivities() {
 
-		String[][] getFullScheduledCourses = new String[schedule.size()][7];
-
-		for (int i = 0; i < schedule.size(); i++) {
-			Activity a = schedule.get(i);
-			getFullScheduledCourses[i][0] = a.getLongDisplayArray()[0];
-			getFullScheduledCourses[i][1] = a.getLongDisplayArray()[1];
-			getFullScheduledCourses[i][2] = a.getLongDisplayArray()[2];
-			getFullScheduledCourses[i][3] = a.getLongDisplayArray()[3];
-			getFullScheduledCourses[i][4] = a.getLongDisplayArray()[4];
-			getFullScheduledCourses[i][5] = a.getLongDisplayArray()[5];
-			getFullScheduledCourses[i][6] = a.getLongDisplayArray()[6];
+		return snapshot.getFullScheduledActivities();
+	}
 
-		}
+	/**
+	 * Returns the schedule as of the last change. The snapshot doesn't change when
+	 * the schedule does, so it can be read at leisure, and its version shows
+	 * whether the schedule has changed since an earlier snapshot.
+	 *
+	 * @return the latest snapshot of the schedule
+	 */
+	public ScheduleSnapshot getScheduleSnapshot() {
 
-		return getFullScheduledCourses;
+		return snapshot;
 	}
 
 	/**
@@ -130,7 +282,7 @@ public class WolfScheduler {
 	 *
 	 * @return a string for the title
 	 */
-	public String getScheduleTitle() {
+	public synchronized String getScheduleTitle() {
 
 		return title;
 	}
@@ -146,28 +298,164 @@ public class WolfScheduler {
 	public void exportSchedule(String fileName) {
 
 		try {
-			ActivityRecordIO.writeActivityRecords(fileName, schedule);
+			ActivityRecordIO.writeActivityRecords(fileName, snapshot.getActivities());
+		} catch (IOException e) {
+			throw new IllegalArgumentException("The file cannot be saved.");
+		}
+	}
+
+	/**
+	 * Exports the schedules of many WolfSchedulers to one zip archive, with one
+	 * entry per schedule named after its key. Each entry holds what
+	 * exportSchedule() would write.
+	 *
+	 * @param fileName   The name of the archive file.
+	 * @param schedulers The schedulers to export, by name.
+	 * @throws IllegalArgumentException If a name can't be used as a file name or an
+	 *                                  I/O error occurs while writing to the file.
+	 */
+	public static void exportSchedules(String fileName, Map<String, WolfScheduler> schedulers) {
+
+		try {
+			ActivityRecordIO.writeScheduleArchive(fileName, schedulesByName(schedulers));
+		} catch (IOException e) {
+			throw new IllegalArgumentException("The file cannot be saved.");
+		}
+	}
+
+	/**
+	 * Exports the schedules of many WolfSchedulers to their own files in a
+	 * directory, named after their keys, using at most the given number of
+	 * threads. Each file holds what exportSchedule() would write.
+	 *
+	 * @param directory  The directory to write the files to.
+	 * @param schedulers The schedulers to export, by name.
+	 * @param threads    The most threads to write with.
+	 * @throws IllegalArgumentException If threads is less than one, a name can't
+	 *                                  be used as a file name, or an I/O error
+	 *                                  occurs while writing a file.
+	 */
+	public static void exportScheduleFiles(String directory, Map<String, WolfScheduler> schedulers, int threads) {
+
+		try {
+			ActivityRecordIO.writeScheduleFiles(directory, schedulesByName(schedulers), threads);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("The file cannot be saved.");
+		}
+	}
+
+	/**
+	 * Maps each name to a snapshot of its scheduler's schedule, keeping the order
+	 * of the names. The schedules can keep changing while the snapshots are
+	 * written.
+	 *
+	 * @param schedulers schedulers by name
+	 * @return schedules by name
+	 */
+	private static Map<String, List<Activity>> schedulesByName(Map<String, WolfScheduler> schedulers) {
+		LinkedHashMap<String, List<Activity>> schedules = new LinkedHashMap<String, List<Activity>>();
+		for (Map.Entry<String, WolfScheduler> entry : schedulers.entrySet()) {
+			schedules.put(entry.getKey(), entry.getValue().snapshot.getActivities());
+		}
+		return schedules;
+	}
+
+	/**
+	 * Exports the course catalog to a snapshot file that a later WolfScheduler can
+	 * load without parsing or validating the courses again.
+	 *
+	 * @param fileName The name of the file the snapshot will be written to.
+	 * @throws IllegalArgumentException If an I/O error occurs while writing to the
+	 *                                  file.
+	 */
+	public void exportCatalogSnapshot(String fileName) {
+
+		try {
+			CatalogSnapshotIO.writeCatalogSnapshot(fileName, catalog.getCourses());
 		} catch (IOException e) {
 			throw new IllegalArgumentException("The file cannot be saved.");
 		}
 	}
 
 	/**
-	 * Retrieves a course from the catalog based on course name and section number
+	 * Retrieves a course from the catalog based on course name and section number.
+	 * The course is shared with every other session using the catalog, so it is
+	 * frozen and its setters throw UnsupportedOperationException.
 	 * 
 	 * @param name    course name
 	 * @param section section number
 	 *
-	 * @return null
+	 * @return the matching course, or null if the catalog does not have it
 	 */
 	public Course getCourseFromCatalog(String name, String section) {
 
-		for (int i = 0; i < catalog.size(); i++) {
-			if (catalog.get(i).getName().equals(name) && catalog.get(i).getSection().equals(section)) {
-				return catalog.get(i);
+		return catalog.getCourse(name, section);
+	}
+
+	/**
+	 * Finds the ways to take one section of each of the given courses without a
+	 * conflict, either between them or with anything else on the schedule. Any
+	 * section of those courses already on the schedule is left out of the check,
+	 * so the results can replace it. See ScheduleGenerator for how the schedules
+	 * are found.
+	 *
+	 * @param courseNames     names of the courses wanted
+	 * @param maxResults      most schedules to return
+	 * @param timeLimitMillis most time to spend, in milliseconds
+	 * @return the conflict free schedules, found as the stream is read
+	 * @throws IllegalArgumentException If courseNames is null, a name is not in the
+	 *                                  catalog, or a limit is less than one.
+	 */
+	public Stream<List<Course>> generateSchedules(List<String> courseNames, long maxResults, long timeLimitMillis) {
+
+		return generatorAroundSchedule(courseNames).generate(maxResults, timeLimitMillis);
+	}
+
+	/**
+	 * Finds the k best ways to take one section of each of the given courses
+	 * without a conflict, either between them or with anything else on the
+	 * schedule, ranked by the student's preferences. Any section of those courses
+	 * already on the schedule is left out of the check, so the results can
+	 * replace it. The cost is that of the whole week, the sections chosen along
+	 * with everything else on the schedule, so a student who already has a class
+	 * on Friday pays nothing more for another one. See ScheduleGenerator.best()
+	 * for how the schedules are found.
+	 *
+	 * @param courseNames     names of the courses wanted
+	 * @param k               most schedules to return
+	 * @param preferences     what the student wants
+	 * @param timeLimitMillis most time to spend, in milliseconds
+	 * @return the best schedules and their costs, best first
+	 * @throws IllegalArgumentException If courseNames or preferences is null, a
+	 *                                  name is not in the catalog, or a limit is
+	 *                                  less than one.
+	 */
+	public List<RankedSchedule> bestSchedules(List<String> courseNames, int k, SchedulePreferences preferences,
+			long timeLimitMillis) {
+
+		return generatorAroundSchedule(courseNames).best(k, preferences, timeLimitMillis);
+	}
+
+	/**
+	 * Creates a generator for the given courses that fits around the activities on
+	 * the schedule, other than sections of those courses.
+	 *
+	 * @param courseNames names of the courses wanted
+	 * @return the generator
+	 * @throws IllegalArgumentException If courseNames is null or a name is not in
+	 *                                  the catalog.
+	 */
+	private ScheduleGenerator generatorAroundSchedule(List<String> courseNames) {
+		if (courseNames == null) {
+			throw new IllegalArgumentException("Invalid course list.");
+		}
+		ArrayList<Activity> fixed = new ArrayList<Activity>();
+		for (Activity a : snapshot.getActivities()) {
+			if (!(a instanceof Course && courseNames.contains(((Course) a).getName()))) {
+				fixed.add(a);
 			}
 		}
-		return null;
+		return new ScheduleGenerator(catalog, courseNames, fixed);
 	}
 
 	/**
@@ -179,8 +467,11 @@ public class WolfScheduler {
 	 *         the course was not found in the catalog.
 	 * @throws IllegalArgumentException If the course with the same name and section
 	 *                                  is already in the schedule.
+	 * @throws ConflictException        If conflict checking is on and the course
+	 *                                  meets at the same time as an activity
+	 *                                  already in the schedule.
 	 */
-	public boolean addCourseToSchedule(String name, String section) {
+	public synchronized boolean addCourseToSchedule(String name, String section) {
 
 		Course courseAdded = getCourseFromCatalog(name, section);
 		if (courseAdded == null) {
@@ -191,7 +482,13 @@ public class WolfScheduler {
 				throw new IllegalArgumentException("You are already enrolled in " + courseAdded.getName());
 			}
 		}
+		checkConflict(courseAdded, "course");
 		schedule.add(courseAdded);
+		conflicts.add(courseAdded);
+		publish();
+		for (ScheduleListener l : listeners) {
+			l.activityAdded(schedule.size() - 1, courseAdded);
+		}
 		return true;
 	}
 
@@ -205,10 +502,15 @@ public class WolfScheduler {
 	 * 
 	 * 
 	 */
-	public boolean removeActivityFromSchedule(int idx) {
+	public synchronized boolean removeActivityFromSchedule(int idx) {
 
 		if (schedule.size() > idx) {
-			schedule.remove(idx);
+			Activity removed = schedule.remove(idx);
+			conflicts.remove(removed);
+			publish();
+			for (ScheduleListener l : listeners) {
+				l.activityRemoved(idx, removed);
+			}
 			return true;
 		}
 		return false;
@@ -220,7 +522,7 @@ public class WolfScheduler {
 	 * @param title The title to be set for the schedule. It should not be null.
 	 * @throws IllegalArgumentException If the provided title is null.
 	 */
-	public void setScheduleTitle(String title) {
+	public synchronized void setScheduleTitle(String title) {
 
 		if (title == null) {
 			throw new IllegalArgumentException("Title cannot be null.");
@@ -233,9 +535,15 @@ public class WolfScheduler {
 	 * resets schedule by creating a new empty list
 	 *
 	 */
-	public void resetSchedule() {
+	public synchronized void resetSchedule() {
 
+		int removedCount = schedule.size();
 		schedule = new ArrayList<Activity>();
+		conflicts.clear();
+		publish();
+		for (ScheduleListener l : listeners) {
+			l.scheduleReset(removedCount);
+		}
 
 	}
 
@@ -253,9 +561,12 @@ public class WolfScheduler {
 	 * @throws IllegalArgumentException If an event with the same title already
 	 *                                  exists in the schedule or if the provided
 	 *                                  event details are null.
+	 * @throws ConflictException        If conflict checking is on and the event
+	 *                                  meets at the same time as an activity
+	 *                                  already in the schedule.
 	 */
-	public void addEventToSchedule(String eventTitle, String eventMeetingDays, int eventStartTime, int eventEndTime,
-			String eventDetails) {
+	public synchronized void addEventToSchedule(String eventTitle, String eventMeetingDays, int eventStartTime,
+			int eventEndTime, String eventDetails) {
 		Event eventToAdd = new Event(eventTitle, eventMeetingDays, eventStartTime, eventEndTime, eventDetails);
 
 		for (int i = 0; i < schedule.size(); i++) {
@@ -264,7 +575,94 @@ public class WolfScheduler {
 			}
 		}
 
+		checkConflict(eventToAdd, "event");
 		schedule.add(eventToAdd);
+		conflicts.add(eventToAdd);
+		publish();
+		for (ScheduleListener l : listeners) {
+			l.activityAdded(schedule.size() - 1, eventToAdd);
+		}
+	}
+
+	/**
+	 * Registers a listener that is told about every activity added to or removed
+	 * from the schedule and every reset, after the change is made.
+	 *
+	 * @param listener listener to add
+	 * @throws IllegalArgumentException If the listener is null.
+	 */
+	public synchronized void addScheduleListener(ScheduleListener listener) {
+
+		if (listener == null) {
+			throw new IllegalArgumentException("Listener cannot be null.");
+		}
+		listeners.add(listener);
+	}
+
+	/**
+	 * Stops telling a listener about changes to the schedule.
+	 *
+	 * @param listener listener to remove
+	 */
+	public synchronized void removeScheduleListener(ScheduleListener listener) {
+
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Turns conflict checking on or off. When it is on, addCourseToSchedule() and
+	 * addEventToSchedule() reject an activity that meets at the same time as one
+	 * already in the schedule. It is off by default.
+	 *
+	 * @param conflictChecking true to reject conflicting activities
+	 */
+	public synchronized void setConflictChecking(boolean conflictChecking) {
+
+		this.conflictChecking = conflictChecking;
+	}
+
+	/**
+	 * Finds an activity in the schedule that meets at the same time as the given
+	 * activity, whether or not conflict checking is on.
+	 *
+	 * @param activity activity to check against the schedule
+	 * @return a conflicting activity in the schedule, or null if there is none
+	 */
+	public synchronized Activity findConflict(Activity activity) {
+
+		return conflicts.findConflict(activity);
+	}
+
+	/**
+	 * Publishes a snapshot of the schedule after a change, before listeners are
+	 * told about it. The snapshot builds its rows here, under the lock, so reads
+	 * never build or copy them. Copying the schedule on every change is cheap next
+	 * to how often it is read, since a schedule only holds a handful of
+	 * activities.
+	 */
+	private void publish() {
+		snapshot = new ScheduleSnapshot(snapshot.getVersion() + 1, schedule);
+	}
+
+	/**
+	 * Checks that an activity doesn't meet at the same time as an activity already
+	 * in the schedule, if conflict checking is on.
+	 *
+	 * @param activity activity about to be added
+	 * @param kind     "course" or "event", used in the message
+	 * @throws ConflictException If the activity conflicts with one in the
+	 *                           schedule.
+	 */
+	private void checkConflict(Activity activity, String kind) {
+		if (!conflictChecking) {
+			return;
+		}
+		Activity conflict = conflicts.findConflict(activity);
+		if (conflict != null) {
+			String conflictName = conflict instanceof Course ? ((Course) conflict).getName() : conflict.getTitle();
+			throw new ConflictException("The " + kind + " cannot be added due to a conflict with " + conflictName + ".",
+					conflict);
+		}
 	}
 
 }
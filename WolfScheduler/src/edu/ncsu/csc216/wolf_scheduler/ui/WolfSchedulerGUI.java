@@ -9,6 +9,8 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -23,14 +25,20 @@ import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
 import javax.swing.border.Border;
 import javax.swing.border.EtchedBorder;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import javax.swing.table.AbstractTableModel;
 
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.ScheduleListener;
 import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
 
 /**
@@ -76,6 +84,8 @@ public class WolfSchedulerGUI extends JFrame {
 		//Construct the underlying model object
 		try {			
 			scheduler = new WolfScheduler(getFileName(true));
+			//Reject activities that meet at the same time as the schedule
+			scheduler.setConflictChecking(true);
 		} catch (IllegalStateException e) {
 			System.exit(1);
 		}
@@ -144,6 +154,8 @@ public class WolfSchedulerGUI extends JFrame {
 	private class SchedulerPanel extends JPanel implements ActionListener {
 		/** ID number used for object serialization. */
 		private static final long serialVersionUID = 1L;
+		/** Milliseconds typing must pause for before the catalog is searched */
+		private static final int SEARCH_DELAY = 150;
 		/** Button for adding the selected course in the catalog to the schedule */
 		private JButton btnAddCourse;
 		/** Button for removing the selected Course from the schedule */
@@ -158,6 +170,12 @@ public class WolfSchedulerGUI extends JFrame {
 		private JTable tableSchedule;
 		/** TableModel for catalog */
 		private CourseTableModel catalogTableModel;
+		/** JTextField for filtering the catalog */
+		private JTextField txtSearch;
+		/** Search of the catalog for the latest filter, or null if there is none */
+		private SwingWorker<int [], Void> searchWorker;
+		/** Waits for typing to pause before searching */
+		private Timer searchTimer;
 		/** TableModel for schedule */
 		private CourseTableModel scheduleTableModel;
 		/** Student's Schedule title label */
@@ -310,8 +328,12 @@ public class WolfSchedulerGUI extends JFrame {
 
 				@Override
 				public void valueChanged(ListSelectionEvent e) {
-					String name = tableCatalog.getValueAt(tableCatalog.getSelectedRow(), 0).toString();
-					String section = tableCatalog.getValueAt(tableCatalog.getSelectedRow(), 1).toString();
+					int row = tableCatalog.getSelectedRow();
+					if (row == -1) {
+						return;
+					}
+					String name = tableCatalog.getValueAt(row, 0).toString();
+					String section = tableCatalog.getValueAt(row, 1).toString();
 					Course c = scheduler.getCourseFromCatalog(name, section);
 					updateCourseDetails(c);
 				}
@@ -324,6 +346,37 @@ public class WolfSchedulerGUI extends JFrame {
 			scrollCatalog.setBorder(borderCatalog);
 			scrollCatalog.setToolTipText("Course Catalog");
 			
+			//Set up the catalog filter
+			txtSearch = new JTextField(20);
+			txtSearch.setToolTipText("Filter the catalog by course name or title");
+			searchTimer = new Timer(SEARCH_DELAY, e -> filterCatalog());
+			searchTimer.setRepeats(false);
+			txtSearch.getDocument().addDocumentListener(new DocumentListener() {
+
+				@Override
+				public void insertUpdate(DocumentEvent e) {
+					searchTimer.restart();
+				}
+
+				@Override
+				public void removeUpdate(DocumentEvent e) {
+					searchTimer.restart();
+				}
+
+				@Override
+				public void changedUpdate(DocumentEvent e) {
+					searchTimer.restart();
+				}
+				
+			});
+			JPanel pnlSearch = new JPanel(new BorderLayout());
+			pnlSearch.add(new JLabel("Search: "), BorderLayout.WEST);
+			pnlSearch.add(txtSearch, BorderLayout.CENTER);
+			
+			JPanel pnlCatalog = new JPanel(new BorderLayout());
+			pnlCatalog.add(pnlSearch, BorderLayout.NORTH);
+			pnlCatalog.add(scrollCatalog, BorderLayout.CENTER);
+			
 			//Set up Schedule table
 			scheduleTableModel = new CourseTableModel(false);
 			tableSchedule = new JTable(scheduleTableModel);
@@ -337,8 +390,6 @@ public class WolfSchedulerGUI extends JFrame {
 			scrollSchedule.setBorder(borderSchedule);
 			scrollSchedule.setToolTipText(scheduler.getScheduleTitle());
 			
-			updateTables();
-			
 			//Set up the course details panel
 			pnlCourseDetails = new JPanel();
 			pnlCourseDetails.setLayout(new GridLayout(4, 1));
@@ -500,13 +551,55 @@ public class WolfSchedulerGUI extends JFrame {
 			pnlAddEvent.setBorder(borderAddEvent);
 			pnlAddEvent.setToolTipText("AddEvent");
 			
-			add(scrollCatalog);
+			add(pnlCatalog);
 			add(pnlActions);
 			add(scrollSchedule);
 			add(pnlCourseDetails);
 			add(pnlAddEvent);
 		}
 
+		/**
+		 * Filters the catalog table to the courses matching the search text. It is
+		 * called once typing pauses, so a quick run of keystrokes starts only one
+		 * search. The search runs on a worker thread so typing never waits on it,
+		 * and a search still running when the text changes again is interrupted, so
+		 * it stops early and its rows are never shown. The table only swaps in the matching row numbers, so no rows are
+		 * copied however large the catalog is.
+		 */
+		private void filterCatalog() {
+			if (searchWorker != null) {
+				searchWorker.cancel(true);
+				searchWorker = null;
+			}
+			final String query = txtSearch.getText();
+			if (query.trim().isEmpty()) {
+				catalogTableModel.setRowView(null);
+				return;
+			}
+			searchWorker = new SwingWorker<int [], Void>() {
+
+				@Override
+				protected int [] doInBackground() {
+					return scheduler.findInCatalog(query);
+				}
+
+				@Override
+				protected void done() {
+					if (searchWorker != this || isCancelled()) {
+						return;
+					}
+					searchWorker = null;
+					try {
+						catalogTableModel.setRowView(get());
+					} catch (InterruptedException | ExecutionException e) {
+						catalogTableModel.setRowView(null);
+					}
+				}
+				
+			};
+			searchWorker.execute();
+		}
+
 		/**
 		 * Performs an action based on the given {@link ActionEvent}.
 		 * @param e user event that triggers an action.
@@ -525,7 +618,6 @@ public class WolfSchedulerGUI extends JFrame {
 						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, iae.getMessage());
 					}
 				}
-				updateTables();
 			} else if (e.getSource() == btnRemoveCourse) {
 				int row = tableSchedule.getSelectedRow();
 				if (row == -1 || row == tableSchedule.getRowCount()) {
@@ -533,10 +625,8 @@ public class WolfSchedulerGUI extends JFrame {
 				} else {
 					scheduler.removeActivityFromSchedule(row);
 				}
-				updateTables();
 			} else if (e.getSource() == btnReset) {
 				scheduler.resetSchedule();
-				updateTables();
 			} else if (e.getSource() == btnDisplay) {
 				cardLayout.show(panel, SCHEDULE_PANEL);
 				pnlSchedule.updateFinalizedTable();
@@ -623,7 +713,6 @@ public class WolfSchedulerGUI extends JFrame {
 					scheduler.addEventToSchedule(txtEventTitle.getText(), eventMeetingDays, eventStartTime, eventEndTime, txtDetails.getText());
 					
 					resetEvent();
-					updateTables();
 				} catch (IllegalArgumentException iae) {
 					String message = iae.getMessage();
 					if (message == null || "".equals(message)) {
@@ -658,14 +747,6 @@ public class WolfSchedulerGUI extends JFrame {
 			txtDetails.setText("");
 		}
 		
-		/**
-		 * Updates the catalog and schedule tables.
-		 */
-		private void updateTables() {
-			catalogTableModel.updateData();
-			scheduleTableModel.updateData();
-		}
-		
 		/**
 		 * Updates the pnlCourseDetails with full information about the most
 		 * recently selected course.
@@ -687,25 +768,32 @@ public class WolfSchedulerGUI extends JFrame {
 		 * the list of {@link Course}s to the user.
 		 * @author Sarah Heckman
 		 */
-		private class CourseTableModel extends AbstractTableModel {
+		private class CourseTableModel extends AbstractTableModel implements ScheduleListener {
 			
 			/** ID number used for object serialization. */
 			private static final long serialVersionUID = 1L;
 			/** Column names for the table */
 			private String [] columnNames = {"Name", "Section", "Title", "Meeting Information"};
-			/** Data stored in the table */
-			private Object [][] data;
+			/** Data stored in the table, one display array per row */
+			private ArrayList<Object []> data;
 			/** Boolean flag if the model applies to the catalog or schedule */
 			private boolean catalog;
+			/** Rows of data shown, in order, or null to show every row */
+			private int [] rowView;
 			
 			/**
 			 * Constructs the {@link CourseTableModel} by requesting the latest information
-			 * from the {@link RequirementTrackerModel}.
+			 * from the {@link RequirementTrackerModel}. The catalog doesn't change once it is
+			 * loaded, so it is read once. The schedule model listens to the {@link WolfScheduler}
+			 * and only touches the rows that change.
 			 * @param catalog flag to determine if updating the catalog (true) or schedule (false)
 			 */
 			public CourseTableModel(boolean catalog) {
 				this.catalog = catalog;
 				updateData();
+				if (!catalog) {
+					scheduler.addScheduleListener(this);
+				}
 			}
 
 			/**
@@ -723,7 +811,9 @@ public class WolfSchedulerGUI extends JFrame {
 			public int getRowCount() {
 				if (data == null) 
 					return 0;
-				return data.length;
+				if (rowView != null)
+					return rowView.length;
+				return data.size();
 			}
 			
 			/**
@@ -745,8 +835,8 @@ public class WolfSchedulerGUI extends JFrame {
 				if (data == null)
 					return null;
 				try {
-					return data[row][col];
-				} catch (ArrayIndexOutOfBoundsException e) {
+					return data.get(toDataRow(row))[col];
+				} catch (IndexOutOfBoundsException e) {
 					return null;
 				}
 			}
@@ -758,18 +848,84 @@ public class WolfSchedulerGUI extends JFrame {
 			 * @param col location to modify the data.
 			 */
 			public void setValueAt(Object value, int row, int col) {
-				data[row][col] = value;
+				// the row may be shared with the scheduler, so change a copy of it
+				int dataRow = toDataRow(row);
+				Object [] changed = data.get(dataRow).clone();
+				changed[col] = value;
+				data.set(dataRow, changed);
 				fireTableCellUpdated(row, col);
 			}
 			
+			/**
+			 * Shows only the given rows of the data, in the given order. The rows
+			 * themselves are not copied, so a view of a large catalog is swapped in
+			 * as quickly as a small one.
+			 * @param view rows of the data to show, or null to show every row
+			 */
+			public void setRowView(int [] view) {
+				rowView = view;
+				fireTableDataChanged();
+			}
+			
+			/**
+			 * Returns the row of the data shown at the given table row.
+			 * @param row table row
+			 * @return the row of the data
+			 */
+			private int toDataRow(int row) {
+				if (rowView == null)
+					return row;
+				return rowView[row];
+			}
+			
 			/**
 			 * Updates the given model with {@link Course} information from the {@link WolfScheduler}.
 			 */
 			private void updateData() {
+				String [][] rows;
 				if (catalog) {
-					data = scheduler.getCourseCatalog();
+					rows = scheduler.getCourseCatalog();
 				} else {
-					data = scheduler.getScheduledActivities();
+					rows = scheduler.getScheduledActivities();
+				}
+				data = new ArrayList<Object []>(rows.length);
+				for (String [] row : rows) {
+					data.add(row);
+				}
+				fireTableDataChanged();
+			}
+
+			/**
+			 * Inserts the row for an activity added to the schedule.
+			 * @param index row of the new activity
+			 * @param activity activity that was added
+			 */
+			@Override
+			public void activityAdded(int index, Activity activity) {
+				data.add(index, activity.getShortDisplayArray());
+				fireTableRowsInserted(index, index);
+			}
+
+			/**
+			 * Deletes the row for an activity removed from the schedule.
+			 * @param index row the activity had
+			 * @param activity activity that was removed
+			 */
+			@Override
+			public void activityRemoved(int index, Activity activity) {
+				data.remove(index);
+				fireTableRowsDeleted(index, index);
+			}
+
+			/**
+			 * Deletes all of the rows after the schedule is reset.
+			 * @param removedCount number of rows before the reset
+			 */
+			@Override
+			public void scheduleReset(int removedCount) {
+				data.clear();
+				if (removedCount > 0) {
+					fireTableRowsDeleted(0, removedCount - 1);
 				}
 			}
 		}
@@ -866,10 +1022,10 @@ public class WolfSchedulerGUI extends JFrame {
 		}
 		
 		/**
-		 * Updates the finalized schedule table
+		 * Updates the finalized schedule table's title. The rows are kept up to date
+		 * by the table model as the schedule changes.
 		 */
 		public void updateFinalizedTable() {
-			scheduleTableModel.updateData();
 			borderSchedule.setTitle(scheduler.getScheduleTitle());
 			scrollSchedule.setToolTipText(scheduler.getScheduleTitle());
 		}
@@ -879,21 +1035,23 @@ public class WolfSchedulerGUI extends JFrame {
 		 * the list of {@link Course}s, and all their data, to the user.
 		 * @author Sarah Heckman
 		 */
-		private class FullCourseTableModel extends AbstractTableModel {
+		private class FullCourseTableModel extends AbstractTableModel implements ScheduleListener {
 			
 			/** ID number used for object serialization. */
 			private static final long serialVersionUID = 1L;
 			/** Column names for the table */
 			private String [] columnNames = {"Name", "Section", "Title", "Credits", "Instructor", "Meeting Information", "Details"};
-			/** Data stored in the table */
-			private Object [][] data;
+			/** Data stored in the table, one display array per row */
+			private ArrayList<Object []> data;
 			
 			/**
 			 * Constructs the {@link CourseTableModel} by requesting the latest information
-			 * from the {@link RequirementTrackerModel}.
+			 * from the {@link RequirementTrackerModel}, then listens to the {@link WolfScheduler}
+			 * so only the rows that change are touched.
 			 */
 			public FullCourseTableModel() {
 				updateData();
+				scheduler.addScheduleListener(this);
 			}
 
 			/**
@@ -911,7 +1069,7 @@ public class WolfSchedulerGUI extends JFrame {
 			public int getRowCount() {
 				if (data == null) 
 					return 0;
-				return data.length;
+				return data.size();
 			}
 			
 			/**
@@ -933,8 +1091,8 @@ public class WolfSchedulerGUI extends JFrame {
 				if (data == null)
 					return null;
 				try {
-					return data[row][col];
-				} catch (ArrayIndexOutOfBoundsException e) {
+					return data.get(row)[col];
+				} catch (IndexOutOfBoundsException e) {
 					return null;
 				}
 			}
@@ -946,7 +1104,10 @@ public class WolfSchedulerGUI extends JFrame {
 			 * @param col location to modify the data.
 			 */
 			public void setValueAt(Object value, int row, int col) {
-				data[row][col] = value;
+				// the row may be shared with the scheduler, so change a copy of it
+				Object [] changed = data.get(row).clone();
+				changed[col] = value;
+				data.set(row, changed);
 				fireTableCellUpdated(row, col);
 			}
 			
@@ -954,7 +1115,46 @@ public class WolfSchedulerGUI extends JFrame {
 			 * Updates the given model with {@link Course} information from the {@link WolfScheduler}.
 			 */
 			private void updateData() {
-				data = scheduler.getFullScheduledActivities();
+				String [][] rows = scheduler.getFullScheduledActivities();
+				data = new ArrayList<Object []>(rows.length);
+				for (String [] row : rows) {
+					data.add(row);
+				}
+				fireTableDataChanged();
+			}
+
+			/**
+			 * Inserts the row for an activity added to the schedule.
+			 * @param index row of the new activity
+			 * @param activity activity that was added
+			 */
+			@Override
+			public void activityAdded(int index, Activity activity) {
+				data.add(index, activity.getLongDisplayArray());
+				fireTableRowsInserted(index, index);
+			}
+
+			/**
+			 * Deletes the row for an activity removed from the schedule.
+			 * @param index row the activity had
+			 * @param activity activity that was removed
+			 */
+			@Override
+			public void activityRemoved(int index, Activity activity) {
+				data.remove(index);
+				fireTableRowsDeleted(index, index);
+			}
+
+			/**
+			 * Deletes all of the rows after the schedule is reset.
+			 * @param removedCount number of rows before the reset
+			 */
+			@Override
+			public void scheduleReset(int removedCount) {
+				data.clear();
+				if (removedCount > 0) {
+					fireTableRowsDeleted(0, removedCount - 1);
+				}
 			}
 		}
 		
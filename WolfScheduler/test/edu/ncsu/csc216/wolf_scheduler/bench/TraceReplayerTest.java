@@ -0,0 +1,73 @@
+package edu.ncsu.csc216.wolf_scheduler.bench;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Tests TraceReplayer.
+ * 
+ * @author Kevin John
+ */
+public class TraceReplayerTest {
+
+	/**
+	 * Tests generating a catalog and a trace and replaying the trace. Most
+	 * operations succeed, the ones meant to fail do, and the same trace gives the
+	 * same results and schedule every time.
+	 */
+	@Test
+	public void testReplayGeneratedTrace() {
+		try {
+			File catalog = File.createTempFile("catalog-", ".txt");
+			catalog.deleteOnExit();
+			File trace = File.createTempFile("trace-", ".txt");
+			trace.deleteOnExit();
+			WorkloadGenerator generator = new WorkloadGenerator(316, 5);
+			generator.writeCatalog(catalog.getPath(), 3000);
+			generator.writeTrace(trace.getPath(), 5000);
+
+			ArrayList<String[]> operations = TraceReplayer.readTrace(trace.getPath());
+			assertEquals(5000, operations.size());
+			WolfScheduler scheduler = new WolfScheduler(catalog.getPath());
+			int[] results = TraceReplayer.replay(scheduler, operations);
+			assertEquals(5000, results[0] + results[1]);
+			assertTrue(results[0] > results[1] * 3, results[0] + " ok, " + results[1] + " failed");
+			assertTrue(results[1] > 0);
+
+			WolfScheduler again = new WolfScheduler(catalog.getPath());
+			assertArrayEquals(results, TraceReplayer.replay(again, operations));
+			assertArrayEquals(scheduler.getFullScheduledActivities(), again.getFullScheduledActivities());
+		} catch (IOException e) {
+			fail("Unexpected error writing workload");
+		}
+	}
+
+	/**
+	 * Tests that a malformed operation stops the replay instead of counting as a
+	 * failed one.
+	 */
+	@Test
+	public void testReplayInvalidOperation() {
+		WolfScheduler scheduler = new WolfScheduler("test-files/course_records.txt");
+		ArrayList<String[]> operations = new ArrayList<String[]>();
+		operations.add(new String[] { "add", "CSC 216", "001" });
+		operations.add(new String[] { "add", "CSC 999", "001" });
+		assertArrayEquals(new int[] { 1, 1 }, TraceReplayer.replay(scheduler, operations));
+
+		for (String[] op : new String[][] { { "drop", "0" }, { "remove", "first" }, { "add", "CSC 216" },
+				{ "event", "Lunch", "MWF", "noon", "1300", "" }, { "reset", "now" } }) {
+			operations.add(op);
+			Exception e = assertThrows(IllegalArgumentException.class,
+					() -> TraceReplayer.replay(new WolfScheduler("test-files/course_records.txt"), operations));
+			assertEquals("Invalid operation on line 3.", e.getMessage());
+			operations.remove(2);
+		}
+	}
+}
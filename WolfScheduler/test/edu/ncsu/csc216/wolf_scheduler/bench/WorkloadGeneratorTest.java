@@ -0,0 +1,68 @@
+package edu.ncsu.csc216.wolf_scheduler.bench;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Tests WorkloadGenerator.
+ * 
+ * @author Kevin John
+ */
+public class WorkloadGeneratorTest {
+
+	/**
+	 * Tests that every generated department prefix is a different valid four
+	 * letter prefix.
+	 */
+	@Test
+	public void testGeneratedDepartments() {
+		assertEquals("QAAA", WorkloadGenerator.generatedDepartment(0));
+		assertEquals("ZZZZ", WorkloadGenerator.generatedDepartment(10 * 26 * 26 * 26 - 1));
+		assertEquals("AAAA", WorkloadGenerator.generatedDepartment(10 * 26 * 26 * 26));
+		HashSet<String> seen = new HashSet<String>();
+		for (int n = 0; n < WorkloadGenerator.GENERATED_DEPARTMENTS; n++) {
+			String department = WorkloadGenerator.generatedDepartment(n);
+			assertTrue(department.matches("[A-Z]{4}"), department);
+			assertTrue(seen.add(department), department);
+		}
+		assertThrows(IllegalArgumentException.class,
+				() -> WorkloadGenerator.generatedDepartment(WorkloadGenerator.GENERATED_DEPARTMENTS));
+	}
+
+	/**
+	 * Tests that a catalog has the lines asked for, that the valid ones all load,
+	 * and that the same seed writes the same catalog.
+	 */
+	@Test
+	public void testWriteCatalog() {
+		try {
+			File first = File.createTempFile("catalog-", ".txt");
+			first.deleteOnExit();
+			File second = File.createTempFile("catalog-", ".txt");
+			second.deleteOnExit();
+			WorkloadGenerator generator = new WorkloadGenerator(216, 5);
+			int valid = generator.writeCatalog(first.getPath(), 2000);
+			assertEquals(valid, new WorkloadGenerator(216, 5).writeCatalog(second.getPath(), 2000));
+			assertEquals(-1L, Files.mismatch(first.toPath(), second.toPath()));
+			assertEquals(2000, Files.readAllLines(first.toPath()).size());
+
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(first.getPath());
+			assertEquals(valid, courses.size());
+			assertTrue(valid < 2000);
+			assertTrue(valid > 1800);
+		} catch (IOException e) {
+			fail("Unexpected error writing catalog");
+		}
+		assertThrows(IllegalArgumentException.class, () -> new WorkloadGenerator(216, 101));
+	}
+}
@@ -404,6 +404,27 @@ public class CourseTest {
 		assertEquals("TH 12:00PM-1:00PM", c5.getMeetingString());
 	}
 
+	/**
+	 * Tests getMeetingDayMask().
+	 */
+	@Test
+	public void testGetMeetingDayMask() {
+		Activity c1 = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
+		assertEquals(Activity.MONDAY | Activity.WEDNESDAY, c1.getMeetingDayMask());
+		Activity c2 = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "HFT", START_TIME, END_TIME);
+		assertEquals(Activity.TUESDAY | Activity.THURSDAY | Activity.FRIDAY, c2.getMeetingDayMask());
+		assertEquals(0, c1.getMeetingDayMask() & c2.getMeetingDayMask());
+		Activity c3 = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "A");
+		assertEquals(Activity.ARRANGED, c3.getMeetingDayMask());
+		assertEquals(0, c3.getMeetingDayMask() & Activity.WEEKDAYS);
+		
+		// an invalid change leaves the mask alone
+		assertThrows(IllegalArgumentException.class, () -> c1.setMeetingDaysAndTime("TH", 1445, 1330));
+		assertEquals(Activity.MONDAY | Activity.WEDNESDAY, c1.getMeetingDayMask());
+		c1.setMeetingDaysAndTime("A", 0, 0);
+		assertEquals(Activity.ARRANGED, c1.getMeetingDayMask());
+	}
+
 	/**
 	 * Tests that the equals method works for all Course fields.
 	 */
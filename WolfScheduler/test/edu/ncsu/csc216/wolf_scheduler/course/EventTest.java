@@ -98,6 +98,7 @@ public class EventTest {
 		assertEquals(meetingString, event.getMeetingDays(), "incorrect meeting days");
 		assertEquals(expectedStartTime, event.getStartTime(), "incorrect start time");
 		assertEquals(expectedEndTime, event.getEndTime(), "incorrect end time");
+		assertEquals(meetingString.length(), Integer.bitCount(event.getMeetingDayMask()), "incorrect meeting day mask");
 	}
 	
 	/**
@@ -129,7 +130,7 @@ public class EventTest {
 		assertEquals(EVENT_MEETING_DAYS, event.getMeetingDays(), "incorrect meeting days");
 		assertEquals(EVENT_START_TIME, event.getStartTime(), "incorrect start time");
 		assertEquals(EVENT_END_TIME, event.getEndTime(), "incorrect end time");
-		
+		assertEquals(Activity.WEEKDAYS & ~(Activity.SATURDAY | Activity.SUNDAY), event.getMeetingDayMask(), "incorrect meeting day mask");
 	}
 
 	/**
@@ -176,6 +177,18 @@ public class EventTest {
 		assertEquals("", actualLongDisplay[4]);
 		assertEquals("MTWHF 8:00AM-9:00AM", actualLongDisplay[5]);
 		assertEquals(EVENT_DETAILS, actualLongDisplay[6]);
+		
+		// changing the returned array or the event's fields is seen by the next call
+		actualLongDisplay[2] = "changed";
+		assertEquals(EVENT_TITLE, event.getLongDisplayArray()[2]);
+		event.setTitle("Run");
+		event.setEventDetails("Outside");
+		event.setMeetingDaysAndTime("SU", 700, 800);
+		actualLongDisplay = event.getLongDisplayArray();
+		assertEquals("Run", actualLongDisplay[2]);
+		assertEquals("SU 7:00AM-8:00AM", actualLongDisplay[5]);
+		assertEquals("Outside", actualLongDisplay[6]);
+		assertEquals("Run", event.getShortDisplayArray()[2]);
 	}
 
 	/**
@@ -75,4 +75,123 @@ public class ExtendedCourseTest {
 		assertEquals("", actualLongDisplay[6]);
 	}
 
+	/**
+	 * Tests that the display arrays are rebuilt after a setter and that changing
+	 * a returned array does not change the Course's next array.
+	 */
+	@Test
+	public void testDisplayArraysAfterChange() {
+		Course c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
+		String [] first = c.getShortDisplayArray();
+		first[0] = "changed";
+		assertEquals(NAME, c.getShortDisplayArray()[0]);
+		assertNotSame(first, c.getShortDisplayArray());
+		
+		c.setTitle("New Title");
+		c.setSection("002");
+		c.setMeetingDaysAndTime("TH", 800, 915);
+		String [] shortDisplay = c.getShortDisplayArray();
+		assertEquals("002", shortDisplay[1]);
+		assertEquals("New Title", shortDisplay[2]);
+		assertEquals("TH 8:00AM-9:15AM", shortDisplay[3]);
+		
+		c.getLongDisplayArray();
+		c.setCredits(4);
+		c.setInstructorId("jdyoung2");
+		c.setMeetingDaysAndTime("A", 0, 0);
+		String [] longDisplay = c.getLongDisplayArray();
+		assertEquals("4", longDisplay[3]);
+		assertEquals("jdyoung2", longDisplay[4]);
+		assertEquals("Arranged", longDisplay[5]);
+	}
+	
+	/**
+	 * Tests that the shared display arrays are built once and handed out without
+	 * copying until a field changes.
+	 */
+	@Test
+	public void testSharedDisplayArrays() {
+		Course c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
+		String [] shortDisplay = c.getSharedShortDisplayArray();
+		String [] longDisplay = c.getSharedLongDisplayArray();
+		assertSame(shortDisplay, c.getSharedShortDisplayArray());
+		assertSame(longDisplay, c.getSharedLongDisplayArray());
+		assertArrayEquals(shortDisplay, c.getShortDisplayArray());
+		assertNotSame(shortDisplay, c.getShortDisplayArray());
+		
+		c.setTitle("New Title");
+		assertNotSame(shortDisplay, c.getSharedShortDisplayArray());
+		assertEquals("New Title", c.getSharedShortDisplayArray()[2]);
+		assertEquals("New Title", c.getSharedLongDisplayArray()[2]);
+		assertEquals(TITLE, shortDisplay[2]);
+	}
+	
+	/**
+	 * Tests that a display array built while a field changes is not kept, as
+	 * when another thread sets the title while a reader builds the array.
+	 */
+	@Test
+	public void testSharedDisplayArrayChangedWhileBuilt() {
+		Course c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME) {
+			/** true once the title has been changed during a build */
+			private boolean changed;
+
+			@Override
+			protected String[] buildShortDisplayArray() {
+				String[] array = super.buildShortDisplayArray();
+				if (!changed) {
+					changed = true;
+					setTitle("New Title");
+				}
+				return array;
+			}
+
+			@Override
+			protected String[] buildLongDisplayArray() {
+				String[] array = super.buildLongDisplayArray();
+				setInstructorId("jdyoung2");
+				return array;
+			}
+		};
+		assertEquals(TITLE, c.getSharedShortDisplayArray()[2]);
+		assertEquals("New Title", c.getSharedShortDisplayArray()[2]);
+		assertEquals("New Title", c.getShortDisplayArray()[2]);
+		
+		//A field that changes on every build means the array is never kept
+		assertEquals(INSTRUCTOR_ID, c.getSharedLongDisplayArray()[4]);
+		assertEquals("jdyoung2", c.getSharedLongDisplayArray()[4]);
+		assertNotSame(c.getSharedLongDisplayArray(), c.getSharedLongDisplayArray());
+	}
+	
+	/**
+	 * Tests that a frozen course can't be changed through any setter.
+	 */
+	@Test
+	public void testFreeze() {
+		Course c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
+		assertFalse(c.isFrozen());
+		c.freeze();
+		assertTrue(c.isFrozen());
+		String [] shortDisplay = c.getSharedShortDisplayArray();
+		
+		Exception e = assertThrows(UnsupportedOperationException.class, () -> c.setTitle("New Title"));
+		assertEquals("Activity cannot be changed.", e.getMessage());
+		assertThrows(UnsupportedOperationException.class, () -> c.setSection("002"));
+		assertThrows(UnsupportedOperationException.class, () -> c.setCredits(4));
+		assertThrows(UnsupportedOperationException.class, () -> c.setInstructorId("jdyoung2"));
+		assertThrows(UnsupportedOperationException.class, () -> c.setMeetingDaysAndTime("A", 0, 0));
+		assertThrows(UnsupportedOperationException.class, () -> c.setMeetingDaysAndTime("X", 0, 0));
+		assertEquals(TITLE, c.getTitle());
+		assertEquals(SECTION, c.getSection());
+		assertEquals(CREDITS, c.getCredits());
+		assertEquals(INSTRUCTOR_ID, c.getInstructorId());
+		assertEquals(MEETING_DAYS, c.getMeetingDays());
+		assertSame(shortDisplay, c.getSharedShortDisplayArray());
+		
+		Event event = new Event("Lunch", "MWF", 1200, 1300, "Food");
+		event.freeze();
+		assertThrows(UnsupportedOperationException.class, () -> event.setEventDetails("Gym"));
+		assertThrows(UnsupportedOperationException.class, () -> event.setTitle("Dinner"));
+		assertEquals("Food", event.getEventDetails());
+	}
 }
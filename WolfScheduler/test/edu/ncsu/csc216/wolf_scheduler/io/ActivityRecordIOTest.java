@@ -5,10 +5,20 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
@@ -60,6 +70,144 @@ public class ActivityRecordIOTest {
 		checkFiles("test-files/expected_activity_records.txt", "test-files/actual_activity_records.txt");
 	}
 
+	/**
+	 * Tests writeActivityRecords() with a Stream of activities.
+	 */
+	@Test
+	public void testWriteActivityRecordsStream() {
+		Stream<Activity> activities = Stream.of(
+				new Course("CSC 116", "Intro to Programming - Java", "003", 3, "spbalik", "MW", 1250, 1440),
+				new Event("Exercise", "UMTHFS", 800, 900, "Cardio with rest day on Wednesday."),
+				new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445),
+				new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
+		
+		try {
+			ActivityRecordIO.writeActivityRecords("test-files/actual_activity_records.txt", activities);
+		} catch (IOException e) {
+			fail("Cannot write to activity records file");
+		}
+		
+		checkFiles("test-files/expected_activity_records.txt", "test-files/actual_activity_records.txt");
+	}
+	
+	/**
+	 * Tests writeActivityRecords() with more records than fit in one buffer.
+	 */
+	@Test
+	public void testWriteActivityRecordsLarge() {
+		LinkedList<Course> courses = new LinkedList<Course>();
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			Course c = i % 3 == 0 ? new Course("CSC " + (100 + i % 900), "Title " + i, "601", 3, "inst" + i, "A")
+					: new Course("CSC " + (100 + i % 900), "Title " + i, "001", 1 + i % 5, "inst" + i, "TH", 800, 915);
+			courses.add(c);
+			expected.append(c.toString()).append(System.lineSeparator());
+		}
+		
+		try {
+			File file = File.createTempFile("activity_records", ".txt");
+			file.deleteOnExit();
+			ActivityRecordIO.writeActivityRecords(file.getPath(), courses);
+			assertEquals(expected.toString(), new String(Files.readAllBytes(file.toPath())));
+			
+			// an empty schedule writes an empty file
+			ActivityRecordIO.writeActivityRecords(file.getPath(), List.<Activity>of());
+			assertEquals(0, file.length());
+		} catch (IOException e) {
+			fail("Cannot write to activity records file");
+		}
+	}
+
+	/**
+	 * Tests that writeActivityRecords() writes the same bytes PrintStream did for
+	 * characters outside of ASCII.
+	 */
+	@Test
+	public void testWriteActivityRecordsCharset() {
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		activities.add(new Course("CSC 116", "Programación \u00e9\u4e2d", "003", 3, "spbalik", "MW", 1250, 1440));
+		activities.add(new Event("Caf\u00e9 \ud83d\ude00", "UMTHFS", 800, 900, "na\u00efve"));
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		PrintStream printStream = new PrintStream(expected);
+		for (Activity a : activities) {
+			printStream.println(a.toString());
+		}
+		printStream.close();
+		
+		try {
+			File file = File.createTempFile("activity_records", ".txt");
+			file.deleteOnExit();
+			ActivityRecordIO.writeActivityRecords(file.getPath(), activities);
+			assertArrayEquals(expected.toByteArray(), Files.readAllBytes(file.toPath()));
+		} catch (IOException e) {
+			fail("Cannot write to activity records file");
+		}
+	}
+	
+	/**
+	 * Tests writeScheduleArchive() and writeScheduleFiles().
+	 */
+	@Test
+	public void testWriteSchedules() {
+		Map<String, List<Activity>> schedules = new LinkedHashMap<String, List<Activity>>();
+		for (int i = 0; i < 40; i++) {
+			List<Activity> schedule = new ArrayList<Activity>();
+			for (int j = 0; j <= i % 5; j++) {
+				schedule.add(new Course("CSC " + (100 + j), "Title " + i, "00" + (1 + j), 3, "inst" + i, "MW", 800, 915));
+			}
+			if (i % 4 == 0) {
+				schedule.add(new Event("Event " + i, "SU", 1200, 1300, "Details"));
+			}
+			schedules.put("student" + i, schedule);
+		}
+		schedules.put("empty", new ArrayList<Activity>());
+		
+		try {
+			File archive = File.createTempFile("schedules", ".zip");
+			archive.deleteOnExit();
+			ActivityRecordIO.writeScheduleArchive(archive.getPath(), schedules);
+			try (ZipFile zip = new ZipFile(archive)) {
+				assertEquals(schedules.size(), zip.size());
+				for (Map.Entry<String, List<Activity>> schedule : schedules.entrySet()) {
+					ZipEntry entry = zip.getEntry(schedule.getKey() + ".txt");
+					assertEquals(records(schedule.getValue()), new String(zip.getInputStream(entry).readAllBytes()));
+				}
+			}
+			
+			File directory = Files.createTempDirectory("schedules").toFile();
+			ActivityRecordIO.writeScheduleFiles(directory.getPath(), schedules, 4);
+			assertEquals(schedules.size(), directory.listFiles().length);
+			for (Map.Entry<String, List<Activity>> schedule : schedules.entrySet()) {
+				File file = new File(directory, schedule.getKey() + ".txt");
+				assertEquals(records(schedule.getValue()), new String(Files.readAllBytes(file.toPath())));
+				file.delete();
+			}
+			directory.delete();
+			
+			assertThrows(IllegalArgumentException.class,
+					() -> ActivityRecordIO.writeScheduleFiles(directory.getPath(), schedules, 0));
+			Map<String, List<Activity>> badName = new LinkedHashMap<String, List<Activity>>();
+			badName.put("../student", new ArrayList<Activity>());
+			assertThrows(IllegalArgumentException.class,
+					() -> ActivityRecordIO.writeScheduleArchive(archive.getPath(), badName));
+		} catch (IOException e) {
+			fail("Cannot write schedules");
+		}
+	}
+	
+	/**
+	 * Helper method that returns the records for a schedule, one per line.
+	 * @param activities activities in the schedule
+	 * @return the expected file contents
+	 */
+	private String records(List<Activity> activities) {
+		StringBuilder sb = new StringBuilder();
+		for (Activity a : activities) {
+			sb.append(a.toString()).append(System.lineSeparator());
+		}
+		return sb.toString();
+	}
+
 	/**
 	 * Helper method to compare two files for the same contents
 	 * @param expFile expected output
@@ -0,0 +1,154 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CatalogSnapshotIO.
+ * 
+ * @author Kevin John
+ */
+public class CatalogSnapshotIOTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Snapshot written by the tests */
+	private final String snapshotFile = "test-files/actual_catalog_snapshot.dat";
+
+	/**
+	 * Tests that a snapshot reads back the same courses that were written.
+	 */
+	@Test
+	public void testWriteAndReadCatalogSnapshot() {
+		try {
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile);
+			CatalogSnapshotIO.writeCatalogSnapshot(snapshotFile, courses);
+			assertTrue(CatalogSnapshotIO.isCatalogSnapshot(snapshotFile));
+			assertFalse(CatalogSnapshotIO.isCatalogSnapshot(validTestFile));
+
+			ArrayList<Course> read = CatalogSnapshotIO.readCatalogSnapshot(snapshotFile);
+			assertEquals(courses.size(), read.size());
+			for (int i = 0; i < courses.size(); i++) {
+				assertEquals(courses.get(i), read.get(i));
+				assertEquals(courses.get(i).toString(), read.get(i).toString());
+				assertEquals(courses.get(i).getMeetingString(), read.get(i).getMeetingString());
+				assertEquals(courses.get(i).getMeetingDayMask(), read.get(i).getMeetingDayMask());
+			}
+		} catch (IOException e) {
+			fail("Unexpected error: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests that files that aren't snapshots, or are damaged, are rejected.
+	 */
+	@Test
+	public void testReadInvalidCatalogSnapshot() {
+		assertThrows(IOException.class, () -> CatalogSnapshotIO.readCatalogSnapshot(validTestFile));
+		assertThrows(IOException.class, () -> CatalogSnapshotIO.readCatalogSnapshot("test-files/no_such_file.dat"));
+
+		try {
+			CatalogSnapshotIO.writeCatalogSnapshot(snapshotFile, CourseRecordIO.readCourseRecords(validTestFile));
+			Path path = Paths.get(snapshotFile);
+			byte[] data = Files.readAllBytes(path);
+			data[data.length / 2] ^= 1;
+			Files.write(path, data);
+		} catch (IOException e) {
+			fail("Unexpected error: " + e.getMessage());
+		}
+		Exception e = assertThrows(IOException.class, () -> CatalogSnapshotIO.readCatalogSnapshot(snapshotFile));
+		assertEquals("Corrupt catalog snapshot.", e.getMessage());
+	}
+
+	/**
+	 * Tests that counts that don't fit the file, and bytes left over after the
+	 * last course, are rejected even when the checksum matches.
+	 */
+	@Test
+	public void testReadCatalogSnapshotBadCounts() {
+		//negative and too large String counts
+		assertCorrupt(header().putInt(-1));
+		assertCorrupt(header().putInt(Integer.MAX_VALUE));
+		//a String longer than the file, and a negative length
+		assertCorrupt(header().putInt(1).putInt(100).put((byte) 'A'));
+		assertCorrupt(header().putInt(1).putInt(-1).putInt(0));
+		//negative and too large course counts
+		assertCorrupt(header().putInt(0).putInt(-5));
+		assertCorrupt(header().putInt(0).putInt(Integer.MAX_VALUE));
+		//an empty catalog is fine
+		try {
+			writeWithChecksum(header().putInt(0).putInt(0));
+			assertEquals(0, CatalogSnapshotIO.readCatalogSnapshot(snapshotFile).size());
+		} catch (IOException e) {
+			fail("Unexpected error: " + e.getMessage());
+		}
+
+		//bytes after the last course
+		try {
+			CatalogSnapshotIO.writeCatalogSnapshot(snapshotFile, CourseRecordIO.readCourseRecords(validTestFile));
+			byte[] data = Files.readAllBytes(Paths.get(snapshotFile));
+			byte[] body = Arrays.copyOf(data, data.length - Long.BYTES + 3);
+			ByteBuffer buffer = ByteBuffer.allocate(body.length);
+			buffer.put(body);
+			assertCorrupt(buffer);
+		} catch (IOException e) {
+			fail("Unexpected error: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns a buffer holding the start of a snapshot: the magic bytes and the
+	 * version.
+	 * 
+	 * @return the buffer, with room for more
+	 */
+	private static ByteBuffer header() {
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		buffer.put(new byte[] { (byte) 0x89, 'W', 'S', 'C' }).putInt(1);
+		return buffer;
+	}
+
+	/**
+	 * Writes the bytes put in a buffer so far, followed by their checksum, to the
+	 * snapshot file.
+	 * 
+	 * @param body bytes of the snapshot before the checksum
+	 * @throws IOException if the file cannot be written
+	 */
+	private void writeWithChecksum(ByteBuffer body) throws IOException {
+		byte[] bytes = Arrays.copyOf(body.array(), body.position());
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		ByteBuffer file = ByteBuffer.allocate(bytes.length + Long.BYTES);
+		file.put(bytes).putLong(crc.getValue());
+		Files.write(Paths.get(snapshotFile), file.array());
+	}
+
+	/**
+	 * Writes a snapshot with the given body and checks that reading it fails as
+	 * a corrupt snapshot.
+	 * 
+	 * @param body bytes of the snapshot before the checksum
+	 */
+	private void assertCorrupt(ByteBuffer body) {
+		try {
+			writeWithChecksum(body);
+		} catch (IOException e) {
+			fail("Unexpected error: " + e.getMessage());
+		}
+		Exception e = assertThrows(IOException.class, () -> CatalogSnapshotIO.readCatalogSnapshot(snapshotFile));
+		assertEquals("Corrupt catalog snapshot.", e.getMessage());
+	}
+}
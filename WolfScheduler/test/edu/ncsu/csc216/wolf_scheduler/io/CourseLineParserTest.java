@@ -0,0 +1,70 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests CourseLineParser.
+ * 
+ * @author Kevin John
+ */
+public class CourseLineParserTest {
+
+	/**
+	 * Tests parsing valid lines, including an arranged course.
+	 */
+	@Test
+	public void testParseValid() {
+		CourseLineParser parser = new CourseLineParser();
+		assertEquals(CourseLineParser.OK,
+				parser.parse("CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,0910,1100"));
+		assertEquals("CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,910,1100", parser.getCourse().toString());
+
+		assertEquals(CourseLineParser.OK, parser.parse("CSC 216,Software Development Fundamentals,601,3,jctetter,A"));
+		assertEquals("CSC 216,Software Development Fundamentals,601,3,jctetter,A", parser.getCourse().toString());
+
+		// a line inside a larger piece of text
+		String text = "xxCSC 217,Lab,202,1,sesmith5,M,1040,1230yy";
+		assertEquals(CourseLineParser.OK, parser.parse(text, 2, text.length() - 2));
+		assertEquals("CSC 217", parser.getCourse().getName());
+	}
+
+	/**
+	 * Tests the result codes for lines that can't be parsed.
+	 */
+	@Test
+	public void testParseInvalid() {
+		CourseLineParser parser = new CourseLineParser();
+		assertEquals(CourseLineParser.MISSING_TOKEN, parser.parse(""));
+		assertEquals(CourseLineParser.MISSING_TOKEN,
+				parser.parse("CSC 216,Software Development Fundamentals,001,3,sesmith5,MW,1445"));
+		assertEquals(CourseLineParser.BAD_NUMBER,
+				parser.parse("CSC 216,Software Development Fundamentals,001,sesmith5,MW,1330,1445"));
+		assertEquals(CourseLineParser.BAD_NUMBER,
+				parser.parse("CSC 216,Software Development Fundamentals,001,3,sesmith5,MW,1330,99999999999"));
+		assertEquals(CourseLineParser.EXTRA_TOKEN,
+				parser.parse("CSC 216,Software Development Fundamentals,001,3,sesmith5,A,1330,1445"));
+		assertEquals(CourseLineParser.EXTRA_TOKEN,
+				parser.parse("CSC 216,Software Development Fundamentals,001,3,sesmith5,MTWH,1330,1445,extra"));
+		assertEquals(CourseLineParser.INVALID_COURSE,
+				parser.parse("CSC 216,Software Development Fundamentals,001,6,sesmith5,MW,1330,1445"));
+		assertNull(parser.getCourse());
+	}
+
+	/**
+	 * Tests that commas are handled the way a Scanner with a "," delimiter handles
+	 * them.
+	 */
+	@Test
+	public void testParseCommas() {
+		CourseLineParser parser = new CourseLineParser();
+		// one leading comma and one trailing comma are skipped
+		assertEquals(CourseLineParser.OK, parser.parse(",CSC 230,C and Software Tools,001,3,dbsturgi,MW,1145,1300,"));
+		// two commas in a row give an empty token
+		assertEquals(CourseLineParser.INVALID_COURSE,
+				parser.parse("CSC 216,Software Development Fundamentals,001,3,,MW,1330,1445"));
+		assertEquals(CourseLineParser.EXTRA_TOKEN,
+				parser.parse("CSC 230,C and Software Tools,001,3,dbsturgi,MW,1145,1300,,"));
+	}
+}
@@ -13,6 +13,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
@@ -108,6 +109,170 @@ public class CourseRecordIOTest {
 		}
 	}
 	
+	/**
+	 * Tests readCourseRecordsMapped() with valid and invalid records.
+	 */
+	@Test
+	public void testReadCourseRecordsMapped() {
+		try {
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecordsMapped(validTestFile);
+			assertEquals(13, courses.size());
+			
+			for (int i = 0; i < validCourses.length; i++) {
+				assertEquals(validCourses[i], courses.get(i).toString());
+			}
+			
+			assertEquals(0, CourseRecordIO.readCourseRecordsMapped(invalidTestFile).size());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading test files");
+		}
+		
+		assertThrows(FileNotFoundException.class, () -> CourseRecordIO.readCourseRecordsMapped("test-files/no_such_file.txt"));
+	}
+	
+	/**
+	 * Tests reading a mapped file in pieces far smaller than its lines, so lines
+	 * cross the ends of pieces and some pieces hold no line break at all. Every
+	 * piece size has to read the same courses as readCourseRecords().
+	 */
+	@Test
+	public void testReadMappedPieces() {
+		try {
+			File file = writeMixedLines();
+			ArrayList<Course> expected = CourseRecordIO.readCourseRecords(file.getPath());
+			assertEquals(19, expected.size());
+			for (long piece = 1; piece <= 100; piece++) {
+				ArrayList<Course> courses = CourseRecordIO.readMapped(file.getPath(), null, piece,
+						CourseRecordIO.MAX_MAPPED_BYTES, CourseChunkTask.CHUNK_BYTES);
+				assertCourses(expected, courses, "piece " + piece);
+			}
+		} catch (IOException e) {
+			fail("Unexpected error writing test file");
+		}
+	}
+	
+	/**
+	 * Tests that a line longer than the largest piece mapped is skipped whole, as
+	 * readCourseRecords() skips it, even when the part past the largest piece
+	 * looks like a course on its own.
+	 */
+	@Test
+	public void testReadMappedLongLines() {
+		try {
+			File file = File.createTempFile("mapped-long-lines-", ".txt");
+			file.deleteOnExit();
+			StringBuilder sb = new StringBuilder();
+			sb.append("x".repeat(64)).append("CSC 402,Phantom,001,3,id,MW,900,950\n");
+			sb.append(validCourses[0]).append("\n");
+			sb.append("y".repeat(200)).append("CSC 403,Phantom,001,3,id,MW,900,950\r\n");
+			sb.append(validCourses[1]).append("\r\n");
+			sb.append("z".repeat(128)).append("\n");
+			sb.append(validCourses[2]).append("\n");
+			sb.append("w".repeat(100));
+			Files.writeString(file.toPath(), sb.toString());
+			ArrayList<Course> expected = CourseRecordIO.readCourseRecords(file.getPath());
+			assertEquals(3, expected.size());
+			ForkJoinPool pool = new ForkJoinPool(2);
+			try {
+				for (long piece = 1; piece <= 64; piece++) {
+					assertCourses(expected, CourseRecordIO.readMapped(file.getPath(), null, piece, 64, 16),
+							"piece " + piece);
+					assertCourses(expected, CourseRecordIO.readMapped(file.getPath(), pool, piece, 64, 16),
+							"parallel piece " + piece);
+				}
+			} finally {
+				pool.shutdown();
+			}
+		} catch (IOException e) {
+			fail("Unexpected error writing test file");
+		}
+	}
+	
+	/**
+	 * Tests parsing a mapped file on a pool in chunks far smaller than its lines,
+	 * so every chunk is split and lines are joined back across the split points.
+	 * Every chunk size has to read the same courses as readCourseRecords().
+	 */
+	@Test
+	public void testReadParallelChunks() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			File file = writeMixedLines();
+			ArrayList<Course> expected = CourseRecordIO.readCourseRecords(file.getPath());
+			assertEquals(19, expected.size());
+			for (int chunk = 1; chunk <= 100; chunk++) {
+				ArrayList<Course> courses = CourseRecordIO.readMapped(file.getPath(), pool,
+						CourseRecordIO.MAX_MAPPED_BYTES, CourseRecordIO.MAX_MAPPED_BYTES, chunk);
+				assertCourses(expected, courses, "chunk " + chunk);
+				courses = CourseRecordIO.readMapped(file.getPath(), pool, 64, CourseRecordIO.MAX_MAPPED_BYTES, chunk);
+				assertCourses(expected, courses, "chunk " + chunk + " in pieces");
+			}
+		} catch (IOException e) {
+			fail("Unexpected error writing test file");
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Writes a temporary catalog mixing valid lines with CRLF and LF endings,
+	 * lines longer than the pieces and chunks tested, a non-ASCII title, a blank
+	 * line, and a last line with no line break.
+	 * 
+	 * @return the file written
+	 * @throws IOException if the file cannot be written
+	 */
+	private File writeMixedLines() throws IOException {
+		File file = File.createTempFile("mapped-pieces-", ".txt");
+		file.deleteOnExit();
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < validCourses.length; i++) {
+			sb.append(validCourses[i]).append(i % 3 == 0 ? "\r\n" : "\n");
+			if (i % 4 == 0) {
+				sb.append("CSC 999,").append("x".repeat(150)).append(",9" + (10 + i) + ",3,id,MW,900,950\n");
+			}
+		}
+		sb.append("CSC 400,Caf\u00e9 Studies,001,3,id,TH,900,950\n\n");
+		sb.append("CSC 401,Last Line,001,3,id,F,900,950");
+		Files.writeString(file.toPath(), sb.toString());
+		return file;
+	}
+	
+	/**
+	 * Checks that courses read match the expected ones in order.
+	 * 
+	 * @param expected courses expected
+	 * @param actual   courses read
+	 * @param message  what was being read
+	 */
+	private static void assertCourses(ArrayList<Course> expected, ArrayList<Course> actual, String message) {
+		assertEquals(expected.size(), actual.size(), message);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).toString(), actual.get(i).toString(), message);
+		}
+	}
+	
+	/**
+	 * Tests readCourseRecordsParallel() with valid and invalid records.
+	 */
+	@Test
+	public void testReadCourseRecordsParallel() {
+		try {
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecordsParallel(validTestFile);
+			assertEquals(13, courses.size());
+			
+			for (int i = 0; i < validCourses.length; i++) {
+				assertEquals(validCourses[i], courses.get(i).toString());
+			}
+			
+			assertEquals(0, CourseRecordIO.readCourseRecordsParallel(invalidTestFile).size());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading test files");
+		}
+		
+		assertThrows(FileNotFoundException.class, () -> CourseRecordIO.readCourseRecordsParallel("test-files/no_such_file.txt"));
+	}
+	
 	/**
 	 * Tests writeCourseRecords()
 	 */
@@ -0,0 +1,111 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests ConflictChecker.
+ * 
+ * @author Kevin John
+ */
+public class ConflictCheckerTest {
+
+	/** Course that meets MW 1:30PM-2:45PM */
+	private final Activity mw = new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW",
+			1330, 1445);
+	/** Course that meets TH 1:30PM-2:45PM */
+	private final Activity th = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH",
+			1330, 1445);
+	/** Arranged course */
+	private final Activity arranged = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter",
+			"A");
+
+	/**
+	 * Tests findConflict() for overlapping, touching, and separate times.
+	 */
+	@Test
+	public void testFindConflict() {
+		ConflictChecker checker = new ConflictChecker();
+		checker.add(mw);
+		checker.add(arranged);
+
+		assertNull(checker.findConflict(th));
+		assertNull(checker.findConflict(arranged));
+		assertSame(mw, checker.findConflict(new Event("Lunch", "W", 1400, 1500, "")));
+		// starting the minute the course ends is a conflict
+		assertSame(mw, checker.findConflict(new Event("Gym", "M", 1445, 1530, "")));
+		assertNull(checker.findConflict(new Event("Gym", "M", 1446, 1530, "")));
+		assertSame(mw, checker.findConflict(new Event("Work", "SUM", 0, 2359, "")));
+		assertNull(checker.findConflict(new Event("Work", "SU", 0, 2359, "")));
+	}
+
+	/**
+	 * Tests that remove() and clear() free the minutes, even when activities
+	 * overlap.
+	 */
+	@Test
+	public void testRemoveAndClear() {
+		ConflictChecker checker = new ConflictChecker();
+		Activity lunch = new Event("Lunch", "MTWHF", 1200, 1400, "");
+		Activity probe = new Event("Probe", "M", 1330, 1330, "");
+		checker.add(mw);
+		checker.add(lunch);
+
+		checker.remove(lunch);
+		assertSame(mw, checker.findConflict(probe));
+		checker.remove(mw);
+		assertNull(checker.findConflict(probe));
+
+		checker.add(mw);
+		checker.add(th);
+		checker.clear();
+		assertNull(checker.findConflict(probe));
+		assertNull(checker.findConflict(th));
+	}
+
+	/**
+	 * Tests random adds and removes of overlapping events against checking every
+	 * event still added.
+	 */
+	@Test
+	public void testAddRemoveRandom() {
+		Random random = new Random(216);
+		String[] days = { "M", "T", "MW", "TH", "MTWHF", "SU" };
+		ConflictChecker checker = new ConflictChecker();
+		ArrayList<Activity> added = new ArrayList<Activity>();
+		for (int step = 0; step < 2000; step++) {
+			if (added.isEmpty() || random.nextInt(3) > 0) {
+				int start = random.nextInt(23) * 100 + random.nextInt(60);
+				int end = Math.min(2359, start + random.nextInt(4) * 100 + random.nextInt(60));
+				if (end % 100 > 59) {
+					end = end - end % 100 + 59;
+				}
+				Activity a = new Event("E" + step, days[random.nextInt(days.length)], start, end, "");
+				checker.add(a);
+				added.add(a);
+			} else {
+				checker.remove(added.remove(random.nextInt(added.size())));
+			}
+			int start = random.nextInt(24) * 100 + random.nextInt(60);
+			Activity probe = new Event("Probe", days[random.nextInt(days.length)], start, start, "");
+			Activity conflict = checker.findConflict(probe);
+			boolean expected = false;
+			for (Activity a : added) {
+				expected |= (a.getMeetingDayMask() & probe.getMeetingDayMask()) != 0 && a.getStartTime() <= start
+						&& start <= a.getEndTime();
+			}
+			assertEquals(expected, conflict != null, "step " + step);
+			if (conflict != null) {
+				assertTrue(added.contains(conflict));
+			}
+		}
+	}
+}
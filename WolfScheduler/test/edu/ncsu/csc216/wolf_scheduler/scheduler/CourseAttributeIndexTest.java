@@ -0,0 +1,147 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseAttributeIndex class.
+ * 
+ * @author Kevin John
+ */
+public class CourseAttributeIndexTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests filtering the test catalog.
+	 */
+	@Test
+	public void testFind() {
+		CourseAttributeIndex index = new CourseCatalog(validTestFile).getAttributeIndex();
+		assertEquals(13, index.size());
+		
+		//Nothing set finds every course
+		CourseFilter filter = new CourseFilter();
+		assertEquals(13, index.find(filter).length);
+		
+		//3-credit sections on TH starting after 1:00PM
+		filter.setCredits(3);
+		filter.setMeetingDays("TH");
+		filter.setStartTimeRange(1300, 2359);
+		assertArrayEquals(new int[] {3}, index.find(filter));
+		
+		//Every section an instructor teaches, then only the 1-credit ones
+		filter = new CourseFilter();
+		filter.setInstructorId("sesmith5");
+		assertArrayEquals(new int[] {3, 6, 7, 8, 9}, index.find(filter));
+		filter.setCredits(1);
+		assertArrayEquals(new int[] {6, 7, 8, 9}, index.find(filter));
+		
+		//Arranged courses have no start time
+		filter.setStartTimeRange(800, 1200);
+		assertArrayEquals(new int[] {6, 7}, index.find(filter));
+		filter = new CourseFilter();
+		filter.setMeetingDays("A");
+		assertArrayEquals(new int[] {5, 9}, index.find(filter));
+		
+		//A course can meet on more days than the filter asks for
+		filter.setMeetingDays("M");
+		assertArrayEquals(new int[] {0, 1, 4, 6, 10, 11, 12}, index.find(filter));
+		filter.setMeetingDays("MWF");
+		assertArrayEquals(new int[] {10}, index.find(filter));
+		
+		//A time range on its own uses the hour lists
+		filter = new CourseFilter();
+		filter.setStartTimeRange(900, 959);
+		assertArrayEquals(new int[] {0, 10}, index.find(filter));
+		
+		//Departments, and days to leave out
+		filter = new CourseFilter();
+		filter.setDepartment("CSC");
+		assertEquals(13, index.find(filter).length);
+		filter.setExcludedDays("MA");
+		assertArrayEquals(new int[] {2, 3, 7, 8}, index.find(filter));
+		filter.setExcludedDays("TH");
+		filter.setCredits(1);
+		assertArrayEquals(new int[] {6, 8, 9}, index.find(filter));
+		assertEquals(3, index.select(filter).size());
+		filter.setDepartment("MA");
+		assertTrue(index.select(filter).isEmpty());
+		
+		//Values no course has
+		filter = new CourseFilter();
+		filter.setCredits(4);
+		assertEquals(0, index.find(filter).length);
+		filter = new CourseFilter();
+		filter.setInstructorId("nobody");
+		assertEquals(0, index.find(filter).length);
+		
+		assertThrows(IllegalArgumentException.class, () -> index.find(null));
+	}
+
+	/**
+	 * Tests random filters on a random catalog against checking every course.
+	 */
+	@Test
+	public void testFindRandom() {
+		Random random = new Random(316);
+		String[] instructors = { "jtking", "sesmith5", "jdyoung2", "tmbarnes", "dbsturgi" };
+		String[] departments = { "CSC", "MA", "E", "ENG" };
+		String[] days = { "M", "T", "W", "H", "F", "MW", "TH", "MWF", "MTWHF", "A" };
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int i = 0; i < 150000; i++) {
+			String meeting = days[random.nextInt(days.length)];
+			int start = "A".equals(meeting) ? 0 : (7 + random.nextInt(13)) * 100 + random.nextInt(12) * 5;
+			int end = "A".equals(meeting) ? 0 : start + 100;
+			courses.add(new Course(departments[random.nextInt(departments.length)] + " " + (100 + i % 400), "Title", "001", 1 + random.nextInt(4),
+					instructors[random.nextInt(instructors.length)], meeting, start, end));
+		}
+		CourseAttributeIndex index = new CourseAttributeIndex(courses);
+		for (int q = 0; q < 100; q++) {
+			CourseFilter filter = new CourseFilter();
+			if (random.nextInt(3) == 0) {
+				filter.setDepartment(departments[random.nextInt(departments.length)]);
+			}
+			if (random.nextInt(3) == 0) {
+				filter.setExcludedDays(days[random.nextInt(days.length)]);
+			}
+			if (random.nextInt(3) == 0) {
+				filter.setInstructorId(instructors[random.nextInt(instructors.length)]);
+			}
+			if (random.nextInt(3) == 0) {
+				filter.setCredits(1 + random.nextInt(5));
+			}
+			if (random.nextInt(2) == 0) {
+				filter.setMeetingDays(days[random.nextInt(days.length)]);
+			}
+			if (random.nextInt(2) == 0) {
+				int earliest = random.nextInt(24) * 100 + random.nextInt(60);
+				int latest = Math.min(2359, earliest + random.nextInt(600));
+				filter.setStartTimeRange(earliest, latest % 100 > 59 ? latest / 100 * 100 + 59 : latest);
+			}
+			ArrayList<Integer> expected = new ArrayList<Integer>();
+			for (int i = 0; i < courses.size(); i++) {
+				if (filter.matches(courses.get(i))) {
+					expected.add(i);
+				}
+			}
+			int[] found = index.find(filter);
+			assertEquals(expected.size(), found.length);
+			for (int i = 0; i < found.length; i++) {
+				assertEquals(expected.get(i), found[i]);
+			}
+		}
+		
+		ArrayList<Course> invalid = new ArrayList<Course>();
+		invalid.add(null);
+		assertThrows(IllegalArgumentException.class, () -> new CourseAttributeIndex(invalid));
+		assertThrows(IllegalArgumentException.class, () -> new CourseAttributeIndex(null));
+	}
+}
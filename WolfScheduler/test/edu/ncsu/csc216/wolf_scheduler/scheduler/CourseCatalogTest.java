@@ -0,0 +1,115 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseCatalog class.
+ * 
+ * @author Kevin John
+ */
+public class CourseCatalogTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests loading a catalog from a file.
+	 */
+	@Test
+	public void testCourseCatalogFile() {
+		CourseCatalog catalog = new CourseCatalog(validTestFile);
+		assertEquals(13, catalog.size());
+		assertEquals(13, catalog.getCourseCatalog().length);
+		assertEquals("CSC 116", catalog.getCourseCatalog()[0][0]);
+		
+		Course c = catalog.getCourse("CSC 216", "001");
+		assertEquals("Software Development Fundamentals", c.getTitle());
+		assertNull(catalog.getCourse("CSC 216", "004"));
+		assertNull(catalog.getCourse("CSC 999", "001"));
+		
+		//sections come back in catalog order, with a repeated section only once
+		List<Course> sections = catalog.getSections("CSC 116");
+		assertEquals(3, sections.size());
+		assertEquals("001", sections.get(0).getSection());
+		assertEquals("jdyoung2", sections.get(0).getInstructorId());
+		assertEquals("spbalik", sections.get(1).getInstructorId());
+		assertEquals("003", sections.get(2).getSection());
+		assertTrue(catalog.getSections("CSC 999").isEmpty());
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new CourseCatalog("test-files/none.txt"));
+		assertEquals("Cannot find file.", e.getMessage());
+	}
+
+	/**
+	 * Tests that a catalog can't be changed through its list, the list it was
+	 * built from, or the rows it returns.
+	 */
+	@Test
+	public void testCourseCatalogUnchangeable() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		Course c1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+		Course c2 = new Course("CSC 216", "Repeated Section", "001", 3, "jdyoung2", "TH", 1330, 1445);
+		courses.add(c1);
+		courses.add(c2);
+		CourseCatalog catalog = new CourseCatalog(courses);
+		courses.clear();
+		
+		assertEquals(2, catalog.size());
+		//the first of a repeated name and section is found
+		assertSame(c1, catalog.getCourse("CSC 216", "001"));
+		
+		List<Course> list = catalog.getCourses();
+		assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+		assertThrows(UnsupportedOperationException.class, () -> list.add(c1));
+		
+		catalog.getCourseCatalog()[0][2] = "Changed";
+		assertEquals("Software Development Fundamentals", catalog.getCourseCatalog()[0][2]);
+		
+		//the courses are frozen, including the ones in the list it was built from
+		assertTrue(c1.isFrozen());
+		assertTrue(c2.isFrozen());
+		assertThrows(UnsupportedOperationException.class, () -> c1.setTitle("Changed"));
+		assertThrows(UnsupportedOperationException.class, () -> list.get(1).setMeetingDaysAndTime("F", 800, 850));
+		assertEquals("Software Development Fundamentals", catalog.getCourseCatalog()[0][2]);
+		
+		assertThrows(IllegalArgumentException.class, () -> new CourseCatalog((List<Course>) null));
+		assertThrows(IllegalArgumentException.class, () -> new CourseCatalog(Arrays.asList(c1, null)));
+	}
+
+	/**
+	 * Tests that many WolfSchedulers share one catalog and keep their own
+	 * schedules.
+	 */
+	@Test
+	public void testSharedCatalog() {
+		CourseCatalog catalog = new CourseCatalog(validTestFile);
+		WolfScheduler ws1 = new WolfScheduler(catalog);
+		WolfScheduler ws2 = new WolfScheduler(catalog);
+		assertSame(catalog, ws1.getCatalog());
+		assertSame(catalog, ws2.getCatalog());
+		assertSame(ws1.getCourseFromCatalog("CSC 216", "001"), ws2.getCourseFromCatalog("CSC 216", "001"));
+		
+		//no session can change a course the others share, so the indexes stay right
+		Course shared = ws1.getCourseFromCatalog("CSC 216", "001");
+		assertThrows(UnsupportedOperationException.class, () -> shared.setTitle("Changed"));
+		assertThrows(UnsupportedOperationException.class, () -> shared.setInstructorId("nobody"));
+		assertEquals("Software Development Fundamentals", ws2.getCourseFromCatalog("CSC 216", "001").getTitle());
+		assertTrue(catalog.getSearchIndex().search("software development fundamentals", 0, 100).getCourses()
+				.contains(shared));
+		
+		assertTrue(ws1.addCourseToSchedule("CSC 216", "001"));
+		assertEquals(1, ws1.getScheduledActivities().length);
+		assertEquals(0, ws2.getScheduledActivities().length);
+		assertEquals(13, ws2.getCourseCatalog().length);
+		
+		assertThrows(IllegalArgumentException.class, () -> new WolfScheduler((CourseCatalog) null));
+	}
+}
@@ -0,0 +1,95 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseFilter class.
+ * 
+ * @author Kevin John
+ */
+public class CourseFilterTest {
+
+	/** 3-credit TH course starting at 1:30PM */
+	private final Course course = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5",
+			"TH", 1330, 1445);
+	/** arranged course */
+	private final Course arranged = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter",
+			"A");
+
+	/**
+	 * Tests matching courses against each part of a filter.
+	 */
+	@Test
+	public void testMatches() {
+		CourseFilter filter = new CourseFilter();
+		assertTrue(filter.matches(course));
+		assertTrue(filter.matches(arranged));
+		
+		filter.setDepartment("CSC");
+		assertTrue(filter.matches(course));
+		filter.setDepartment("CS");
+		assertFalse(filter.matches(course));
+		filter.setDepartment(null);
+		
+		filter.setInstructorId("sesmith5");
+		assertTrue(filter.matches(course));
+		assertFalse(filter.matches(arranged));
+		filter.setInstructorId(null);
+		
+		filter.setCredits(3);
+		assertTrue(filter.matches(course));
+		filter.setCredits(4);
+		assertFalse(filter.matches(course));
+		filter.setCredits(0);
+		
+		filter.setMeetingDays("T");
+		assertTrue(filter.matches(course));
+		filter.setMeetingDays("TH");
+		assertTrue(filter.matches(course));
+		filter.setMeetingDays("MTH");
+		assertFalse(filter.matches(course));
+		filter.setMeetingDays("A");
+		assertFalse(filter.matches(course));
+		assertTrue(filter.matches(arranged));
+		filter.setMeetingDays("");
+		
+		filter.setExcludedDays("MWF");
+		assertTrue(filter.matches(course));
+		assertTrue(filter.matches(arranged));
+		filter.setExcludedDays("FH");
+		assertFalse(filter.matches(course));
+		filter.setExcludedDays("A");
+		assertTrue(filter.matches(course));
+		assertFalse(filter.matches(arranged));
+		filter.setExcludedDays(null);
+		
+		filter.setStartTimeRange(1300, 1330);
+		assertTrue(filter.matches(course));
+		assertFalse(filter.matches(arranged));
+		filter.setStartTimeRange(0, 1329);
+		assertFalse(filter.matches(course));
+		assertFalse(filter.matches(arranged));
+	}
+
+	/**
+	 * Tests that invalid parts are rejected.
+	 */
+	@Test
+	public void testInvalid() {
+		CourseFilter filter = new CourseFilter();
+		Exception e = assertThrows(IllegalArgumentException.class, () -> filter.setCredits(-1));
+		assertEquals("Invalid credits.", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> filter.setMeetingDays("MX"));
+		assertEquals("Invalid meeting days.", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> filter.setExcludedDays("x"));
+		e = assertThrows(IllegalArgumentException.class, () -> filter.setStartTimeRange(1400, 1300));
+		assertEquals("Invalid time.", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> filter.setStartTimeRange(960, 1300));
+		assertThrows(IllegalArgumentException.class, () -> filter.setStartTimeRange(1300, 2400));
+		assertTrue(filter.matches(course));
+	}
+}
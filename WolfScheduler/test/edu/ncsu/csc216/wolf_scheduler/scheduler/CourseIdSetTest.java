@@ -0,0 +1,120 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Tests the CourseIdSet class.
+ * 
+ * @author Kevin John
+ */
+public class CourseIdSetTest {
+
+	/**
+	 * Tests building sets and reading them back.
+	 */
+	@Test
+	public void testOf() {
+		CourseIdSet set = CourseIdSet.of(new int[] {1, 3, 5, 70000, 200000});
+		assertEquals(5, set.size());
+		assertFalse(set.isEmpty());
+		assertTrue(set.contains(3));
+		assertTrue(set.contains(70000));
+		assertFalse(set.contains(4));
+		assertFalse(set.contains(70001));
+		assertFalse(set.contains(-1));
+		assertArrayEquals(new int[] {1, 3, 5, 70000, 200000}, set.toArray());
+		
+		CourseIdSet range = CourseIdSet.range(100000);
+		assertEquals(100000, range.size());
+		assertTrue(range.contains(99999));
+		assertFalse(range.contains(100000));
+		assertTrue(CourseIdSet.range(0).isEmpty());
+		assertEquals(0, CourseIdSet.EMPTY.toArray().length);
+		
+		assertThrows(IllegalArgumentException.class, () -> CourseIdSet.of(null));
+		assertThrows(IllegalArgumentException.class, () -> CourseIdSet.of(new int[] {-1}));
+		assertThrows(IllegalArgumentException.class, () -> CourseIdSet.of(new int[] {2, 1}));
+		assertThrows(IllegalArgumentException.class, () -> CourseIdSet.of(new int[] {1, 1}));
+		assertThrows(IllegalArgumentException.class, () -> CourseIdSet.of(new int[] {70000, 5}));
+		Exception e = assertThrows(IllegalArgumentException.class, () -> CourseIdSet.range(-1));
+		assertEquals("Invalid ids.", e.getMessage());
+	}
+
+	/**
+	 * Tests AND, OR, and ANDNOT on small examples.
+	 */
+	@Test
+	public void testOperations() {
+		CourseIdSet a = CourseIdSet.of(new int[] {1, 3, 5, 9});
+		CourseIdSet b = CourseIdSet.of(new int[] {0, 2, 3, 4, 6, 7, 8, 9, 10});
+		assertArrayEquals(new int[] {3, 9}, a.and(b).toArray());
+		assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, a.or(b).toArray());
+		assertArrayEquals(new int[] {1, 5}, a.andNot(b).toArray());
+		assertArrayEquals(new int[] {0, 2, 4, 6, 7, 8, 10}, b.andNot(a).toArray());
+		assertTrue(a.and(CourseIdSet.EMPTY).isEmpty());
+		assertArrayEquals(a.toArray(), a.or(CourseIdSet.EMPTY).toArray());
+		assertTrue(a.andNot(a).isEmpty());
+	}
+
+	/**
+	 * Tests AND, OR, and ANDNOT on random sets of many densities, so that chunks
+	 * are kept as arrays and as bitmaps and change between the two, against
+	 * BitSet.
+	 */
+	@Test
+	public void testOperationsRandom() {
+		Random random = new Random(226);
+		int universe = 200000;
+		for (int t = 0; t < 40; t++) {
+			BitSet a = randomBits(random, universe);
+			BitSet b = randomBits(random, universe);
+			CourseIdSet setA = CourseIdSet.of(a.stream().toArray());
+			CourseIdSet setB = CourseIdSet.of(b.stream().toArray());
+			assertArrayEquals(a.stream().toArray(), setA.toArray());
+			
+			BitSet and = (BitSet) a.clone();
+			and.and(b);
+			assertArrayEquals(and.stream().toArray(), setA.and(setB).toArray());
+			assertEquals(and.cardinality(), setB.and(setA).size());
+			
+			BitSet or = (BitSet) a.clone();
+			or.or(b);
+			assertArrayEquals(or.stream().toArray(), setA.or(setB).toArray());
+			assertEquals(or.cardinality(), setB.or(setA).size());
+			
+			BitSet andNot = (BitSet) a.clone();
+			andNot.andNot(b);
+			assertArrayEquals(andNot.stream().toArray(), setA.andNot(setB).toArray());
+			
+			for (int i = 0; i < 100; i++) {
+				int id = random.nextInt(universe);
+				assertEquals(a.get(id), setA.contains(id));
+			}
+		}
+	}
+
+	/**
+	 * Makes a random set whose density differs between ranges of positions.
+	 * 
+	 * @param random random numbers
+	 * @param universe number of positions
+	 * @return the set
+	 */
+	private BitSet randomBits(Random random, int universe) {
+		BitSet bits = new BitSet(universe);
+		for (int start = 0; start < universe; start += 1 << 15) {
+			double density = random.nextInt(3) == 0 ? 0 : random.nextDouble() * random.nextDouble();
+			for (int i = start; i < Math.min(universe, start + (1 << 15)); i++) {
+				if (random.nextDouble() < density) {
+					bits.set(i);
+				}
+			}
+		}
+		return bits;
+	}
+}
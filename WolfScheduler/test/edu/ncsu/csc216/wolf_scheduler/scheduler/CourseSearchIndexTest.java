@@ -0,0 +1,193 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseSearchIndex class.
+ * 
+ * @author Kevin John
+ */
+public class CourseSearchIndexTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests searching names and titles, and the order of the results.
+	 */
+	@Test
+	public void testSearch() {
+		CourseSearchIndex index = new CourseCatalog(validTestFile).getSearchIndex();
+		assertEquals(13, index.size());
+		
+		//Names match with or without the space, in any case
+		CourseSearchResults results = index.search("csc216", 0, 20);
+		assertEquals(3, results.getTotal());
+		assertEquals("CSC 216", results.getCourses().get(0).getName());
+		assertEquals(3, index.search("CSC 216", 0, 20).getTotal());
+		
+		//A prefix finds every course starting with it
+		results = index.search("CSC2*", 0, 20);
+		assertEquals(9, results.getTotal());
+		assertEquals("CSC 216", results.getCourses().get(0).getName());
+		assertEquals("CSC 230", results.getCourses().get(8).getName());
+		//Words that follow each other in the name start it too
+		results = index.search("CSC 2*", 0, 20);
+		assertEquals(9, results.getTotal());
+		assertEquals("CSC 216", results.getCourses().get(0).getName());
+		assertEquals("CSC 230", results.getCourses().get(8).getName());
+		assertArrayEquals(index.find("CSC2*"), index.find("csc 2*"));
+		assertArrayEquals(index.find("CSC2*"), index.find("c s c 2*"));
+		assertEquals(0, index.search("SC 2*", 0, 20).getTotal());
+		assertEquals(0, index.search("CSC 16*", 0, 20).getTotal());
+		//Without the star, a word can be anywhere in the name or title
+		assertEquals(3, index.search("csc1", 0, 20).getTotal());
+		assertEquals(11, index.search("csc 1", 0, 20).getTotal());
+		
+		//Every word has to be found
+		results = index.search("data struct", 0, 20);
+		assertEquals(1, results.getTotal());
+		assertEquals("CSC 316", results.getCourses().get(0).getName());
+		assertEquals(0, index.search("data java", 0, 20).getTotal());
+		assertEquals(0, index.search("xyz", 0, 20).getTotal());
+		
+		//Courses where the words start a word come before the rest
+		results = index.search("lab", 0, 20);
+		assertEquals(4, results.getTotal());
+		results = index.search("ware", 0, 20);
+		assertEquals(8, results.getTotal());
+		assertEquals(0, index.search("ware*", 0, 20).getTotal());
+		results = index.search("s", 0, 20);
+		assertEquals(13, results.getTotal());
+		assertEquals("CSC 216", results.getCourses().get(0).getName());
+		assertEquals("CSC 116", results.getCourses().get(12).getName());
+		
+		//No words finds everything in catalog order
+		results = index.search("  ", 0, 20);
+		assertEquals(13, results.getTotal());
+		assertEquals("CSC 116", results.getRows()[0][0]);
+		assertEquals("001", results.getRows()[0][1]);
+	}
+
+	/**
+	 * Tests finding the catalog positions of the matches.
+	 */
+	@Test
+	public void testFind() {
+		CourseCatalog catalog = new CourseCatalog(validTestFile);
+		CourseSearchIndex index = catalog.getSearchIndex();
+		
+		//Positions come back in the same order as search() ranks the courses
+		for (String query : new String[] {"csc216", "CSC2*", "ware", "s", "  ", "xyz"}) {
+			int[] found = index.find(query);
+			List<Course> courses = index.search(query, 0, 100).getCourses();
+			assertEquals(courses.size(), found.length);
+			for (int i = 0; i < found.length; i++) {
+				assertSame(courses.get(i), catalog.getCourses().get(found[i]));
+			}
+		}
+		
+		//The positions are rows of the catalog table
+		int[] found = index.find("data struct");
+		assertEquals(1, found.length);
+		assertEquals("CSC 316", catalog.getCourseCatalog()[found[0]][0]);
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> index.find(null));
+		assertEquals("Invalid query.", e.getMessage());
+	}
+
+	/**
+	 * Tests that a search stops when its thread is interrupted.
+	 */
+	@Test
+	public void testFindInterrupted() {
+		CourseSearchIndex index = new CourseCatalog(validTestFile).getSearchIndex();
+		Thread.currentThread().interrupt();
+		try {
+			assertThrows(CancellationException.class, () -> index.find("s"));
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+		assertTrue(index.find("s").length > 0);
+	}
+
+	/**
+	 * Tests paging through results.
+	 */
+	@Test
+	public void testSearchPages() {
+		CourseSearchIndex index = new CourseCatalog(validTestFile).getSearchIndex();
+		List<Course> all = index.search("csc", 0, 100).getCourses();
+		assertEquals(13, all.size());
+		ArrayList<Course> paged = new ArrayList<Course>();
+		for (int offset = 0; offset < 13; offset += 5) {
+			CourseSearchResults page = index.search("csc", offset, 5);
+			assertEquals(13, page.getTotal());
+			paged.addAll(page.getCourses());
+		}
+		assertEquals(all, paged);
+		assertTrue(index.search("csc", 13, 5).getCourses().isEmpty());
+		
+		assertThrows(IllegalArgumentException.class, () -> index.search(null, 0, 5));
+		assertThrows(IllegalArgumentException.class, () -> index.search("csc", -1, 5));
+		assertThrows(IllegalArgumentException.class, () -> index.search("csc", 0, 0));
+		assertThrows(UnsupportedOperationException.class, () -> index.search("csc", 0, 5).getCourses().clear());
+	}
+
+	/**
+	 * Tests that the index finds the same courses as checking every course, for a
+	 * catalog of random titles and random queries.
+	 */
+	@Test
+	public void testSearchRandom() {
+		Random random = new Random(116);
+		String[] words = { "Data", "Structures", "Software", "Systems", "Intro", "Java", "Theory", "Lab",
+				"Algorithms", "Networks" };
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int i = 0; i < 500; i++) {
+			String name = (random.nextBoolean() ? "CSC " : "MA ") + (100 + random.nextInt(400));
+			String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+			courses.add(new Course(name, title, "00" + random.nextInt(10), 3, "id", "MW", 900, 950));
+		}
+		CourseSearchIndex index = new CourseSearchIndex(courses);
+		for (int q = 0; q < 200; q++) {
+			String word = words[random.nextInt(words.length)].toLowerCase(Locale.ROOT);
+			int start = random.nextInt(word.length());
+			String query = word.substring(start, start + 1 + random.nextInt(word.length() - start));
+			if (random.nextBoolean()) {
+				query = "csc " + random.nextInt(5) + " " + query;
+			}
+			int expected = 0;
+			for (Course c : courses) {
+				String text = c.getName().replace(" ", "").toLowerCase(Locale.ROOT) + " "
+						+ c.getTitle().toLowerCase(Locale.ROOT);
+				boolean all = true;
+				for (String w : query.split(" ")) {
+					all &= text.contains(w);
+				}
+				if (all) {
+					expected++;
+				}
+			}
+			CourseSearchResults results = index.search(query, 0, 1000);
+			assertEquals(expected, results.getTotal(), query);
+			assertEquals(expected, results.getCourses().size(), query);
+		}
+		
+		ArrayList<Course> invalid = new ArrayList<Course>();
+		invalid.add(null);
+		assertThrows(IllegalArgumentException.class, () -> new CourseSearchIndex(invalid));
+		assertThrows(IllegalArgumentException.class, () -> new CourseSearchIndex(null));
+	}
+}
@@ -0,0 +1,123 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseTimeIndex class.
+ * 
+ * @author Kevin John
+ */
+public class CourseTimeIndexTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests finding courses in windows of the test catalog.
+	 */
+	@Test
+	public void testFind() {
+		CourseTimeIndex index = new CourseCatalog(validTestFile).getTimeIndex();
+		assertEquals(13, index.size());
+		
+		//Courses meeting at some point during W 1000-1400, and the ones inside it
+		assertArrayEquals(new int[] {0, 1, 4, 10, 11}, index.findOverlapping("W", 1000, 1400).toArray());
+		assertArrayEquals(new int[] {1, 11}, index.findWithin("W", 1000, 1400).toArray());
+		
+		//A course ending the minute the window starts overlaps it
+		assertArrayEquals(new int[] {0, 10, 12}, index.findOverlapping("W", 945, 945).toArray());
+		//A course filling the window exactly is inside it
+		assertArrayEquals(new int[] {6}, index.findWithin("M", 1040, 1230).toArray());
+		
+		//Any of several days, and never arranged courses
+		assertArrayEquals(new int[] {2, 3, 7}, index.findWithin("TH", 0, 2359).toArray());
+		assertEquals(11, index.findOverlapping("MTWHFSU", 0, 2359).size());
+		assertTrue(index.findOverlapping("SU", 0, 2359).isEmpty());
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> index.findOverlapping("A", 0, 0));
+		assertEquals("Invalid meeting days.", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> index.findWithin("", 900, 1000));
+		assertThrows(IllegalArgumentException.class, () -> index.findWithin(null, 900, 1000));
+		e = assertThrows(IllegalArgumentException.class, () -> index.findWithin("M", 1400, 1000));
+		assertEquals("Invalid time.", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> index.findOverlapping("M", 960, 1000));
+	}
+
+	/**
+	 * Tests random windows on a random catalog against checking every course.
+	 */
+	@Test
+	public void testFindRandom() {
+		Random random = new Random(230);
+		String[] days = { "M", "T", "W", "H", "F", "MW", "TH", "MWF", "MTWHF", "A" };
+		String[] windows = { "M", "T", "W", "H", "F", "U", "MW", "TH", "MWF", "MTWHF", "HFSU" };
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int i = 0; i < 5000; i++) {
+			String meeting = days[random.nextInt(days.length)];
+			int start = "A".equals(meeting) ? 0 : (6 + random.nextInt(14)) * 100 + random.nextInt(60);
+			int end = "A".equals(meeting) ? 0 : Math.min(2359, start + random.nextInt(4) * 100 + random.nextInt(2) * 15);
+			if (end % 100 > 59) {
+				end = end / 100 * 100 + 59;
+			}
+			courses.add(new Course("CSC " + (100 + i % 400), "Title", "001", 3, "id", meeting, start, end));
+		}
+		CourseTimeIndex index = new CourseTimeIndex(courses);
+		for (int q = 0; q < 300; q++) {
+			String window = windows[random.nextInt(windows.length)];
+			int start = random.nextInt(24) * 100 + random.nextInt(60);
+			int end = start + random.nextInt(500);
+			if (end > 2359) {
+				end = 2359;
+			} else if (end % 100 > 59) {
+				end = end / 100 * 100 + 59;
+			}
+			int mask = 0;
+			for (char c : window.toCharArray()) {
+				mask |= Activity.getDayBit(c);
+			}
+			ArrayList<Integer> overlapping = new ArrayList<Integer>();
+			ArrayList<Integer> within = new ArrayList<Integer>();
+			for (int i = 0; i < courses.size(); i++) {
+				Course c = courses.get(i);
+				if ((c.getMeetingDayMask() & mask) == 0) {
+					continue;
+				}
+				if (c.getStartTime() <= end && c.getEndTime() >= start) {
+					overlapping.add(i);
+				}
+				if (c.getStartTime() >= start && c.getEndTime() <= end) {
+					within.add(i);
+				}
+			}
+			assertEquals(overlapping.toString(), toString(index.findOverlapping(window, start, end).toArray()));
+			assertEquals(within.toString(), toString(index.findWithin(window, start, end).toArray()));
+		}
+		
+		ArrayList<Course> invalid = new ArrayList<Course>();
+		invalid.add(null);
+		assertThrows(IllegalArgumentException.class, () -> new CourseTimeIndex(invalid));
+		assertThrows(IllegalArgumentException.class, () -> new CourseTimeIndex(null));
+	}
+
+	/**
+	 * Formats positions the way ArrayList.toString() does.
+	 * 
+	 * @param ids positions
+	 * @return the positions as a string
+	 */
+	private String toString(int[] ids) {
+		ArrayList<Integer> list = new ArrayList<Integer>();
+		for (int id : ids) {
+			list.add(id);
+		}
+		return list.toString();
+	}
+}
@@ -0,0 +1,479 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ScheduleGenerator class.
+ * 
+ * @author Kevin John
+ */
+public class ScheduleGeneratorTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests generating schedules from the test catalog.
+	 */
+	@Test
+	public void testGenerate() {
+		CourseCatalog catalog = new CourseCatalog(validTestFile);
+		List<String> names = Arrays.asList("CSC 216", "CSC 116", "CSC 217");
+		List<List<Course>> schedules = new ScheduleGenerator(catalog, names)
+				.generate(Long.MAX_VALUE, Long.MAX_VALUE).collect(Collectors.toList());
+		
+		assertEquals(keys(bruteForce(catalog, names, new ArrayList<Activity>())), keys(schedules));
+		//3 * 3 * 4 choices, less the 6 that put CSC 217 202 with CSC 116 001 or 002
+		assertEquals(30, schedules.size());
+		for (List<Course> schedule : schedules) {
+			assertEquals("CSC 216", schedule.get(0).getName());
+			assertEquals("CSC 116", schedule.get(1).getName());
+			assertEquals("CSC 217", schedule.get(2).getName());
+		}
+		assertThrows(UnsupportedOperationException.class, () -> schedules.get(0).set(0, null));
+		
+		//A name given twice is only used once
+		assertEquals(3, new ScheduleGenerator(catalog, Arrays.asList("CSC 216", "CSC 216"))
+				.generate(Long.MAX_VALUE, Long.MAX_VALUE).count());
+		//No courses gives the one empty schedule
+		assertEquals(1, new ScheduleGenerator(catalog, new ArrayList<String>())
+				.generate(Long.MAX_VALUE, Long.MAX_VALUE).count());
+	}
+
+	/**
+	 * Tests that the generator finds the same schedules as trying every
+	 * combination, for catalogs with random meeting times.
+	 */
+	@Test
+	public void testGenerateRandom() {
+		Random random = new Random(216);
+		String[] days = { "M", "MW", "TH", "MWF", "F", "A" };
+		for (int trial = 0; trial < 20; trial++) {
+			ArrayList<Course> courses = new ArrayList<Course>();
+			ArrayList<String> names = new ArrayList<String>();
+			int courseCount = 1 + random.nextInt(5);
+			for (int i = 0; i < courseCount; i++) {
+				String name = "CSC " + (100 + i);
+				names.add(name);
+				int sectionCount = 1 + random.nextInt(6);
+				for (int s = 0; s < sectionCount; s++) {
+					String section = "00" + s;
+					String meeting = days[random.nextInt(days.length)];
+					if ("A".equals(meeting)) {
+						courses.add(new Course(name, "Title", section, 3, "id", meeting));
+					} else {
+						int start = 800 + random.nextInt(8) * 100 + random.nextInt(4) * 15;
+						courses.add(new Course(name, "Title", section, 3, "id", meeting, start, start + 100));
+					}
+				}
+			}
+			CourseCatalog catalog = new CourseCatalog(courses);
+			ArrayList<Activity> fixed = new ArrayList<Activity>();
+			if (random.nextBoolean()) {
+				fixed.add(new Event("Lunch", "MWF", 1200, 1300, ""));
+			}
+			List<List<Course>> schedules = new ScheduleGenerator(catalog, names, fixed)
+					.generate(Long.MAX_VALUE, Long.MAX_VALUE).collect(Collectors.toList());
+			List<List<Course>> expected = bruteForce(catalog, names, fixed);
+			assertEquals(expected.size(), schedules.size());
+			assertEquals(keys(expected), keys(schedules));
+		}
+	}
+
+	/**
+	 * Tests the caps on the number of schedules and the time spent, and that the
+	 * schedules are found lazily.
+	 */
+	@Test
+	public void testGenerateLimits() {
+		//20 courses with 10 arranged sections each have 10^20 schedules
+		ArrayList<Course> courses = new ArrayList<Course>();
+		ArrayList<String> names = new ArrayList<String>();
+		for (int i = 0; i < 20; i++) {
+			String name = "CSC " + (100 + i);
+			names.add(name);
+			for (int s = 0; s < 10; s++) {
+				courses.add(new Course(name, "Title", "00" + s, 3, "id", "A"));
+			}
+		}
+		ScheduleGenerator generator = new ScheduleGenerator(new CourseCatalog(courses), names);
+		
+		assertEquals(7, generator.generate(7, Long.MAX_VALUE).count());
+		assertEquals(20, generator.generate(Long.MAX_VALUE, Long.MAX_VALUE).findFirst().get().size());
+		
+		long start = System.currentTimeMillis();
+		long found = generator.generate(Long.MAX_VALUE, 50).count();
+		assertTrue(found > 0);
+		assertTrue(System.currentTimeMillis() - start < 5000);
+		start = System.currentTimeMillis();
+		assertFalse(generator.generateParallel(Long.MAX_VALUE, 50, false).isEmpty());
+		assertTrue(System.currentTimeMillis() - start < 5000);
+		assertEquals(1000, generator.generateParallel(1000, Long.MAX_VALUE, false).size());
+		
+		assertThrows(IllegalArgumentException.class, () -> generator.generate(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> generator.generate(1, 0));
+	}
+
+	/**
+	 * Tests that a parallel search finds the same schedules as a sequential one,
+	 * in the same order when asked, and keeps to the cap when it isn't.
+	 */
+	@Test
+	public void testGenerateParallel() {
+		//7 courses with 6 sections each, big enough to be split into many tasks
+		Random random = new Random(316);
+		String[] days = { "M", "T", "W", "H", "F", "MW", "TH" };
+		ArrayList<Course> courses = new ArrayList<Course>();
+		ArrayList<String> names = new ArrayList<String>();
+		for (int i = 0; i < 7; i++) {
+			String name = "CSC " + (200 + i);
+			names.add(name);
+			for (int s = 0; s < 6; s++) {
+				int start = 800 + random.nextInt(9) * 100;
+				courses.add(new Course(name, "Title", "00" + s, 3, "id", days[random.nextInt(days.length)], start,
+						start + 50));
+			}
+		}
+		ScheduleGenerator generator = new ScheduleGenerator(new CourseCatalog(courses), names);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			List<List<Course>> sequential = generator.generate(Long.MAX_VALUE, Long.MAX_VALUE)
+					.collect(Collectors.toList());
+			assertTrue(sequential.size() > 1000);
+			assertEquals(sequential, generator.generateParallel(Long.MAX_VALUE, Long.MAX_VALUE, true, pool));
+			assertEquals(sequential.subList(0, 100), generator.generateParallel(100, Long.MAX_VALUE, true, pool));
+			
+			List<List<Course>> unordered = generator.generateParallel(Long.MAX_VALUE, Long.MAX_VALUE, false, pool);
+			assertEquals(keys(sequential), keys(unordered));
+			assertEquals(sequential.size(), unordered.size());
+			List<List<Course>> capped = generator.generateParallel(100, Long.MAX_VALUE, false, pool);
+			assertEquals(100, capped.size());
+			assertTrue(keys(sequential).containsAll(keys(capped)));
+			
+			assertEquals(sequential, generator.generateParallel(Long.MAX_VALUE, Long.MAX_VALUE, true));
+		} finally {
+			pool.shutdown();
+		}
+		assertThrows(IllegalArgumentException.class, () -> generator.generateParallel(0, 1, true));
+		assertThrows(IllegalArgumentException.class, () -> generator.generateParallel(1, 1, true, null));
+	}
+
+	/**
+	 * Tests that an ordered parallel search stops once the tasks earlier in the
+	 * tree hold the cap, rather than every task finding the cap on its own.
+	 */
+	@Test
+	public void testGenerateParallelOrderedCap() {
+		//20 courses with 10 arranged sections each have 10^20 schedules, split into
+		//10^17 tasks with 1000 schedules each
+		ArrayList<Course> courses = new ArrayList<Course>();
+		ArrayList<String> names = new ArrayList<String>();
+		for (int i = 0; i < 20; i++) {
+			String name = "CSC " + (100 + i);
+			names.add(name);
+			for (int s = 0; s < 10; s++) {
+				courses.add(new Course(name, "Title", "00" + s, 3, "id", "A"));
+			}
+		}
+		ScheduleGenerator generator = new ScheduleGenerator(new CourseCatalog(courses), names);
+		List<List<Course>> sequential = generator.generate(20000, Long.MAX_VALUE).collect(Collectors.toList());
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			long start = System.currentTimeMillis();
+			List<List<Course>> parallel = generator.generateParallel(20000, 20000, true, pool);
+			assertTrue(System.currentTimeMillis() - start < 5000);
+			assertEquals(sequential, parallel);
+			assertEquals(sequential.subList(0, 1500), generator.generateParallel(1500, 20000, true, pool));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that the best schedules are the cheapest of all the schedules, for
+	 * catalogs with random meeting times and random preferences.
+	 */
+	@Test
+	public void testBest() {
+		Random random = new Random(226);
+		String[] days = { "M", "MW", "TH", "MWF", "F", "A" };
+		String[] instructors = { "jdyoung2", "sesmith5", "tmbarnes" };
+		for (int trial = 0; trial < 30; trial++) {
+			ArrayList<Course> courses = new ArrayList<Course>();
+			ArrayList<String> names = new ArrayList<String>();
+			int courseCount = 1 + random.nextInt(5);
+			for (int i = 0; i < courseCount; i++) {
+				String name = "CSC " + (100 + i);
+				names.add(name);
+				int sectionCount = 1 + random.nextInt(6);
+				for (int s = 0; s < sectionCount; s++) {
+					String instructor = instructors[random.nextInt(instructors.length)];
+					String meeting = days[random.nextInt(days.length)];
+					if ("A".equals(meeting)) {
+						courses.add(new Course(name, "Title", "00" + s, 3, instructor, meeting));
+					} else {
+						int start = 800 + random.nextInt(8) * 100 + random.nextInt(4) * 15;
+						courses.add(new Course(name, "Title", "00" + s, 3, instructor, meeting, start, start + 100));
+					}
+				}
+			}
+			SchedulePreferences preferences = new SchedulePreferences();
+			preferences.setEarlyClassWeight(1000, random.nextInt(4));
+			preferences.setDayOffWeight("F", random.nextInt(20));
+			preferences.setDaysOnCampusWeight(random.nextInt(3));
+			preferences.setCampusTimeWeight(random.nextInt(3));
+			preferences.setFavoriteInstructor(instructors[random.nextInt(instructors.length)], random.nextInt(10));
+			ScheduleGenerator generator = new ScheduleGenerator(new CourseCatalog(courses), names);
+			
+			ArrayList<Double> costs = new ArrayList<Double>();
+			generator.generate(Long.MAX_VALUE, Long.MAX_VALUE).forEach(schedule -> costs.add(preferences.cost(schedule)));
+			costs.sort(null);
+			int k = 1 + random.nextInt(5);
+			List<RankedSchedule> best = generator.best(k, preferences, Long.MAX_VALUE);
+			assertEquals(Math.min(k, costs.size()), best.size());
+			for (int i = 0; i < best.size(); i++) {
+				assertEquals(costs.get(i), best.get(i).getCost(), 1e-9);
+				assertEquals(preferences.cost(best.get(i).getCourses()), best.get(i).getCost(), 1e-9);
+				assertEquals(names.size(), best.get(i).getCourses().size());
+			}
+		}
+	}
+
+	/**
+	 * Tests that the best schedules are found without trying every schedule, and
+	 * invalid limits.
+	 */
+	@Test
+	public void testBestLargeRequest() {
+		//20 courses with 10 arranged sections each have 10^20 schedules, and only
+		//one with every section taught by a favorite instructor
+		ArrayList<Course> courses = new ArrayList<Course>();
+		ArrayList<String> names = new ArrayList<String>();
+		for (int i = 0; i < 20; i++) {
+			String name = "CSC " + (100 + i);
+			names.add(name);
+			for (int s = 0; s < 10; s++) {
+				courses.add(new Course(name, "Title", "00" + s, 3, s == 7 ? "sesmith5" : "id", "A"));
+			}
+		}
+		ScheduleGenerator generator = new ScheduleGenerator(new CourseCatalog(courses), names);
+		SchedulePreferences preferences = new SchedulePreferences();
+		preferences.setFavoriteInstructor("sesmith5", 1);
+		
+		long start = System.currentTimeMillis();
+		List<RankedSchedule> best = generator.best(3, preferences, Long.MAX_VALUE);
+		assertTrue(System.currentTimeMillis() - start < 5000);
+		assertEquals(3, best.size());
+		assertEquals(-20, best.get(0).getCost(), 1e-9);
+		for (Course c : best.get(0).getCourses()) {
+			assertEquals("007", c.getSection());
+		}
+		assertEquals(-19, best.get(1).getCost(), 1e-9);
+		assertEquals(-19, best.get(2).getCost(), 1e-9);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			assertRanked(best, generator.bestParallel(3, preferences, Long.MAX_VALUE, pool));
+		} finally {
+			pool.shutdown();
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> generator.best(0, preferences, 1));
+		assertThrows(IllegalArgumentException.class, () -> generator.best(1, preferences, 0));
+		assertThrows(IllegalArgumentException.class, () -> generator.best(1, null, 1));
+		assertThrows(IllegalArgumentException.class, () -> generator.bestParallel(0, preferences, 1));
+		assertThrows(IllegalArgumentException.class, () -> generator.bestParallel(1, preferences, 1, null));
+		
+		//Around a schedule, with CSC 216 001 on TH replaced by the MW section
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		ws.addEventToSchedule("Lab", "TH", 800, 1700, "");
+		SchedulePreferences noFriday = new SchedulePreferences();
+		noFriday.setDaysOnCampusWeight(1);
+		List<RankedSchedule> ranked = ws.bestSchedules(Arrays.asList("CSC 216", "CSC 226"), 5, noFriday, 1000);
+		assertEquals(2, ranked.size());
+		assertEquals("002", ranked.get(0).getCourses().get(0).getSection());
+		//MWF for CSC 226 and TH for the lab: the whole week is costed
+		assertEquals(5, ranked.get(0).getCost(), 1e-9);
+		assertEquals("601", ranked.get(1).getCourses().get(0).getSection());
+		assertEquals(5, ranked.get(1).getCost(), 1e-9);
+	}
+
+	/**
+	 * Tests that the best schedules around fixed activities are the cheapest of
+	 * all the schedules counting the fixed activities, and that the parallel
+	 * search finds the same schedules in the same order as the sequential one.
+	 */
+	@Test
+	public void testBestAroundFixed() {
+		Random random = new Random(316);
+		String[] days = { "M", "MW", "TH", "MWF", "F", "A" };
+		String[] eventDays = { "F", "TH", "MW", "S", "MTWHF" };
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int trial = 0; trial < 40; trial++) {
+				ArrayList<Course> courses = new ArrayList<Course>();
+				ArrayList<String> names = new ArrayList<String>();
+				int courseCount = 1 + random.nextInt(6);
+				for (int i = 0; i < courseCount; i++) {
+					String name = "CSC " + (100 + i);
+					names.add(name);
+					int sectionCount = 1 + random.nextInt(6);
+					for (int s = 0; s < sectionCount; s++) {
+						String meeting = days[random.nextInt(days.length)];
+						String instructor = random.nextBoolean() ? "sesmith5" : "id";
+						if ("A".equals(meeting)) {
+							courses.add(new Course(name, "Title", "00" + s, 3, instructor, meeting));
+						} else {
+							int start = 800 + random.nextInt(8) * 100 + random.nextInt(4) * 15;
+							courses.add(new Course(name, "Title", "00" + s, 3, instructor, meeting, start,
+									start + 100));
+						}
+					}
+				}
+				ArrayList<Activity> fixed = new ArrayList<Activity>();
+				for (int e = random.nextInt(3); e > 0; e--) {
+					int start = 700 + random.nextInt(12) * 100;
+					fixed.add(new Event("Event " + e, eventDays[random.nextInt(eventDays.length)], start, start + 30,
+							""));
+				}
+				fixed.add(new Course("MA 141", "Calculus I", "001", 4, "sesmith5", "A"));
+				SchedulePreferences preferences = new SchedulePreferences();
+				preferences.setEarlyClassWeight(1000, random.nextInt(4));
+				preferences.setDayOffWeight("F", random.nextInt(20));
+				preferences.setDaysOnCampusWeight(random.nextInt(3));
+				preferences.setCampusTimeWeight(random.nextInt(3));
+				preferences.setFavoriteInstructor("sesmith5", random.nextInt(3));
+				ScheduleGenerator generator = new ScheduleGenerator(new CourseCatalog(courses), names, fixed);
+
+				ArrayList<Double> costs = new ArrayList<Double>();
+				generator.generate(Long.MAX_VALUE, Long.MAX_VALUE).forEach(schedule -> {
+					ArrayList<Activity> week = new ArrayList<Activity>(fixed);
+					week.addAll(schedule);
+					costs.add(preferences.cost(week));
+				});
+				costs.sort(null);
+				int k = 1 + random.nextInt(6);
+				List<RankedSchedule> best = generator.best(k, preferences, Long.MAX_VALUE);
+				assertEquals(Math.min(k, costs.size()), best.size());
+				for (int i = 0; i < best.size(); i++) {
+					assertEquals(costs.get(i), best.get(i).getCost(), 1e-9);
+				}
+				assertRanked(best, generator.bestParallel(k, preferences, Long.MAX_VALUE, pool));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Checks that two rankings hold the same schedules in the same order.
+	 *
+	 * @param expected ranking expected
+	 * @param actual   ranking found
+	 */
+	private static void assertRanked(List<RankedSchedule> expected, List<RankedSchedule> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getCost(), actual.get(i).getCost(), 1e-9);
+			assertEquals(expected.get(i).getCourses(), actual.get(i).getCourses());
+		}
+	}
+
+	/**
+	 * Tests invalid generators and generating around a schedule.
+	 */
+	@Test
+	public void testGenerateAroundSchedule() {
+		CourseCatalog catalog = new CourseCatalog(validTestFile);
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> new ScheduleGenerator(catalog, Arrays.asList("CSC 216", "CSC 999")));
+		assertEquals("Cannot find course CSC 999.", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleGenerator(null, Arrays.asList("CSC 216")));
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleGenerator(catalog, null));
+		
+		WolfScheduler ws = new WolfScheduler(catalog);
+		ws.addEventToSchedule("Gym", "MW", 1300, 1400, "");
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		//Only CSC 216 601 and 001 fit around the event, and 001 may be replaced
+		List<List<Course>> schedules = ws.generateSchedules(Arrays.asList("CSC 216"), 10, 1000)
+				.collect(Collectors.toList());
+		assertEquals(2, schedules.size());
+		assertEquals("001", schedules.get(0).get(0).getSection());
+		assertEquals("601", schedules.get(1).get(0).getSection());
+		//The event rules out CSC 116 002
+		assertEquals(2, ws.generateSchedules(Arrays.asList("CSC 116"), 10, 1000).count());
+		assertThrows(IllegalArgumentException.class, () -> ws.generateSchedules(null, 10, 1000));
+	}
+
+	/**
+	 * Tries every combination of sections and keeps the ones without a conflict.
+	 * 
+	 * @param catalog catalog of courses
+	 * @param names   courses wanted
+	 * @param fixed   activities each schedule must fit around
+	 * @return the conflict free schedules
+	 */
+	private static List<List<Course>> bruteForce(CourseCatalog catalog, List<String> names, List<Activity> fixed) {
+		List<List<Course>> schedules = new ArrayList<List<Course>>();
+		schedules.add(new ArrayList<Course>());
+		for (String name : names) {
+			List<List<Course>> longer = new ArrayList<List<Course>>();
+			for (List<Course> schedule : schedules) {
+				for (Course c : catalog.getSections(name)) {
+					ArrayList<Course> next = new ArrayList<Course>(schedule);
+					next.add(c);
+					longer.add(next);
+				}
+			}
+			schedules = longer;
+		}
+		List<List<Course>> valid = new ArrayList<List<Course>>();
+		for (List<Course> schedule : schedules) {
+			ConflictChecker checker = new ConflictChecker();
+			boolean conflict = false;
+			for (Activity a : fixed) {
+				checker.add(a);
+			}
+			for (Course c : schedule) {
+				conflict |= checker.findConflict(c) != null;
+				checker.add(c);
+			}
+			if (!conflict) {
+				valid.add(schedule);
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Describes each schedule by its courses and sections.
+	 * 
+	 * @param schedules schedules to describe
+	 * @return the descriptions
+	 */
+	private static HashSet<String> keys(List<List<Course>> schedules) {
+		HashSet<String> keys = new HashSet<String>();
+		for (List<Course> schedule : schedules) {
+			StringBuilder sb = new StringBuilder();
+			for (Course c : schedule) {
+				sb.append(c.getName()).append(' ').append(c.getSection()).append(';');
+			}
+			keys.add(sb.toString());
+		}
+		return keys;
+	}
+}
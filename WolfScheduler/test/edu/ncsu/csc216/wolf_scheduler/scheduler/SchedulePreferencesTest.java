@@ -0,0 +1,92 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the SchedulePreferences class.
+ * 
+ * @author Kevin John
+ */
+public class SchedulePreferencesTest {
+
+	/** Course meeting MW 9:00AM-10:30AM */
+	private final Course early = new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 900,
+			1030);
+	/** Course meeting MWF 1:00PM-1:50PM */
+	private final Course afternoon = new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3,
+			"tmbarnes", "MWF", 1300, 1350);
+	/** Arranged course */
+	private final Course arranged = new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1,
+			"sesmith5", "A");
+
+	/**
+	 * Tests that each preference adds the right cost.
+	 */
+	@Test
+	public void testCost() {
+		SchedulePreferences preferences = new SchedulePreferences();
+		List<Course> schedule = Arrays.asList(early, afternoon, arranged);
+		assertEquals(0, preferences.cost(schedule));
+		
+		//An hour before 10:00AM on two days
+		preferences.setEarlyClassWeight(1000, 3);
+		assertEquals(6, preferences.cost(schedule), 1e-9);
+		
+		//Friday has a class
+		preferences.setDayOffWeight("F", 10);
+		assertEquals(16, preferences.cost(schedule), 1e-9);
+		
+		//Three days on campus
+		preferences.setDaysOnCampusWeight(1);
+		assertEquals(19, preferences.cost(schedule), 1e-9);
+		
+		//9:00AM-1:50PM on M and W, 1:00PM-1:50PM on F
+		preferences.setCampusTimeWeight(6);
+		assertEquals(19 + 6 * (290 + 290 + 50) / 60.0, preferences.cost(schedule), 1e-9);
+		
+		//Two favorite instructors
+		preferences.setFavoriteInstructor("sesmith5", 2);
+		preferences.setFavoriteInstructor("tmbarnes", 5);
+		assertEquals(12 + 6 * (290 + 290 + 50) / 60.0, preferences.cost(schedule), 1e-9);
+		preferences.setFavoriteInstructor("tmbarnes", 0);
+		assertEquals(17 + 6 * (290 + 290 + 50) / 60.0, preferences.cost(schedule), 1e-9);
+		
+		//Events count toward the day costs
+		ArrayList<Activity> withEvent = new ArrayList<Activity>(schedule);
+		withEvent.add(new Event("Gym", "U", 1700, 1800, ""));
+		assertEquals(18 + 6 * (290 + 290 + 50 + 60) / 60.0, preferences.cost(withEvent), 1e-9);
+		
+		assertEquals(0, preferences.cost(new ArrayList<Course>()));
+	}
+
+	/**
+	 * Tests invalid preferences.
+	 */
+	@Test
+	public void testInvalidPreferences() {
+		SchedulePreferences preferences = new SchedulePreferences();
+		assertThrows(IllegalArgumentException.class, () -> preferences.setEarlyClassWeight(1060, 1));
+		assertThrows(IllegalArgumentException.class, () -> preferences.setEarlyClassWeight(2400, 1));
+		assertThrows(IllegalArgumentException.class, () -> preferences.setEarlyClassWeight(1000, -1));
+		assertThrows(IllegalArgumentException.class, () -> preferences.setDayOffWeight("FA", 1));
+		assertThrows(IllegalArgumentException.class, () -> preferences.setDayOffWeight(null, 1));
+		assertThrows(IllegalArgumentException.class, () -> preferences.setDaysOnCampusWeight(Double.NaN));
+		assertThrows(IllegalArgumentException.class,
+				() -> preferences.setCampusTimeWeight(Double.POSITIVE_INFINITY));
+		assertThrows(IllegalArgumentException.class, () -> preferences.setFavoriteInstructor(null, 1));
+		assertThrows(IllegalArgumentException.class, () -> preferences.setFavoriteInstructor("sesmith5", -1));
+		
+		//Nothing was changed
+		assertEquals(0, preferences.cost(Arrays.asList(early, afternoon, arranged)));
+	}
+}
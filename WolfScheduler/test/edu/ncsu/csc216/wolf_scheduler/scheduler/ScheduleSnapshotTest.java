@@ -0,0 +1,110 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ScheduleSnapshot class.
+ * 
+ * @author Kevin John
+ */
+public class ScheduleSnapshotTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Test that each change to a schedule publishes a new snapshot and that older
+	 * snapshots keep the schedule as it was.
+	 */
+	@Test
+	public void testSnapshotVersions() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ScheduleSnapshot empty = ws.getScheduleSnapshot();
+		assertEquals(0, empty.getVersion());
+		assertEquals(0, empty.size());
+		
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		ScheduleSnapshot first = ws.getScheduleSnapshot();
+		assertEquals(1, first.getVersion());
+		
+		//Failed changes don't publish a snapshot
+		assertFalse(ws.addCourseToSchedule("CSC 999", "001"));
+		assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule("CSC 216", "001"));
+		assertFalse(ws.removeActivityFromSchedule(3));
+		ws.setScheduleTitle("Fall");
+		assertSame(first, ws.getScheduleSnapshot());
+		
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+		ScheduleSnapshot second = ws.getScheduleSnapshot();
+		assertEquals(2, second.getVersion());
+		assertEquals(2, second.size());
+		
+		assertTrue(ws.removeActivityFromSchedule(0));
+		assertEquals(3, ws.getScheduleSnapshot().getVersion());
+		ws.resetSchedule();
+		assertEquals(4, ws.getScheduleSnapshot().getVersion());
+		assertEquals(0, ws.getScheduleSnapshot().size());
+		
+		//Old snapshots don't change
+		assertEquals(0, empty.size());
+		assertEquals(1, first.size());
+		assertEquals("CSC 216", first.getScheduledActivities()[0][0]);
+		assertEquals(2, second.size());
+		assertEquals("Lunch", second.getScheduledActivities()[1][2]);
+		assertThrows(UnsupportedOperationException.class, () -> second.getActivities().clear());
+	}
+
+	/**
+	 * Test that a snapshot builds its rows when it is taken and shares them on
+	 * every read, that no reader can change them, and that the rows keep the
+	 * activities as they were.
+	 */
+	@Test
+	public void testSnapshotRows() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+		ScheduleSnapshot snapshot = ws.getScheduleSnapshot();
+		
+		List<List<String>> rows = snapshot.getScheduledRows();
+		assertEquals(2, rows.size());
+		assertEquals(List.of("CSC 216", "001", "Software Development Fundamentals", "TH 1:30PM-2:45PM"),
+				rows.get(0));
+		assertEquals("Lunch", rows.get(1).get(2));
+		assertSame(rows, snapshot.getScheduledRows());
+		assertThrows(UnsupportedOperationException.class, () -> rows.get(0).set(0, "Changed"));
+		assertThrows(UnsupportedOperationException.class, () -> rows.remove(0));
+		
+		List<List<String>> fullRows = snapshot.getFullScheduledRows();
+		assertEquals(7, fullRows.get(0).size());
+		assertEquals("sesmith5", fullRows.get(0).get(4));
+		assertEquals("Food", fullRows.get(1).get(6));
+		assertSame(fullRows, snapshot.getFullScheduledRows());
+		assertThrows(UnsupportedOperationException.class, () -> fullRows.get(1).set(6, "Changed"));
+		
+		//The arrays are copies, so changing them changes nothing else
+		String[][] array = ws.getScheduledActivities();
+		assertNotSame(array, ws.getScheduledActivities());
+		array[0][0] = "Changed";
+		assertEquals("CSC 216", ws.getScheduledActivities()[0][0]);
+		assertEquals("CSC 216", rows.get(0).get(0));
+		assertEquals("CSC 216", snapshot.getActivities().get(0).getShortDisplayArray()[0]);
+		String[][] fullArray = snapshot.getFullScheduledActivities();
+		fullArray[1][6] = "Changed";
+		assertEquals("Food", ws.getFullScheduledActivities()[1][6]);
+		
+		//Rows are built when the snapshot is taken, so a later change to an
+		//activity shows up only in later snapshots
+		((Event) snapshot.getActivities().get(1)).setEventDetails("Gym");
+		assertEquals("Food", snapshot.getFullScheduledActivities()[1][6]);
+		ws.addEventToSchedule("Dinner", "MWF", 1800, 1900, "");
+		assertEquals("Gym", ws.getFullScheduledActivities()[1][6]);
+		assertEquals("Food", fullRows.get(1).get(6));
+	}
+}
@@ -10,7 +10,17 @@ import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.zip.ZipFile;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
@@ -91,6 +101,27 @@ public class WolfSchedulerTest {
 		assertEquals(13, ws2.getCourseCatalog().length);		
 	}
 	
+	/**
+	 * Test WolfScheduler.exportCatalogSnapshot() and loading the snapshot.
+	 */
+	@Test
+	public void testExportCatalogSnapshot() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.exportCatalogSnapshot("test-files/actual_catalog_snapshot.dat");
+		
+		WolfScheduler fromSnapshot = new WolfScheduler("test-files/actual_catalog_snapshot.dat");
+		assertArrayEquals(ws.getCourseCatalog(), fromSnapshot.getCourseCatalog());
+		assertTrue(fromSnapshot.addCourseToSchedule(NAME, SECTION));
+		assertEquals(1, fromSnapshot.getScheduledActivities().length);
+		
+		try {
+			ws.exportCatalogSnapshot("test-files/no_such_dir/snapshot.dat");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("The file cannot be saved.", e.getMessage());
+		}
+	}
+	
 	/**
 	 * Test WolfScheduler.getCourseFromCatalog().
 	 */
@@ -101,6 +132,9 @@ public class WolfSchedulerTest {
 		//Attempt to get a course that doesn't exist
 		assertNull(ws.getCourseFromCatalog("CSC 492", "001"));
 		
+		//Attempt to get a section that doesn't exist for a course that does
+		assertNull(ws.getCourseFromCatalog("CSC 216", "003"));
+		
 		//Attempt to get a course that does exist
 		Activity c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
 		assertEquals(c, ws.getCourseFromCatalog("CSC 216", "001"));
@@ -171,6 +205,230 @@ public class WolfSchedulerTest {
 		}
 	}
 	
+	/**
+	 * Test adding activities with conflict checking on.
+	 */
+	@Test
+	public void testConflictChecking() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.setConflictChecking(true);
+		
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+		
+		//CSC 116 002 meets MW 11:20AM-1:10PM
+		try {
+			ws.addCourseToSchedule("CSC 116", "002");
+			fail();
+		} catch (ConflictException e) {
+			assertEquals("The course cannot be added due to a conflict with Lunch.", e.getMessage());
+			assertEquals("Lunch", e.getConflictingActivity().getTitle());
+		}
+		
+		try {
+			ws.addEventToSchedule("Study", "H", 1400, 1500, "Library");
+			fail();
+		} catch (ConflictException e) {
+			assertEquals("The event cannot be added due to a conflict with CSC 216.", e.getMessage());
+		}
+		assertEquals(3, ws.getScheduledActivities().length);
+		
+		//Removing the event frees its time
+		assertTrue(ws.removeActivityFromSchedule(2));
+		assertTrue(ws.addCourseToSchedule("CSC 116", "002"));
+		
+		//Arranged courses never conflict
+		ws.resetSchedule();
+		assertTrue(ws.addCourseToSchedule("CSC 216", "601"));
+		assertTrue(ws.addCourseToSchedule("CSC 217", "601"));
+		
+		//With checking off, conflicts are only reported
+		ws.setConflictChecking(false);
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+		assertTrue(ws.addCourseToSchedule("CSC 116", "002"));
+		assertNotNull(ws.findConflict(ws.getCourseFromCatalog("CSC 230", "001")));
+	}
+	
+	/**
+	 * Test that schedule listeners are told about each add, remove, and reset.
+	 */
+	@Test
+	public void testScheduleListener() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ArrayList<String> changes = new ArrayList<String>();
+		ScheduleListener listener = new ScheduleListener() {
+			
+			@Override
+			public void activityAdded(int index, Activity activity) {
+				changes.add("add " + index + " " + activity.getTitle());
+			}
+			
+			@Override
+			public void activityRemoved(int index, Activity activity) {
+				changes.add("remove " + index + " " + activity.getTitle());
+			}
+			
+			@Override
+			public void scheduleReset(int removedCount) {
+				changes.add("reset " + removedCount);
+			}
+		};
+		assertThrows(IllegalArgumentException.class, () -> ws.addScheduleListener(null));
+		ws.addScheduleListener(listener);
+		
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		ws.addEventToSchedule(EVENT_TITLE, EVENT_MEETING_DAYS, EVENT_START_TIME, EVENT_END_TIME, EVENT_DETAILS);
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		//Failed changes are not reported
+		assertFalse(ws.addCourseToSchedule("CSC 999", "001"));
+		assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule(NAME, SECTION));
+		assertFalse(ws.removeActivityFromSchedule(5));
+		
+		assertTrue(ws.removeActivityFromSchedule(1));
+		ws.resetSchedule();
+		ws.removeScheduleListener(listener);
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		
+		assertEquals(5, changes.size());
+		assertEquals("add 0 " + TITLE, changes.get(0));
+		assertEquals("add 1 " + EVENT_TITLE, changes.get(1));
+		assertEquals("add 2 Discrete Mathematics for Computer Scientists", changes.get(2));
+		assertEquals("remove 1 " + EVENT_TITLE, changes.get(3));
+		assertEquals("reset 2", changes.get(4));
+	}
+	
+	/**
+	 * Test that many threads changing one schedule at once don't lose changes or
+	 * enroll in a course twice.
+	 */
+	@Test
+	public void testConcurrentChanges() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		String[][] catalog = ws.getCourseCatalog();
+		int threads = 8;
+		//Keep a copy of the schedule from what the listener is told
+		ArrayList<Activity> mirror = new ArrayList<Activity>();
+		ws.addScheduleListener(new ScheduleListener() {
+			
+			@Override
+			public void activityAdded(int index, Activity activity) {
+				mirror.add(index, activity);
+			}
+			
+			@Override
+			public void activityRemoved(int index, Activity activity) {
+				assertSame(activity, mirror.remove(index));
+			}
+			
+			@Override
+			public void scheduleReset(int removedCount) {
+				assertEquals(mirror.size(), removedCount);
+				mirror.clear();
+			}
+		});
+		
+		//Only one section of each course can be in the schedule
+		HashSet<String> names = new HashSet<String>();
+		for (String[] row : catalog) {
+			names.add(row[0]);
+		}
+		
+		//Every thread adds every course, as if each add was clicked many times
+		for (int round = 0; round < 50; round++) {
+			AtomicInteger added = new AtomicInteger();
+			AtomicInteger duplicates = new AtomicInteger();
+			runThreads(threads, t -> {
+				for (String[] row : catalog) {
+					try {
+						if (ws.addCourseToSchedule(row[0], row[1])) {
+							added.incrementAndGet();
+						}
+					} catch (IllegalArgumentException e) {
+						duplicates.incrementAndGet();
+					}
+				}
+			});
+			assertEquals(names.size(), added.get());
+			assertEquals(catalog.length * threads - names.size(), duplicates.get());
+			String[][] schedule = ws.getScheduledActivities();
+			assertEquals(names.size(), schedule.length);
+			HashSet<String> enrolled = new HashSet<String>();
+			for (String[] row : schedule) {
+				assertTrue(enrolled.add(row[0]));
+			}
+			assertEquals(mirror, ws.getScheduleSnapshot().getActivities());
+			ws.resetSchedule();
+		}
+		
+		//Every thread adds its own events while another thread reads the schedule
+		int perThread = 200;
+		AtomicInteger done = new AtomicInteger();
+		runThreads(threads + 1, t -> {
+			if (t == threads) {
+				while (done.get() < threads) {
+					String[][] schedule = ws.getFullScheduledActivities();
+					HashSet<String> titles = new HashSet<String>();
+					for (String[] row : schedule) {
+						assertTrue(titles.add(row[2]));
+					}
+				}
+				return;
+			}
+			for (int i = 0; i < perThread; i++) {
+				ws.addEventToSchedule("Event " + t + "-" + i, "MWF", 800, 900, "");
+			}
+			done.incrementAndGet();
+		});
+		assertEquals(threads * perThread, ws.getScheduledActivities().length);
+		assertEquals(mirror, ws.getScheduleSnapshot().getActivities());
+		
+		//Every thread removes the same number of activities from the front
+		runThreads(threads, t -> {
+			for (int i = 0; i < perThread; i++) {
+				assertTrue(ws.removeActivityFromSchedule(0));
+			}
+		});
+		assertEquals(0, ws.getScheduledActivities().length);
+		assertTrue(mirror.isEmpty());
+	}
+	
+	/**
+	 * Runs the body on the given number of threads, starting them all at once, and
+	 * fails if any of them throws.
+	 * 
+	 * @param threads number of threads
+	 * @param body    code to run, given the thread's number
+	 */
+	private static void runThreads(int threads, IntConsumer body) {
+		CountDownLatch start = new CountDownLatch(1);
+		ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<Throwable>();
+		Thread[] workers = new Thread[threads];
+		for (int i = 0; i < threads; i++) {
+			int t = i;
+			workers[i] = new Thread(() -> {
+				try {
+					start.await();
+					body.accept(t);
+				} catch (Throwable e) {
+					errors.add(e);
+				}
+			});
+			workers[i].start();
+		}
+		start.countDown();
+		for (Thread worker : workers) {
+			try {
+				worker.join();
+			} catch (InterruptedException e) {
+				fail("Interrupted");
+			}
+		}
+		if (!errors.isEmpty()) {
+			fail(errors.peek());
+		}
+	}
+	
 	/**
 	 * Test WolfScheduler.removeCourse().
 	 */
@@ -309,6 +567,47 @@ public class WolfSchedulerTest {
 		assertEquals("Data Structures and Algorithms", catalog[12][2]);
 	}
 	
+	/**
+	 * Test WolfScheduler.filterCatalog().
+	 */
+	@Test
+	public void testFilterCatalog() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		CourseFilter filter = new CourseFilter();
+		filter.setInstructorId("sesmith5");
+		filter.setMeetingDays("T");
+		List<Course> courses = ws.filterCatalog(filter);
+		assertEquals(2, courses.size());
+		assertEquals("CSC 216", courses.get(0).getName());
+		assertEquals("CSC 217", courses.get(1).getName());
+		assertEquals("211", courses.get(1).getSection());
+		
+		assertEquals(13, ws.filterCatalog(new CourseFilter()).size());
+		Exception e = assertThrows(IllegalArgumentException.class, () -> ws.filterCatalog(null));
+		assertEquals("Invalid filter.", e.getMessage());
+	}
+	
+	/**
+	 * Test WolfScheduler.getCoursesOverlapping() and getCoursesWithin().
+	 */
+	@Test
+	public void testGetCoursesDuringWindow() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		List<Course> courses = ws.getCoursesOverlapping("W", 1000, 1400);
+		assertEquals(5, courses.size());
+		assertEquals("CSC 116", courses.get(0).getName());
+		assertEquals("CSC 230", courses.get(4).getName());
+		
+		courses = ws.getCoursesWithin("W", 1000, 1400);
+		assertEquals(2, courses.size());
+		assertEquals("002", courses.get(0).getSection());
+		assertEquals("CSC 230", courses.get(1).getName());
+		
+		assertThrows(IllegalArgumentException.class, () -> ws.getCoursesWithin("A", 0, 0));
+	}
+	
 	/**
 	 * Test WolfScheduler.getScheduledCourses().
 	 */
@@ -434,6 +733,54 @@ public class WolfSchedulerTest {
 		checkFiles("test-files/expected_schedule_export.txt", "test-files/actual_schedule_export.txt");
 	}
 	
+	/**
+	 * Test exporting many schedules that share one catalog.
+	 */
+	@Test
+	public void testExportSchedules() {
+		WolfScheduler catalogSource = new WolfScheduler(validTestFile);
+		WolfScheduler ws1 = new WolfScheduler(catalogSource);
+		WolfScheduler ws2 = new WolfScheduler(catalogSource);
+		assertSame(catalogSource.catalog, ws1.catalog);
+		assertEquals(0, ws1.getScheduledActivities().length);
+		assertEquals(catalogSource.getCourseCatalog().length, ws2.getCourseCatalog().length);
+		assertThrows(IllegalArgumentException.class, () -> new WolfScheduler((WolfScheduler) null));
+		
+		ws1.addCourseToSchedule("CSC 216", "002");
+		ws1.addCourseToSchedule("CSC 226", "001");
+		ws2.addCourseToSchedule("CSC 116", "001");
+		//schedules are separate
+		assertEquals(2, ws1.getScheduledActivities().length);
+		assertEquals(1, ws2.getScheduledActivities().length);
+		assertEquals(0, catalogSource.getScheduledActivities().length);
+		
+		Map<String, WolfScheduler> schedulers = new LinkedHashMap<String, WolfScheduler>();
+		schedulers.put("ws1", ws1);
+		schedulers.put("ws2", ws2);
+		try {
+			Path directory = Files.createTempDirectory("schedules");
+			WolfScheduler.exportScheduleFiles(directory.toString(), schedulers, 2);
+			checkFiles("test-files/expected_schedule_export.txt", directory.resolve("ws1.txt").toString());
+			assertEquals(ws2.getCourseFromCatalog("CSC 116", "001").toString() + System.lineSeparator(),
+					Files.readString(directory.resolve("ws2.txt")));
+			
+			Path archive = directory.resolve("schedules.zip");
+			WolfScheduler.exportSchedules(archive.toString(), schedulers);
+			try (ZipFile zip = new ZipFile(archive.toFile())) {
+				assertEquals(2, zip.size());
+				assertEquals(Files.readString(directory.resolve("ws1.txt")),
+						new String(zip.getInputStream(zip.getEntry("ws1.txt")).readAllBytes()));
+			}
+			Files.delete(archive);
+			Files.delete(directory.resolve("ws1.txt"));
+			Files.delete(directory.resolve("ws2.txt"));
+			Files.delete(directory);
+		} catch (IOException e) {
+			fail("Error writing schedules.");
+		}
+		assertThrows(IllegalArgumentException.class, () -> WolfScheduler.exportScheduleFiles("test-files", schedulers, 0));
+	}
+	
 	/**
 	 * Helper method to compare two files for the same contents
 	 * @param expFile expected output